@@ -0,0 +1,73 @@
+package dev.awn.accountmanagementservice.common.handler;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.accountmanagementservice.common.handler.response.ErrorResponse;
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+
+    private BadRequestException badRequestException;
+    private ResourceNotFoundException resourceNotFoundException;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        badRequestException = new BadRequestException("customerId of - 1000000 already has maximum number of accounts allowed");
+        resourceNotFoundException = new ResourceNotFoundException("no account found of id - 1000000001");
+
+        // An empty account body, every field of it fails validation
+        BindingResult bindingResult = new BeanPropertyBindingResult(new AccountDTO(), "accountDTO");
+        bindingResult.addError(new FieldError("accountDTO", "customerId", "customerId cannot be empty"));
+        bindingResult.addError(new FieldError("accountDTO", "balance", "balance cannot be empty"));
+        bindingResult.addError(new FieldError("accountDTO", "status", "status cannot be empty"));
+        bindingResult.addError(new FieldError("accountDTO", "type", "type cannot be empty"));
+        MethodParameter parameter = new MethodParameter(GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("accountBody", AccountDTO.class), 0);
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleBadRequest() {
+        return exceptionHandler.handle(badRequestException);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleResourceNotFound() {
+        return exceptionHandler.handle(resourceNotFoundException);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleValidationErrors() {
+        return exceptionHandler.handle(validationException);
+    }
+
+    // Includes filling in the stack trace, which a service pays on every rejected request
+    @Benchmark
+    public ResponseEntity<ErrorResponse> throwAndHandleBadRequest() {
+        try {
+            throw new BadRequestException("customerId of - 1000000 already has maximum number of accounts allowed");
+        } catch (BadRequestException e) {
+            return exceptionHandler.handle(e);
+        }
+    }
+
+    private void accountBody(AccountDTO accountDTO) {
+    }
+}
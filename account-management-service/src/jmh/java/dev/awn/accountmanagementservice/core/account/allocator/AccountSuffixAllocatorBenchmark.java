@@ -0,0 +1,82 @@
+package dev.awn.accountmanagementservice.core.account.allocator;
+
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import dev.awn.accountmanagementservice.core.account.repository.AccountSuffixAllocationRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suffix allocation as createAccount runs it, against in-memory repositories so only the allocator itself is
+ * measured. The customer is emptied again once all of its suffixes are taken, so every bitmap fill level is hit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountSuffixAllocatorBenchmark {
+    private final static long CUSTOMER_ID = 1_000_000L;
+
+    private final Map<Long, Integer> allocations = new HashMap<>();
+    private AccountSuffixAllocator suffixAllocator;
+
+    @Setup
+    public void setUp() {
+        suffixAllocator = new AccountSuffixAllocator(allocationRepository(), accountRepository());
+    }
+
+    // Without a bitmap from the account summary, reads the row before the compare-and-set
+    @Benchmark
+    public int allocate() {
+        return reset(suffixAllocator.allocate(CUSTOMER_ID));
+    }
+
+    // The createAccount path, the bitmap comes with the account summary so only the compare-and-set remains
+    @Benchmark
+    public int allocateFromSummary() {
+        Integer knownSuffixes = allocations.get(CUSTOMER_ID);
+        return reset(knownSuffixes == null
+                ? suffixAllocator.allocate(CUSTOMER_ID)
+                : suffixAllocator.allocateFrom(CUSTOMER_ID, knownSuffixes));
+    }
+
+    private int reset(int suffix) {
+        if(suffix == AccountSuffixAllocator.MAXIMUM_SUFFIX) {
+            allocations.remove(CUSTOMER_ID);
+        }
+
+        return suffix;
+    }
+
+    private AccountSuffixAllocationRepository allocationRepository() {
+        return repository(AccountSuffixAllocationRepository.class, (method, args) -> switch(method) {
+            case "findSuffixesByCustomerId" -> Optional.ofNullable(allocations.get((Long) args[0]));
+            case "insert" -> allocations.putIfAbsent((Long) args[0], (Integer) args[1]) == null ? 1 : 0;
+            case "compareAndSet" -> allocations.replace((Long) args[0], (Integer) args[1], (Integer) args[2]) ? 1 : 0;
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    private AccountRepository accountRepository() {
+        return repository(AccountRepository.class, (method, args) -> switch(method) {
+            case "findIdsByCustomerId" -> List.of();
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    private static <T> T repository(Class<T> type, Query query) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> query.run(method.getName(), args)));
+    }
+
+    private interface Query {
+        Object run(String method, Object[] args);
+    }
+}
@@ -0,0 +1,139 @@
+package dev.awn.accountmanagementservice.core.account.cache;
+
+import dev.awn.accountmanagementservice.common.config.cache.AccountCacheProperties;
+import dev.awn.accountmanagementservice.common.config.shard.AccountShardProperties;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import dev.awn.accountmanagementservice.core.account.mapper.AccountMapper;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import dev.awn.accountmanagementservice.core.account.service.impl.AccountServiceImpl;
+import dev.awn.accountmanagementservice.core.account.shard.AccountBalanceShards;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Database load of getAccount with the account cache off ({@code maximumSize} 0) and on, under the traffic the
+ * cache is meant for: nine reads to one modification, nine out of ten requests for a few thousand hot accounts.
+ * <p>
+ * The repository is in memory, {@code databaseReads} counts the findById calls that would have gone to MySQL,
+ * reported next to the operations so the two can be divided.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountCacheBenchmark {
+    private final static long FIRST_CUSTOMER_ID = 1_000_000L;
+    private final static int ACCOUNTS = 100_000;
+    private final static int HOT_ACCOUNTS = 2_000;
+    private final static ThreadLocal<DatabaseLoad> CURRENT_LOAD = new ThreadLocal<>();
+
+    @Param({"0", "10000"})
+    public long maximumSize;
+
+    private final Map<Long, Account> rows = new ConcurrentHashMap<>();
+    private AccountServiceImpl accountService;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class DatabaseLoad {
+        public long databaseReads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            databaseReads = 0;
+            CURRENT_LOAD.set(this);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Requests {
+        private final SplittableRandom random = new SplittableRandom(42);
+
+        long nextId() {
+            int account = random.nextInt(10) < 9 ? random.nextInt(HOT_ACCOUNTS) : random.nextInt(ACCOUNTS);
+            return (FIRST_CUSTOMER_ID + account) * 1000 + 1;
+        }
+
+        boolean isRead() {
+            return random.nextInt(10) < 9;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        for(int i = 0; i < ACCOUNTS; i++) {
+            long customerId = FIRST_CUSTOMER_ID + i;
+            rows.put(customerId * 1000 + 1, Account.builder()
+                                                   .id(customerId * 1000 + 1)
+                                                   .customerId(customerId)
+                                                   .balance(new BigDecimal("1250.75"))
+                                                   .status(AccountStatus.ACTIVE)
+                                                   .type(AccountType.SAVINGS)
+                                                   .creationTime(LocalDateTime.now())
+                                                   .build());
+        }
+
+        AccountCacheProperties properties = new AccountCacheProperties();
+        properties.setMaximumSize(maximumSize);
+
+        accountService = new AccountServiceImpl(accountRepository(),
+                new AccountMapper(),
+                new AccountCache(properties, new SimpleMeterRegistry()),
+                null,
+                null,
+                null,
+                new AccountBalanceShards(null, null, new AccountShardProperties(), null),
+                null,
+                null,
+                null,
+                null);
+    }
+
+    @Benchmark
+    public AccountDTO mixedTraffic(Requests requests, DatabaseLoad load) {
+        long id = requests.nextId();
+        if(requests.isRead()) {
+            return accountService.getAccount(id);
+        }
+
+        Account row = rows.get(id);
+        return accountService.modifyAccount(AccountDTO.builder()
+                                                      .id(id)
+                                                      .customerId(row.getCustomerId())
+                                                      .balance(row.getBalance().add(BigDecimal.ONE))
+                                                      .status(AccountStatus.ACTIVE)
+                                                      .type(AccountType.SAVINGS)
+                                                      .build());
+    }
+
+    private AccountRepository accountRepository() {
+        return (AccountRepository) Proxy.newProxyInstance(AccountRepository.class.getClassLoader(),
+                new Class<?>[]{AccountRepository.class},
+                (proxy, method, args) -> switch(method.getName()) {
+                    case "findById" -> {
+                        CURRENT_LOAD.get().databaseReads++;
+                        yield Optional.ofNullable(rows.get((Long) args[0]));
+                    }
+                    case "save" -> {
+                        Account account = (Account) args[0];
+                        rows.put(account.getId(), account);
+                        yield account;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,81 @@
+package dev.awn.accountmanagementservice.core.account.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.awn.accountmanagementservice.common.handler.response.ErrorResponse;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Request and response bodies as the message converters handle them, with the object mapper configured the way Boot does
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountJsonBenchmark {
+    private final static int BATCH_SIZE = 100;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                                                                        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                                                        .build();
+
+    private AccountDTO accountDTO;
+    private byte[] accountJson;
+    private byte[] batchJson;
+    private ErrorResponse errorResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        accountDTO = account(1_000_000_001L);
+        accountJson = objectMapper.writeValueAsBytes(accountDTO);
+
+        List<AccountDTO> accounts = new ArrayList<>(BATCH_SIZE);
+        for(int i = 0; i < BATCH_SIZE; i++) {
+            accounts.add(account(null));
+        }
+        batchJson = objectMapper.writeValueAsBytes(new AccountBatchRequestDTO(accounts));
+
+        errorResponse = new ErrorResponse(LocalDateTime.now(), 400, "Bad Request",
+                "customerId of - 1000000 already has maximum number of accounts allowed");
+    }
+
+    @Benchmark
+    public byte[] serializeAccount() throws IOException {
+        return objectMapper.writeValueAsBytes(accountDTO);
+    }
+
+    @Benchmark
+    public AccountDTO deserializeAccount() throws IOException {
+        return objectMapper.readValue(accountJson, AccountDTO.class);
+    }
+
+    @Benchmark
+    public AccountBatchRequestDTO deserializeBatch() throws IOException {
+        return objectMapper.readValue(batchJson, AccountBatchRequestDTO.class);
+    }
+
+    @Benchmark
+    public byte[] serializeErrorResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+
+    private static AccountDTO account(Long id) {
+        return AccountDTO.builder()
+                         .id(id)
+                         .customerId(1_000_000L)
+                         .balance(new BigDecimal("1250.75"))
+                         .status(AccountStatus.ACTIVE)
+                         .type(AccountType.SAVINGS)
+                         .build();
+    }
+}
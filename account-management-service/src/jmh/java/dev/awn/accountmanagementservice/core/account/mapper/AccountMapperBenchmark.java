@@ -0,0 +1,46 @@
+package dev.awn.accountmanagementservice.core.account.mapper;
+
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountMapperBenchmark {
+
+    private final AccountMapper accountMapper = new AccountMapper();
+
+    private AccountDTO accountDTO;
+    private Account account;
+
+    @Setup
+    public void setUp() {
+        accountDTO = AccountDTO.builder()
+                               .id(1_000_000_001L)
+                               .customerId(1_000_000L)
+                               .balance(new BigDecimal("1250.75"))
+                               .status(AccountStatus.ACTIVE)
+                               .type(AccountType.SAVINGS)
+                               .build();
+        account = accountMapper.toModel(accountDTO);
+    }
+
+    @Benchmark
+    public Account toModel() {
+        return accountMapper.toModel(accountDTO);
+    }
+
+    @Benchmark
+    public AccountDTO toDto() {
+        return accountMapper.toDto(account);
+    }
+}
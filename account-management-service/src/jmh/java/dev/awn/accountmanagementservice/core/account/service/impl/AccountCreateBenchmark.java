@@ -0,0 +1,199 @@
+package dev.awn.accountmanagementservice.core.account.service.impl;
+
+import dev.awn.accountmanagementservice.core.account.allocator.AccountSuffixAllocator;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.model.CustomerAccountSummary;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import dev.awn.accountmanagementservice.core.account.repository.AccountSuffixAllocationRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The database work of one successful createAccount against an in-memory H2, the account summary path next to the
+ * separate queries it replaced. The customer lookup is left out, both paths make the same one.
+ * <p>
+ * Customers are given one account per round, a SALARY one first and SAVINGS after, so from the second round on
+ * every create finds its suffix allocation seeded. Once every customer holds the maximum both tables are emptied.
+ * <p>
+ * An in-memory H2 answers in microseconds, where MySQL over the network takes a round trip per statement. Every
+ * statement execution and commit is therefore delayed by {@code roundTripMicros}, 0 measures the bare database
+ * work and 500 a database in the same data center.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+// Hibernate and H2 take far longer to reach a steady state than the in-memory benchmarks
+@Warmup(iterations = 20, time = 5)
+@Measurement(iterations = 10, time = 5)
+@Fork(1)
+public class AccountCreateBenchmark {
+    private final static long FIRST_CUSTOMER_ID = 1_000_000L;
+    // Small enough that every iteration runs through many full cycles of rounds, so each one sees the same mix
+    private final static int CUSTOMERS = 100;
+
+    @Param({"0", "500"})
+    public long roundTripMicros;
+
+    private ConfigurableApplicationContext context;
+    private AccountRepository accountRepository;
+    private AccountSuffixAllocationRepository allocationRepository;
+    private AccountSuffixAllocator suffixAllocator;
+
+    private int customer;
+    private int round;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Persistence.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run("--spring.datasource.url=jdbc:h2:mem:accounts;DB_CLOSE_DELAY=-1",
+                     "--spring.datasource.driver-class-name=org.h2.Driver",
+                     "--spring.datasource.username=sa",
+                     "--spring.datasource.password=",
+                     "--spring.jpa.hibernate.ddl-auto=create-drop",
+                     "--benchmark.round-trip-micros=" + roundTripMicros);
+
+        accountRepository = context.getBean(AccountRepository.class);
+        allocationRepository = context.getBean(AccountSuffixAllocationRepository.class);
+        suffixAllocator = context.getBean(AccountSuffixAllocator.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // As createAccount ran before the summary: the SALARY lookup, the allocator's own read and save()'s pre-insert SELECT
+    @Benchmark
+    public Account createWithSeparateQueries() {
+        Account account = nextAccount();
+        long customerId = account.getCustomerId();
+
+        if(account.getType() == AccountType.SALARY
+                && accountRepository.findByCustomerIdAndType(customerId, AccountType.SALARY).isPresent()) {
+            throw new IllegalStateException("customer of customerId " + customerId + " already has a salary account");
+        }
+
+        account.setId(customerId * 1000 + suffixAllocator.allocate(customerId));
+        return accountRepository.save(account);
+    }
+
+    // As createAccount runs now: one summary read, the compare-and-set from its bitmap and a plain insert
+    @Benchmark
+    public Account createFromSummary() {
+        Account account = nextAccount();
+        long customerId = account.getCustomerId();
+
+        CustomerAccountSummary summary = accountRepository.summarizeByCustomerId(customerId, AccountType.SALARY);
+        if(account.getType() == AccountType.SALARY && summary.hasSalaryAccount()
+                || summary.getAccountCount() >= AccountSuffixAllocator.MAXIMUM_SUFFIX) {
+            throw new IllegalStateException("customer of customerId " + customerId + " cannot open another account");
+        }
+
+        int suffix = summary.getSuffixes() == null
+                ? suffixAllocator.allocate(customerId)
+                : suffixAllocator.allocateFrom(customerId, summary.getSuffixes());
+        account.setId(customerId * 1000 + suffix);
+        return accountRepository.insert(account);
+    }
+
+    private Account nextAccount() {
+        if(customer == CUSTOMERS) {
+            customer = 0;
+            round++;
+        }
+        if(round == AccountSuffixAllocator.MAXIMUM_SUFFIX) {
+            accountRepository.deleteAllInBatch();
+            allocationRepository.deleteAllInBatch();
+            round = 0;
+        }
+
+        return Account.builder()
+                      .customerId(FIRST_CUSTOMER_ID + customer++)
+                      .balance(BigDecimal.TEN)
+                      .status(AccountStatus.ACTIVE)
+                      .type(round == 0 ? AccountType.SALARY : AccountType.SAVINGS)
+                      .creationTime(LocalDateTime.now())
+                      .build();
+    }
+
+    // Only the JPA slice the create touches, without the web layer, Kafka or the remote customer client
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Account.class)
+    @EnableJpaRepositories(basePackageClasses = AccountRepository.class)
+    @Import(AccountSuffixAllocator.class)
+    static class Persistence {
+
+        @Bean
+        static BeanPostProcessor roundTripLatency(Environment environment) {
+            long nanos = TimeUnit.MICROSECONDS.toNanos(environment.getRequiredProperty("benchmark.round-trip-micros", Long.class));
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && nanos > 0
+                            ? delayed(DataSource.class, dataSource, nanos)
+                            : bean;
+                }
+            };
+        }
+
+        // Connections and statements handed out are wrapped too, only the calls that reach the server are delayed
+        private static <T> T delayed(Class<T> type, T target, long nanos) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                String name = method.getName();
+                if(name.startsWith("execute") || name.equals("commit") || name.equals("rollback")) {
+                    LockSupport.parkNanos(nanos);
+                }
+
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+
+                if(result instanceof Connection connection) {
+                    return delayed(Connection.class, connection, nanos);
+                } else if(result instanceof CallableStatement statement) {
+                    return delayed(CallableStatement.class, statement, nanos);
+                } else if(result instanceof PreparedStatement statement) {
+                    return delayed(PreparedStatement.class, statement, nanos);
+                } else if(result instanceof Statement statement) {
+                    return delayed(Statement.class, statement, nanos);
+                }
+                return result;
+            }));
+        }
+    }
+}
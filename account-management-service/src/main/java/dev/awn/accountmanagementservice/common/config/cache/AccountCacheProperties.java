@@ -0,0 +1,18 @@
+package dev.awn.accountmanagementservice.common.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "account.cache")
+@Getter
+@Setter
+public class AccountCacheProperties {
+    // Zero turns the cache off, every read goes to the database
+    private long maximumSize = 10_000;
+
+    // Bounds how long a write made through another instance of the service can go unseen here
+    private Duration expireAfterWrite = Duration.ofSeconds(30);
+}
@@ -0,0 +1,20 @@
+package dev.awn.accountmanagementservice.common.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "customer.cache")
+@Getter
+@Setter
+public class CustomerCacheProperties {
+    private long maximumSize = 10_000;
+
+    // Hard upper bound on how long a customer lookup may be served without a successful reload
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    // After this, the cached customer is still served while it is reloaded in the background
+    private Duration refreshAfterWrite = Duration.ofMinutes(1);
+}
@@ -0,0 +1,16 @@
+package dev.awn.accountmanagementservice.common.config.cleanup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "account.cleanup")
+@Getter
+@Setter
+public class AccountCleanupProperties {
+    // Most deleted customers handed to the listener per poll, their accounts are removed in one transaction
+    private int batchSize = 500;
+
+    // Listener threads, more than the topic's partition count leaves the rest idle
+    private int concurrency = 1;
+}
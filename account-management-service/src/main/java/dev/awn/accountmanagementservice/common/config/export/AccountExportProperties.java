@@ -0,0 +1,17 @@
+package dev.awn.accountmanagementservice.common.config.export;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "account.export")
+@Getter
+@Setter
+public class AccountExportProperties {
+    // Integer.MIN_VALUE has MySQL stream rows one at a time, any other size buffers the whole result unless
+    // useCursorFetch is on, which would make every other statement a server-side prepared one too
+    private int fetchSize = Integer.MIN_VALUE;
+
+    // Rows written between flushes of the response
+    private int flushEvery = 1_000;
+}
@@ -1,18 +1,29 @@
 package dev.awn.accountmanagementservice.common.config.kafka;
 
+import dev.awn.accountmanagementservice.common.config.cleanup.AccountCleanupProperties;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
 
+import java.util.Properties;
+
 @Configuration
+@EnableConfigurationProperties(AccountCleanupProperties.class)
 public class KafkaConsumerConfig {
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(ConsumerFactory<String, String> consumerFactory) {
+    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(ConsumerFactory<String, String> consumerFactory,
+                                                                                                 Environment environment) {
         ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory);
+        applyThreading(factory, environment);
 
         factory.getContainerProperties()
                .setAckMode(ContainerProperties.AckMode.RECORD);
@@ -20,4 +31,35 @@ public class KafkaConsumerConfig {
         return factory;
     }
 
+    // Hands a whole poll to the listener and commits its offsets once the listener returns
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchKafkaListenerContainerFactory(ConsumerFactory<String, String> consumerFactory,
+                                                                                                       AccountCleanupProperties properties,
+                                                                                                       Environment environment) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        applyThreading(factory, environment);
+        factory.setBatchListener(true);
+        factory.setConcurrency(properties.getConcurrency());
+
+        Properties consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.getBatchSize());
+
+        factory.getContainerProperties()
+               .setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.getContainerProperties()
+               .setKafkaConsumerProperties(consumerProperties);
+
+        return factory;
+    }
+
+    // Boot only does this for the factory it creates itself, so with spring.threads.virtual.enabled on Java 21 ours follow suit
+    private static void applyThreading(ConcurrentKafkaListenerContainerFactory<String, String> factory, Environment environment) {
+        if(Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kafka-");
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties()
+                   .setListenerTaskExecutor(executor);
+        }
+    }
 }
@@ -0,0 +1,57 @@
+package dev.awn.accountmanagementservice.common.config.ledger;
+
+import dev.awn.accountmanagementservice.core.account.cache.AccountCache;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import dev.awn.accountmanagementservice.core.ledger.applier.LedgerApplier;
+import dev.awn.accountmanagementservice.core.ledger.journal.LedgerJournal;
+import dev.awn.accountmanagementservice.core.ledger.mapper.LedgerPostingMapper;
+import dev.awn.accountmanagementservice.core.ledger.repository.LedgerPostingRepository;
+import dev.awn.accountmanagementservice.core.ledger.service.LedgerPendingPostings;
+import dev.awn.accountmanagementservice.core.ledger.service.LedgerService;
+import dev.awn.accountmanagementservice.core.ledger.service.impl.LedgerServiceImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(prefix = "ledger", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(LedgerProperties.class)
+public class LedgerConfig {
+
+    @Bean(destroyMethod = "close")
+    public LedgerJournal ledgerJournal(LedgerProperties properties) {
+        return new LedgerJournal(Path.of(properties.getDirectory()),
+                properties.getSegmentSize().toBytes(),
+                properties.getMaximumBatchSize());
+    }
+
+    @Bean
+    public LedgerPendingPostings ledgerPendingPostings() {
+        return new LedgerPendingPostings();
+    }
+
+    @Bean(destroyMethod = "stop")
+    public LedgerApplier ledgerApplier(LedgerPostingRepository postingRepository,
+                                       AccountRepository accountRepository,
+                                       AccountCache accountCache,
+                                       LedgerPendingPostings pendingPostings,
+                                       LedgerJournal journal,
+                                       TransactionTemplate transactionTemplate,
+                                       LedgerProperties properties) {
+        return new LedgerApplier(postingRepository, accountRepository, accountCache, pendingPostings, journal, transactionTemplate,
+                properties.getApplyBatchSize(), properties.getApplyRetryDelay());
+    }
+
+    @Bean
+    public LedgerService ledgerService(LedgerJournal journal,
+                                       LedgerApplier applier,
+                                       LedgerPendingPostings pendingPostings,
+                                       LedgerPostingRepository postingRepository,
+                                       LedgerPostingMapper postingMapper) {
+        return new LedgerServiceImpl(journal, applier, pendingPostings, postingRepository, postingMapper);
+    }
+}
@@ -0,0 +1,31 @@
+package dev.awn.accountmanagementservice.common.config.ledger;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ledger")
+@Getter
+@Setter
+public class LedgerProperties {
+    private boolean enabled = false;
+
+    private String directory = "ledger";
+
+    // Journal segments are preallocated and memory-mapped at this size, a new one is started once it is full
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    // Most postings written and forced to disk with a single fsync
+    private int maximumBatchSize = 4096;
+
+    // Most postings applied to the database in a single transaction
+    private int applyBatchSize = 1000;
+
+    private Duration applyRetryDelay = Duration.ofSeconds(1);
+
+    // How long a transfer waits for its postings to become durable before it is reported as pending
+    private Duration awaitTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,21 @@
+package dev.awn.accountmanagementservice.common.config.lookup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "customer.lookup")
+@Getter
+@Setter
+public class CustomerLookupProperties {
+    // Deadline for the customer lookup createAccount overlaps with its local reads, covers one client attempt
+    private Duration timeout = Duration.ofSeconds(3);
+
+    // Two per create in flight, one for the customer lookup and one for the account summary
+    private int threads = 200;
+
+    // Lookups waiting for a thread, a create is refused once this is full
+    private int queueCapacity = 200;
+}
@@ -0,0 +1,110 @@
+package dev.awn.accountmanagementservice.common.config.reactive;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.awn.accountmanagementservice.common.config.web.RestTemplateProperties;
+import io.netty.channel.ChannelOption;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Wiring of the reactive account API, active only when the service runs as a reactive web application
+ * (the {@code reactive} profile).
+ * <p>
+ * The account endpoints are served on Netty from R2DBC, everything else keeps using JPA. The remaining
+ * blocking controllers are invoked on the application task executor, never on the event loop.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties({R2dbcProperties.class, DataSourceProperties.class})
+public class ReactiveConfig implements WebFluxConfigurer {
+    private final AsyncTaskExecutor blockingExecutor;
+
+    public ReactiveConfig(@Qualifier("applicationTaskExecutor") AsyncTaskExecutor blockingExecutor) {
+        this.blockingExecutor = blockingExecutor;
+    }
+
+    // Tomcat is on the classpath as well and would otherwise be picked
+    @Bean
+    public NettyReactiveWebServerFactory reactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        configurer.setExecutor(blockingExecutor);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(R2dbcProperties properties) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(properties.getUrl())
+                                                                      .username(properties.getUsername())
+                                                                      .password(properties.getPassword())
+                                                                      .build();
+
+        R2dbcProperties.Pool pool = properties.getPool();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                                                             .name("accounts")
+                                                             .initialSize(pool.getInitialSize())
+                                                             .maxSize(pool.getMaxSize())
+                                                             .maxIdleTime(pool.getMaxIdleTime())
+                                                             .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    // The R2DBC transaction manager is no bean of its own, JPA's would back off as soon as a second one exists
+    @Bean
+    public TransactionalOperator transactionalOperator(ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    // Boot's DataSource auto-configuration backs off as soon as a ConnectionFactory exists, JPA still needs one
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                         .type(HikariDataSource.class)
+                         .build();
+    }
+
+    @Bean
+    public WebClient customerWebClient(WebClient.Builder builder, RestTemplateProperties properties) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("customer-service")
+                                                                  .maxConnections(properties.getMaxConnections())
+                                                                  .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                                                                  .maxIdleTime(properties.getIdleEviction())
+                                                                  .metrics(true)
+                                                                  .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                                          .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                                          .responseTimeout(properties.getReadTimeout());
+
+        return builder.clientConnector(new ReactorClientHttpConnector(httpClient))
+                      .build();
+    }
+}
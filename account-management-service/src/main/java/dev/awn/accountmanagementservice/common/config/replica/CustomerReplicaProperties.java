@@ -0,0 +1,16 @@
+package dev.awn.accountmanagementservice.common.config.replica;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "customer.replica")
+@Getter
+@Setter
+public class CustomerReplicaProperties {
+    // Copies every customer from the customer service on startup when the replica is empty
+    private boolean bootstrapEnabled = true;
+
+    // Matches the maximum snapshot page size of the customer service
+    private int bootstrapPageSize = 1_000;
+}
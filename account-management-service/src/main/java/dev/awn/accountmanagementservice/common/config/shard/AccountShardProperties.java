@@ -0,0 +1,20 @@
+package dev.awn.accountmanagementservice.common.config.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "account.shards")
+@Getter
+@Setter
+public class AccountShardProperties {
+    private int maximumCount = 64;
+
+    // How often the balance of every sharded account is spread evenly over its shards again
+    private Duration rebalanceInterval = Duration.ofSeconds(30);
+
+    // How often the set of sharded accounts is reloaded, picks up accounts sharded by other instances
+    private Duration refreshInterval = Duration.ofSeconds(10);
+}
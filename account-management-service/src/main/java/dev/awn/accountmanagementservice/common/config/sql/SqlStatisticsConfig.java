@@ -0,0 +1,27 @@
+package dev.awn.accountmanagementservice.common.config.sql;
+
+import dev.awn.accountmanagementservice.common.sql.SqlStatementStatistics;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SqlStatisticsProperties.class)
+public class SqlStatisticsConfig {
+
+    // Hibernate builds its statistics through this factory, so every query execution is also recorded per statement
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatisticsCustomizer(SqlStatisticsProperties properties) {
+        StatisticsFactory statisticsFactory = sessionFactory -> new SqlStatementStatistics(sessionFactory,
+                properties.getSlowStatementCount(),
+                properties.getRepeatThreshold());
+
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isEnabled());
+            hibernateProperties.put(AvailableSettings.STATS_BUILDER, statisticsFactory);
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package dev.awn.accountmanagementservice.common.config.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "sql.statistics")
+@Getter
+@Setter
+public class SqlStatisticsProperties {
+    private boolean enabled = true;
+
+    // Size of the slowest executions list, 0 turns the list off
+    private int slowStatementCount = 20;
+
+    // Executions of one statement within one session from which the session counts as an N+1 suspect
+    private int repeatThreshold = 10;
+}
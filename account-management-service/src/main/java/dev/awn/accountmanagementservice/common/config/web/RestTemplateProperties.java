@@ -0,0 +1,24 @@
+package dev.awn.accountmanagementservice.common.config.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "customer.client")
+@Getter
+@Setter
+public class RestTemplateProperties {
+    private int maxConnections = 200;
+    private int maxConnectionsPerRoute = 100;
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration readTimeout = Duration.ofSeconds(2);
+
+    // How long a request may wait for a free pooled connection before failing
+    private Duration connectionRequestTimeout = Duration.ofMillis(500);
+
+    private Duration keepAlive = Duration.ofSeconds(30);
+    private Duration idleEviction = Duration.ofSeconds(30);
+}
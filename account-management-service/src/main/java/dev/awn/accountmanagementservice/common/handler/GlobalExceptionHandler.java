@@ -4,6 +4,7 @@ package dev.awn.accountmanagementservice.common.handler;
 import dev.awn.accountmanagementservice.common.exception.BadRequestException;
 import dev.awn.accountmanagementservice.common.exception.InternalServerErrorException;
 import dev.awn.accountmanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.accountmanagementservice.common.exception.ServiceUnavailableException;
 import dev.awn.accountmanagementservice.common.handler.response.ErrorResponse;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
@@ -52,6 +53,19 @@ public class GlobalExceptionHandler {
                              .body(errorResponse);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorResponse> handle(ServiceUnavailableException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<ErrorResponse> handle(MethodArgumentNotValidException ex) {
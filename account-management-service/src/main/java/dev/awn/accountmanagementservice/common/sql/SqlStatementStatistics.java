@@ -0,0 +1,166 @@
+package dev.awn.accountmanagementservice.common.sql;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hibernate statistics that additionally keep, per executed statement, a latency histogram, the rows it
+ * returned and how often a single session ran it again and again (an N+1 suspect), plus the slowest
+ * executions seen.
+ * <p>
+ * Only counters are updated on the query path, nothing is logged or formatted until the statistics are read.
+ */
+public class SqlStatementStatistics extends StatisticsImpl {
+    // Upper bounds of the latency buckets in milliseconds, the last bucket takes everything above
+    public final static long[] LATENCY_BUCKETS = {1, 5, 10, 25, 50, 100, 250, 500, 1_000, 5_000};
+
+    private final int slowStatementCount;
+    private final int repeatThreshold;
+
+    private final Map<String, Statement> statements = new ConcurrentHashMap<>();
+    private final PriorityQueue<SlowStatement> slowest = new PriorityQueue<>(Comparator.comparingLong(SlowStatement::millis));
+    private volatile long slowestThreshold = -1;
+
+    // Statement counts of the sessions open on this thread, innermost first
+    private final ThreadLocal<Deque<Map<String, Integer>>> sessions = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public SqlStatementStatistics(SessionFactoryImplementor sessionFactory, int slowStatementCount, int repeatThreshold) {
+        super(sessionFactory);
+        this.slowStatementCount = slowStatementCount;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    public void openSession() {
+        super.openSession();
+        sessions.get().push(new HashMap<>());
+    }
+
+    @Override
+    public void closeSession() {
+        super.closeSession();
+        Deque<Map<String, Integer>> open = sessions.get();
+        if(!open.isEmpty()) {
+            open.pop();
+        }
+        if(open.isEmpty()) {
+            sessions.remove();
+        }
+    }
+
+    @Override
+    public void queryExecuted(String sql, int rows, long time) {
+        super.queryExecuted(sql, rows, time);
+
+        Statement statement = statements.computeIfAbsent(sql, key -> new Statement());
+        statement.record(rows, time);
+
+        Map<String, Integer> session = sessions.get().peek();
+        if(session != null && session.merge(sql, 1, Integer::sum) == repeatThreshold) {
+            statement.repeatedSessions.increment();
+        }
+
+        if(slowStatementCount > 0 && time > slowestThreshold) {
+            recordSlow(new SlowStatement(sql, time, rows, Instant.now()));
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        statements.clear();
+        synchronized(slowest) {
+            slowest.clear();
+            slowestThreshold = -1;
+        }
+    }
+
+    // Sorted by the total time spent in them, the heaviest first
+    public List<StatementSummary> getStatementSummaries() {
+        return statements.entrySet()
+                         .stream()
+                         .map(entry -> entry.getValue().summarize(entry.getKey()))
+                         .sorted(Comparator.comparingLong(StatementSummary::totalMillis).reversed())
+                         .toList();
+    }
+
+    public List<SlowStatement> getSlowestStatements() {
+        synchronized(slowest) {
+            return slowest.stream()
+                          .sorted(Comparator.comparingLong(SlowStatement::millis).reversed())
+                          .toList();
+        }
+    }
+
+    private void recordSlow(SlowStatement slowStatement) {
+        synchronized(slowest) {
+            slowest.add(slowStatement);
+            if(slowest.size() > slowStatementCount) {
+                slowest.poll();
+            }
+            if(slowest.size() == slowStatementCount) {
+                slowestThreshold = slowest.peek().millis();
+            }
+        }
+    }
+
+    private static class Statement {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray histogram = new AtomicLongArray(LATENCY_BUCKETS.length + 1);
+        private final LongAdder repeatedSessions = new LongAdder();
+
+        private void record(int rowCount, long millis) {
+            executions.increment();
+            rows.add(Math.max(rowCount, 0));
+            totalMillis.add(millis);
+            maxMillis.accumulate(millis);
+
+            int bucket = 0;
+            while(bucket < LATENCY_BUCKETS.length && millis > LATENCY_BUCKETS[bucket]) {
+                bucket++;
+            }
+            histogram.incrementAndGet(bucket);
+        }
+
+        private StatementSummary summarize(String sql) {
+            Map<String, Long> latencies = new LinkedHashMap<>();
+            for(int bucket = 0; bucket < LATENCY_BUCKETS.length; bucket++) {
+                latencies.put("le " + LATENCY_BUCKETS[bucket] + "ms", histogram.get(bucket));
+            }
+            latencies.put("gt " + LATENCY_BUCKETS[LATENCY_BUCKETS.length - 1] + "ms", histogram.get(LATENCY_BUCKETS.length));
+
+            long count = executions.sum();
+            return new StatementSummary(sql,
+                    count,
+                    rows.sum(),
+                    totalMillis.sum(),
+                    count == 0 ? 0 : totalMillis.sum() / count,
+                    maxMillis.get(),
+                    latencies,
+                    repeatedSessions.sum());
+        }
+    }
+
+    public record StatementSummary(String statement,
+                                   long executions,
+                                   long rows,
+                                   long totalMillis,
+                                   long averageMillis,
+                                   long maxMillis,
+                                   Map<String, Long> latencies,
+                                   long repeatedSessions) {
+    }
+
+    public record SlowStatement(String statement, long millis, int rows, Instant time) {
+    }
+}
@@ -0,0 +1,84 @@
+package dev.awn.accountmanagementservice.common.sql;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@code /actuator/sql}, statement level statistics of the running instance: executions, rows, latency
+ * histograms, the slowest executions and N+1 suspects. A DELETE resets them.
+ */
+@Component
+@Endpoint(id = "sql")
+@ConditionalOnProperty(prefix = "sql.statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SqlStatisticsEndpoint {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public SqlStatisticsReport report() {
+        Statistics statistics = statistics();
+        SqlStatementStatistics statementStatistics = statistics instanceof SqlStatementStatistics recording ? recording : null;
+
+        List<SqlStatementStatistics.StatementSummary> statements = statementStatistics == null
+                ? List.of()
+                : statementStatistics.getStatementSummaries();
+
+        return new SqlStatisticsReport(statistics.getPrepareStatementCount(),
+                statistics.getQueryExecutionCount(),
+                statements,
+                statementStatistics == null ? List.of() : statementStatistics.getSlowestStatements(),
+                nPlusOneSuspects(statistics, statements));
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics().clear();
+    }
+
+    // Statements a single session ran over and over, and entities or collections loaded one lazy fetch at a time
+    private List<Suspect> nPlusOneSuspects(Statistics statistics, List<SqlStatementStatistics.StatementSummary> statements) {
+        List<Suspect> suspects = new ArrayList<>();
+        for(SqlStatementStatistics.StatementSummary statement : statements) {
+            if(statement.repeatedSessions() > 0) {
+                suspects.add(new Suspect("statement", statement.statement(), statement.repeatedSessions()));
+            }
+        }
+
+        Arrays.stream(statistics.getEntityNames())
+              .filter(entity -> statistics.getEntityStatistics(entity).getFetchCount() > 0)
+              .forEach(entity -> suspects.add(new Suspect("entity", entity, statistics.getEntityStatistics(entity).getFetchCount())));
+        Arrays.stream(statistics.getCollectionRoleNames())
+              .filter(role -> statistics.getCollectionStatistics(role).getFetchCount() > 0)
+              .forEach(role -> suspects.add(new Suspect("collection", role, statistics.getCollectionStatistics(role).getFetchCount())));
+
+        suspects.sort(Comparator.comparingLong(Suspect::count).reversed());
+        return suspects;
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public record SqlStatisticsReport(long preparedStatements,
+                                      long queryExecutions,
+                                      List<SqlStatementStatistics.StatementSummary> statements,
+                                      List<SqlStatementStatistics.SlowStatement> slowest,
+                                      List<Suspect> nPlusOneSuspects) {
+    }
+
+    // For a statement the count is the sessions that repeated it, for an entity or collection its lazy fetches
+    public record Suspect(String kind, String name, long count) {
+    }
+}
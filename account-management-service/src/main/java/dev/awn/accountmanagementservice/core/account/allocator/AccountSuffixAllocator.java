@@ -0,0 +1,152 @@
+package dev.awn.accountmanagementservice.core.account.allocator;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.common.exception.InternalServerErrorException;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import dev.awn.accountmanagementservice.core.account.repository.AccountSuffixAllocationRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Hands out the last 3 digits of account ids (1 to 10) per customer.
+ * <p>
+ * Taken suffixes are kept as a bitmap in a single {@code ACCOUNT_SUFFIX_ALLOCATIONS} row per customer that is
+ * only ever changed through a compare-and-set update, so two concurrent creates for the same customer can
+ * never be handed the same suffix. The row is seeded from the customer's existing accounts on first use.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountSuffixAllocator {
+    private final static Logger logger = LoggerFactory.getLogger(AccountSuffixAllocator.class);
+    public final static int MAXIMUM_SUFFIX = 10;
+    private final static int ALL_SUFFIXES = (1 << MAXIMUM_SUFFIX) - 1;
+    private final static int MAXIMUM_ATTEMPTS = 100;
+
+    private final AccountSuffixAllocationRepository allocationRepository;
+    private final AccountRepository accountRepository;
+
+    public int allocate(long customerId) {
+        List<Integer> suffixes = allocate(customerId, 1);
+        if(suffixes.isEmpty()) {
+            logger.warn("customerId of - {} already has maximum number of accounts allowed", customerId);
+            throw new BadRequestException("customerId of - " + customerId + " already has maximum number of accounts allowed");
+        }
+
+        return suffixes.get(0);
+    }
+
+    // Skips the initial read when the caller has already fetched the bitmap, a stale one only costs a retry
+    public int allocateFrom(long customerId, int knownSuffixes) {
+        List<Integer> suffixes = allocate(customerId, 1, knownSuffixes);
+        if(suffixes.isEmpty()) {
+            logger.warn("customerId of - {} already has maximum number of accounts allowed", customerId);
+            throw new BadRequestException("customerId of - " + customerId + " already has maximum number of accounts allowed");
+        }
+
+        return suffixes.get(0);
+    }
+
+    // Returns the lowest free suffixes, fewer than requested (possibly none) when the customer runs out
+    public List<Integer> allocate(long customerId, int count) {
+        return allocate(customerId, count, null);
+    }
+
+    private List<Integer> allocate(long customerId, int count, Integer knownSuffixes) {
+        for(int attempt = 0; attempt < MAXIMUM_ATTEMPTS; attempt++) {
+            boolean fromKnown = attempt == 0 && knownSuffixes != null;
+            int current = fromKnown ? knownSuffixes : currentSuffixes(customerId);
+
+            int next = current;
+            List<Integer> allocated = new ArrayList<>(count);
+            while(allocated.size() < count && next != ALL_SUFFIXES) {
+                int freeBit = Integer.lowestOneBit(~next & ALL_SUFFIXES);
+                next |= freeBit;
+                allocated.add(Integer.numberOfTrailingZeros(freeBit) + 1);
+            }
+
+            // A full bitmap handed in by the caller may be stale, confirm it before turning the customer away
+            if(allocated.isEmpty() && fromKnown) {
+                continue;
+            }
+
+            if(allocated.isEmpty() || allocationRepository.compareAndSet(customerId, current, next) == 1) {
+                logger.info("allocated suffix/es {} for customerId - {}", allocated, customerId);
+                return allocated;
+            }
+        }
+
+        logger.error("could not allocate an account suffix for customerId - {} after {} attempts", customerId, MAXIMUM_ATTEMPTS);
+        throw new InternalServerErrorException("could not allocate an account id for customerId - " + customerId);
+    }
+
+    public void release(long customerId, List<Integer> suffixes) {
+        int bits = 0;
+        for(int suffix : suffixes) {
+            bits |= 1 << (suffix - 1);
+        }
+
+        for(int attempt = 0; attempt < MAXIMUM_ATTEMPTS; attempt++) {
+            int current = allocationRepository.findSuffixesByCustomerId(customerId).orElse(0);
+            if((current & bits) == 0 || allocationRepository.compareAndSet(customerId, current, current & ~bits) == 1) {
+                logger.info("released suffix/es {} for customerId - {}", suffixes, customerId);
+                return;
+            }
+        }
+
+        logger.error("could not release suffix/es {} for customerId - {} after {} attempts", suffixes, customerId, MAXIMUM_ATTEMPTS);
+    }
+
+    public void release(long accountId) {
+        release(accountId / 1000, List.of((int) (accountId % 1000)));
+    }
+
+    // The compare-and-set commits on its own, so inside a transaction it waits for the commit and a rollback keeps the suffix held
+    public void releaseAfterCommit(long accountId) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(accountId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(accountId);
+            }
+        });
+    }
+
+    public void releaseAll(Collection<Long> customerIds) {
+        logger.info("removing suffix allocations of {} customer/s", customerIds.size());
+        allocationRepository.deleteByCustomerIdIn(customerIds);
+    }
+
+    private int currentSuffixes(long customerId) {
+        return allocationRepository.findSuffixesByCustomerId(customerId)
+                                   .orElseGet(() -> seed(customerId));
+    }
+
+    private int seed(long customerId) {
+        int suffixes = 0;
+        for(long accountId : accountRepository.findIdsByCustomerId(customerId)) {
+            suffixes |= 1 << ((int) (accountId % 1000) - 1);
+        }
+
+        try {
+            allocationRepository.insert(customerId, suffixes);
+            logger.info("seeded suffix allocation of customerId - {} from existing accounts", customerId);
+            return suffixes;
+        } catch (DataIntegrityViolationException e) {
+            logger.info("suffix allocation of customerId - {} was seeded concurrently", customerId);
+            return allocationRepository.findSuffixesByCustomerId(customerId).orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package dev.awn.accountmanagementservice.core.account.allocator;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.common.exception.InternalServerErrorException;
+import dev.awn.accountmanagementservice.core.account.repository.ReactiveAccountRepository;
+import dev.awn.accountmanagementservice.core.account.repository.ReactiveAccountSuffixAllocationRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link AccountSuffixAllocator}, working on the same compare-and-set bitmap rows so
+ * both can run side by side.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAccountSuffixAllocator {
+    private final static Logger logger = LoggerFactory.getLogger(ReactiveAccountSuffixAllocator.class);
+    private final static int ALL_SUFFIXES = (1 << AccountSuffixAllocator.MAXIMUM_SUFFIX) - 1;
+    private final static int MAXIMUM_ATTEMPTS = 100;
+
+    private final ReactiveAccountSuffixAllocationRepository allocationRepository;
+    private final ReactiveAccountRepository accountRepository;
+
+    // Skips the initial read when the caller has already fetched the bitmap (non null), a stale one only costs a retry
+    public Mono<Integer> allocate(long customerId, Integer knownSuffixes) {
+        return allocate(customerId, knownSuffixes, 0);
+    }
+
+    private Mono<Integer> allocate(long customerId, Integer knownSuffixes, int attempt) {
+        if(attempt >= MAXIMUM_ATTEMPTS) {
+            logger.error("could not allocate an account suffix for customerId - {} after {} attempts", customerId, MAXIMUM_ATTEMPTS);
+            return Mono.error(new InternalServerErrorException("could not allocate an account id for customerId - " + customerId));
+        }
+
+        boolean fromKnown = attempt == 0 && knownSuffixes != null;
+        Mono<Integer> current = fromKnown ? Mono.just(knownSuffixes) : currentSuffixes(customerId);
+
+        return current.flatMap(suffixes -> {
+            if(suffixes == ALL_SUFFIXES) {
+                // A full bitmap handed in by the caller may be stale, confirm it before turning the customer away
+                if(fromKnown) {
+                    return allocate(customerId, null, attempt + 1);
+                }
+
+                logger.warn("customerId of - {} already has maximum number of accounts allowed", customerId);
+                return Mono.error(new BadRequestException("customerId of - " + customerId + " already has maximum number of accounts allowed"));
+            }
+
+            int freeBit = Integer.lowestOneBit(~suffixes & ALL_SUFFIXES);
+            int suffix = Integer.numberOfTrailingZeros(freeBit) + 1;
+            return allocationRepository.compareAndSet(customerId, suffixes, suffixes | freeBit)
+                                       .flatMap(updated -> {
+                                           if(updated != 1) {
+                                               return allocate(customerId, null, attempt + 1);
+                                           }
+
+                                           logger.info("allocated suffix {} for customerId - {}", suffix, customerId);
+                                           return Mono.just(suffix);
+                                       });
+        });
+    }
+
+    public Mono<Void> release(long accountId) {
+        return release(accountId / 1000, 1 << ((int) (accountId % 1000) - 1), 0);
+    }
+
+    private Mono<Void> release(long customerId, int bit, int attempt) {
+        if(attempt >= MAXIMUM_ATTEMPTS) {
+            logger.error("could not release suffix bit {} for customerId - {} after {} attempts", bit, customerId, MAXIMUM_ATTEMPTS);
+            return Mono.empty();
+        }
+
+        return allocationRepository.findSuffixesByCustomerId(customerId)
+                                   .defaultIfEmpty(0)
+                                   .flatMap(current -> (current & bit) == 0
+                                           ? Mono.just(1L)
+                                           : allocationRepository.compareAndSet(customerId, current, current & ~bit))
+                                   .flatMap(updated -> updated == 1 ? Mono.<Void>empty() : release(customerId, bit, attempt + 1));
+    }
+
+    private Mono<Integer> currentSuffixes(long customerId) {
+        return allocationRepository.findSuffixesByCustomerId(customerId)
+                                   .switchIfEmpty(Mono.defer(() -> seed(customerId)));
+    }
+
+    private Mono<Integer> seed(long customerId) {
+        return accountRepository.findIdsByCustomerId(customerId)
+                                .reduce(0, (suffixes, accountId) -> suffixes | 1 << ((int) (accountId % 1000) - 1))
+                                .flatMap(suffixes -> allocationRepository.insert(customerId, suffixes)
+                                                                         .doOnNext(inserted -> logger.info("seeded suffix allocation of customerId - {} from existing accounts", customerId))
+                                                                         .thenReturn(suffixes))
+                                .onErrorResume(DataIntegrityViolationException.class, e -> {
+                                    logger.info("suffix allocation of customerId - {} was seeded concurrently", customerId);
+                                    return allocationRepository.findSuffixesByCustomerId(customerId);
+                                });
+    }
+}
@@ -0,0 +1,92 @@
+package dev.awn.accountmanagementservice.core.account.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.awn.accountmanagementservice.common.config.cache.AccountCacheProperties;
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of the accounts served by getAccount.
+ * <p>
+ * Accounts that do not exist are never cached. Every writer of an account evicts it, inside a transaction the
+ * eviction waits for the commit so a read racing the write cannot put the old row back.
+ */
+@Component
+@EnableConfigurationProperties(AccountCacheProperties.class)
+public class AccountCache {
+    private final static Logger logger = LoggerFactory.getLogger(AccountCache.class);
+    private final static String CACHE_NAME = "accounts";
+
+    private final Cache<Long, AccountDTO> cache;
+
+    public AccountCache(AccountCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(properties.getMaximumSize())
+                             .expireAfterWrite(properties.getExpireAfterWrite())
+                             .recordStats()
+                             .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+             .tag("cache", CACHE_NAME)
+             .description("The ratio of cache requests which were hits")
+             .register(meterRegistry);
+    }
+
+    public AccountDTO get(long id, Function<Long, AccountDTO> loader) {
+        return cache.get(id, loader);
+    }
+
+    public Optional<AccountDTO> getIfPresent(long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    public void evict(long id) {
+        afterCommit(() -> {
+            logger.info("evicting account of id - {} from the account cache", id);
+            cache.invalidate(id);
+        });
+    }
+
+    public void evictAll(Collection<Long> ids) {
+        afterCommit(() -> {
+            logger.info("evicting {} account/s from the account cache", ids.size());
+            cache.invalidateAll(ids);
+        });
+    }
+
+    // Account ids start with the id of their customer, so the cached accounts of a customer are found without a query
+    public void evictAllOf(Collection<Long> customerIds) {
+        afterCommit(() -> {
+            logger.info("evicting the accounts of {} customer/s from the account cache", customerIds.size());
+            cache.asMap().keySet().removeIf(id -> customerIds.contains(id / 1000));
+        });
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
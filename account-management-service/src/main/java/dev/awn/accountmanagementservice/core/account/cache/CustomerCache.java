@@ -0,0 +1,76 @@
+package dev.awn.accountmanagementservice.core.account.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import dev.awn.accountmanagementservice.common.config.cache.CustomerCacheProperties;
+import dev.awn.accountmanagementservice.core.account.client.CustomerClient;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded, TTL based cache of customer lookups sitting in front of {@link CustomerClient}.
+ * <p>
+ * Entries older than {@code refreshAfterWrite} are still served while they are reloaded in the background
+ * (stale-while-revalidate), entries older than {@code expireAfterWrite} are reloaded synchronously.
+ * Customers that do not exist are never cached, so a newly created customer is visible right away.
+ */
+@Component
+@EnableConfigurationProperties(CustomerCacheProperties.class)
+public class CustomerCache {
+    private final static Logger logger = LoggerFactory.getLogger(CustomerCache.class);
+    private final static String CACHE_NAME = "customers";
+
+    private final LoadingCache<Long, CustomerDTO> cache;
+
+    public CustomerCache(CustomerClient customerClient,
+                         CustomerCacheProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(properties.getMaximumSize())
+                             .expireAfterWrite(properties.getExpireAfterWrite())
+                             .refreshAfterWrite(properties.getRefreshAfterWrite())
+                             .recordStats()
+                             .build(new CacheLoader<>() {
+                                 @Override
+                                 public CustomerDTO load(Long customerId) {
+                                     return customerClient.getCustomer(customerId);
+                                 }
+
+                                 @Override
+                                 public Map<Long, CustomerDTO> loadAll(Set<? extends Long> customerIds) {
+                                     return customerClient.getCustomers(customerIds);
+                                 }
+                             });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public CustomerDTO get(long customerId) {
+        return cache.get(customerId);
+    }
+
+    // Missing customers are loaded with a single batch call and are absent from the returned map
+    public Map<Long, CustomerDTO> getAll(Collection<Long> customerIds) {
+        return cache.getAll(customerIds);
+    }
+
+    public void evict(long customerId) {
+        logger.info("evicting customer of id - {} from the customer cache", customerId);
+        cache.invalidate(customerId);
+    }
+
+    public void evictAll(Collection<Long> customerIds) {
+        logger.info("evicting {} customer/s from the customer cache", customerIds.size());
+        cache.invalidateAll(customerIds);
+    }
+}
@@ -0,0 +1,76 @@
+package dev.awn.accountmanagementservice.core.account.client;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerBatchRequestDTO;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerBatchResponseDTO;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerDTO;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerSnapshotDTO;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerClient {
+    private final static Logger logger = LoggerFactory.getLogger(CustomerClient.class);
+    // Ids are passed as URI variables, so the client timings are tagged per endpoint rather than per customer
+    private final static String CUSTOMER_SERVICE_URL = "http://localhost:8081/api/v1/customers/";
+
+    // Matches the maximum batch size accepted by the customer service
+    private final static int MAXIMUM_BATCH_SIZE = 1_000;
+
+    private final RestTemplate restTemplate;
+
+    public CustomerDTO getCustomer(long customerId) {
+        try {
+            logger.info("will be hitting the following url to get customer details - {}{}", CUSTOMER_SERVICE_URL, customerId);
+            return restTemplate.getForObject(CUSTOMER_SERVICE_URL + "{id}", CustomerDTO.class, customerId);
+        } catch (RestClientException e) {
+            logger.error("error fetching customer of id - {}", customerId, e);
+            throw new BadRequestException("customer service is unavailable or customer does not exist.");
+        }
+    }
+
+    public Map<Long, CustomerDTO> getCustomers(Collection<? extends Long> customerIds) {
+        List<Long> ids = List.copyOf(customerIds);
+        Map<Long, CustomerDTO> customers = new HashMap<>();
+
+        for(int from = 0; from < ids.size(); from += MAXIMUM_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAXIMUM_BATCH_SIZE, ids.size()));
+
+            try {
+                logger.info("will be fetching a batch of {} customer/s from the customer service", chunk.size());
+                CustomerBatchResponseDTO response = restTemplate.postForObject(CUSTOMER_SERVICE_URL + "batch",
+                        new CustomerBatchRequestDTO(chunk), CustomerBatchResponseDTO.class);
+
+                if(response != null && response.getCustomers() != null) {
+                    response.getCustomers().forEach(customer -> customers.put(customer.getId(), customer));
+                }
+            } catch (RestClientException e) {
+                logger.error("error fetching a batch of {} customer/s", chunk.size(), e);
+                throw new BadRequestException("customer service is unavailable.");
+            }
+        }
+
+        return customers;
+    }
+
+    public CustomerSnapshotDTO getCustomerSnapshot(long afterId, int limit) {
+        try {
+            logger.info("will be getting a customer snapshot page after id - {} of at most {} customer/s", afterId, limit);
+            return restTemplate.getForObject(CUSTOMER_SERVICE_URL + "snapshot?afterId={afterId}&limit={limit}",
+                    CustomerSnapshotDTO.class, afterId, limit);
+        } catch (RestClientException e) {
+            logger.error("error fetching customer snapshot page after id - {}", afterId, e);
+            throw new BadRequestException("customer service is unavailable.");
+        }
+    }
+}
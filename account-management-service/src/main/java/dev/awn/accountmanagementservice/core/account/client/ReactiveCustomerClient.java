@@ -0,0 +1,53 @@
+package dev.awn.accountmanagementservice.core.account.client;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.awn.accountmanagementservice.common.config.cache.CustomerCacheProperties;
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking customer lookup for the reactive account API, with the same caching rules as
+ * {@code CustomerCache}: lookups of customers that do not exist fail and are never cached.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCustomerClient {
+    private final static Logger logger = LoggerFactory.getLogger(ReactiveCustomerClient.class);
+    private final static String CUSTOMER_SERVICE_URL = "http://localhost:8081/api/v1/customers/";
+
+    private final WebClient webClient;
+    private final AsyncCache<Long, CustomerDTO> cache;
+
+    public ReactiveCustomerClient(@Qualifier("customerWebClient") WebClient webClient, CustomerCacheProperties properties) {
+        this.webClient = webClient;
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(properties.getMaximumSize())
+                             .expireAfterWrite(properties.getExpireAfterWrite())
+                             .buildAsync();
+    }
+
+    public Mono<CustomerDTO> getCustomer(long customerId) {
+        return Mono.fromFuture(() -> cache.get(customerId, (id, executor) -> fetch(id).toFuture()));
+    }
+
+    private Mono<CustomerDTO> fetch(long customerId) {
+        logger.info("will be hitting the following url to get customer details - {}{}", CUSTOMER_SERVICE_URL, customerId);
+        return webClient.get()
+                        .uri(CUSTOMER_SERVICE_URL + "{id}", customerId)
+                        .retrieve()
+                        .bodyToMono(CustomerDTO.class)
+                        .onErrorMap(WebClientException.class, e -> {
+                            logger.error("error fetching customer of id - {}", customerId, e);
+                            return new BadRequestException("customer service is unavailable or customer does not exist.");
+                        });
+    }
+}
@@ -0,0 +1,7 @@
+package dev.awn.accountmanagementservice.core.account.constant;
+
+public enum CustomerEventType {
+    CREATED,
+    MODIFIED,
+    DELETED
+}
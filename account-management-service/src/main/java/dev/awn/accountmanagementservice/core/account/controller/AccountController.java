@@ -1,30 +1,106 @@
 package dev.awn.accountmanagementservice.core.account.controller;
 
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.dto.AccountBatchRequestDTO;
+import dev.awn.accountmanagementservice.core.account.dto.AccountBatchResponseDTO;
 import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import dev.awn.accountmanagementservice.core.account.dto.AccountPageDTO;
+import dev.awn.accountmanagementservice.core.account.export.AccountExporter;
 import dev.awn.accountmanagementservice.core.account.service.AccountService;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/accounts")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class AccountController {
     private final AccountService accountService;
+    private final AccountExporter accountExporter;
 
+    // A revalidation is answered from the modification time alone, the account is neither loaded nor serialized
     @GetMapping("/{id}")
-    public ResponseEntity<AccountDTO> getAccount(@PathVariable Long id) {
+    public ResponseEntity<AccountDTO> getAccount(@PathVariable Long id, WebRequest request) {
+        if(request.getHeader(HttpHeaders.IF_NONE_MATCH) != null || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            Optional<LocalDateTime> lastModified = accountService.getLastModified(id);
+            if(lastModified.isPresent() && request.checkNotModified(eTag(lastModified.get()), epochMillis(lastModified.get()))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+        }
+
         AccountDTO accountDTO = accountService.getAccount(id);
+        if(accountDTO.getLastModified() == null) {
+            return ResponseEntity.status(HttpStatus.OK).body(accountDTO);
+        }
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .eTag(eTag(accountDTO.getLastModified()))
+                             .lastModified(epochMillis(accountDTO.getLastModified()))
+                             .body(accountDTO);
+    }
+
+    // Filters are optional, pages follow on from the nextAfterId of the previous one
+    @GetMapping
+    public ResponseEntity<AccountPageDTO> getAccounts(@RequestParam(required = false) Long customerId,
+                                                      @RequestParam(required = false) AccountType type,
+                                                      @RequestParam(required = false) AccountStatus status,
+                                                      @RequestParam(defaultValue = "0") long afterId,
+                                                      @RequestParam(defaultValue = "100") int limit) {
+        AccountPageDTO accountPageDTO = accountService.getAccounts(customerId, type, status, afterId, limit);
+
+        return ResponseEntity.status(HttpStatus.OK).body(accountPageDTO);
+    }
+
+    // Written on the request thread straight to the response, so no async timeout cuts a long export short.
+    // Gzip flushes are sync flushes, what has been exported reaches the client compressed as it goes
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportAccounts(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime modifiedSince,
+                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                               HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if(acceptEncoding == null || !acceptEncoding.contains("gzip")) {
+            accountExporter.export(modifiedSince, response.getOutputStream());
+            return;
+        }
 
-        return ResponseEntity.status(HttpStatus.OK).body(accountDTO);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        GZIPOutputStream outputStream = new GZIPOutputStream(response.getOutputStream(), 64 * 1024, true);
+        accountExporter.export(modifiedSince, outputStream);
+        outputStream.finish();
     }
 
+    // Completes asynchronously, the servlet thread is released while the customer lookup is in flight
     @PostMapping
-    public ResponseEntity<AccountDTO> createAccount(@RequestBody AccountDTO accountDTO) {
-        AccountDTO createdAccount = accountService.createAccount(accountDTO);
+    public CompletableFuture<ResponseEntity<AccountDTO>> createAccount(@RequestBody AccountDTO accountDTO) {
+        return accountService.createAccountAsync(accountDTO)
+                             .thenApply(createdAccount -> ResponseEntity.status(HttpStatus.CREATED).body(createdAccount));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<AccountBatchResponseDTO> createAccounts(@Valid @RequestBody AccountBatchRequestDTO batchRequestDTO) {
+        AccountBatchResponseDTO batchResponseDTO = accountService.createAccounts(batchRequestDTO.getAccounts());
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdAccount);
+        return ResponseEntity.status(HttpStatus.OK).body(batchResponseDTO);
     }
 
     @PutMapping
@@ -34,10 +110,26 @@ public class AccountController {
         return ResponseEntity.status(HttpStatus.CREATED).body(modifiedAccount);
     }
 
+    @PostMapping("/{id}/shards")
+    public ResponseEntity<AccountDTO> shardAccount(@PathVariable Long id, @RequestParam int count) {
+        AccountDTO shardedAccount = accountService.shardAccount(id, count);
+
+        return ResponseEntity.status(HttpStatus.OK).body(shardedAccount);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> removeAccount(@PathVariable Long id) {
         accountService.removeAccount(id);
 
         return ResponseEntity.status(HttpStatus.OK).build();
     }
+
+    // Microseconds, as stored, so two changes within the same second still get different tags
+    private static String eTag(LocalDateTime lastModified) {
+        return Long.toHexString(lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastModified.getNano() / 1_000);
+    }
+
+    private static long epochMillis(LocalDateTime lastModified) {
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
@@ -0,0 +1,58 @@
+package dev.awn.accountmanagementservice.core.account.controller;
+
+import dev.awn.accountmanagementservice.core.account.dto.AccountBatchRequestDTO;
+import dev.awn.accountmanagementservice.core.account.dto.AccountBatchResponseDTO;
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import dev.awn.accountmanagementservice.core.account.service.ReactiveAccountService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+// Same endpoints and responses as AccountController, served when the service runs on WebFlux
+@RestController
+@RequestMapping("/accounts")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAccountController {
+    private final ReactiveAccountService accountService;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<AccountDTO>> getAccount(@PathVariable Long id) {
+        return accountService.getAccount(id)
+                             .map(accountDTO -> ResponseEntity.status(HttpStatus.OK).body(accountDTO));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<AccountDTO>> createAccount(@RequestBody AccountDTO accountDTO) {
+        return accountService.createAccount(accountDTO)
+                             .map(createdAccount -> ResponseEntity.status(HttpStatus.CREATED).body(createdAccount));
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<AccountBatchResponseDTO>> createAccounts(@Valid @RequestBody AccountBatchRequestDTO batchRequestDTO) {
+        return accountService.createAccounts(batchRequestDTO.getAccounts())
+                             .map(batchResponseDTO -> ResponseEntity.status(HttpStatus.OK).body(batchResponseDTO));
+    }
+
+    @PutMapping
+    public Mono<ResponseEntity<AccountDTO>> modifyAccount(@RequestBody AccountDTO accountDTO) {
+        return accountService.modifyAccount(accountDTO)
+                             .map(modifiedAccount -> ResponseEntity.status(HttpStatus.CREATED).body(modifiedAccount));
+    }
+
+    @PostMapping("/{id}/shards")
+    public Mono<ResponseEntity<AccountDTO>> shardAccount(@PathVariable Long id, @RequestParam int count) {
+        return accountService.shardAccount(id, count)
+                             .map(shardedAccount -> ResponseEntity.status(HttpStatus.OK).body(shardedAccount));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> removeAccount(@PathVariable Long id) {
+        return accountService.removeAccount(id)
+                             .thenReturn(ResponseEntity.status(HttpStatus.OK).build());
+    }
+}
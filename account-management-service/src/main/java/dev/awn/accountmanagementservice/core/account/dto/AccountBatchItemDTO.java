@@ -0,0 +1,14 @@
+package dev.awn.accountmanagementservice.core.account.dto;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class AccountBatchItemDTO {
+    private int index;
+    private AccountDTO account;
+    private String error;
+}
@@ -0,0 +1,16 @@
+package dev.awn.accountmanagementservice.core.account.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class AccountBatchRequestDTO {
+    @NotEmpty(message = "accounts cannot be empty")
+    private List<AccountDTO> accounts;
+}
@@ -0,0 +1,16 @@
+package dev.awn.accountmanagementservice.core.account.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class AccountBatchResponseDTO {
+    private int created;
+    private int failed;
+    private List<AccountBatchItemDTO> results;
+}
@@ -1,11 +1,14 @@
 package dev.awn.accountmanagementservice.core.account.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
 import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,9 +20,13 @@ public class AccountDTO {
     @NotNull(message = "customerId cannot be empty")
     private Long customerId;
     @NotNull(message = "balance cannot be empty")
+    @Digits(integer = 16, fraction = 2, message = "balance can have at most 16 integer digits and 2 decimal places")
     private BigDecimal balance;
     @NotNull(message = "status cannot be empty")
     private AccountStatus status;
     @NotNull(message = "type cannot be empty")
     private AccountType type;
+    // Validator for conditional GETs, sent as the ETag and Last-Modified headers rather than in the body
+    @JsonIgnore
+    private LocalDateTime lastModified;
 }
@@ -0,0 +1,16 @@
+package dev.awn.accountmanagementservice.core.account.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class AccountPageDTO {
+    private List<AccountDTO> accounts;
+    // Passed back as afterId for the next page, null on the last page
+    private Long nextAfterId;
+}
@@ -0,0 +1,14 @@
+package dev.awn.accountmanagementservice.core.account.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CustomerBatchRequestDTO {
+    private List<Long> ids;
+}
@@ -0,0 +1,15 @@
+package dev.awn.accountmanagementservice.core.account.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CustomerBatchResponseDTO {
+    private List<CustomerDTO> customers;
+    private List<Long> missingIds;
+}
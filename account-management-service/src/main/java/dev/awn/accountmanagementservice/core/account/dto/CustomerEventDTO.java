@@ -0,0 +1,18 @@
+package dev.awn.accountmanagementservice.core.account.dto;
+
+import dev.awn.accountmanagementservice.core.account.constant.CustomerEventType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CustomerEventDTO {
+    private CustomerEventType type;
+    private Long customerId;
+    private CustomerDTO customer;
+    private LocalDateTime eventTime;
+}
@@ -0,0 +1,17 @@
+package dev.awn.accountmanagementservice.core.account.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CustomerSnapshotDTO {
+    private List<CustomerDTO> customers;
+    private Long nextAfterId;
+    private LocalDateTime snapshotTime;
+}
@@ -0,0 +1,89 @@
+package dev.awn.accountmanagementservice.core.account.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.awn.accountmanagementservice.common.config.export.AccountExportProperties;
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import dev.awn.accountmanagementservice.core.account.repository.AccountBalanceShardRepository;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Writes the ACCOUNTS table as newline delimited JSON, one {@link AccountDTO} per line in id order.
+ * <p>
+ * Rows are read off the database as they are written out and none are kept, so heap use does not grow with the
+ * table. Writes block while the client is behind, which holds the read back with them.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(AccountExportProperties.class)
+public class AccountExporter {
+    private final static Logger logger = LoggerFactory.getLogger(AccountExporter.class);
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceShardRepository shardRepository;
+    private final ObjectMapper objectMapper;
+    private final AccountExportProperties exportProperties;
+
+    // A single read-only transaction, so the export is one consistent snapshot of the table
+    @Transactional(readOnly = true)
+    public long export(LocalDateTime modifiedSince, OutputStream outputStream) throws IOException {
+        // Read up front, a streaming result set leaves its connection to nothing else until it is fully read
+        Map<Long, BigDecimal> shardBalances = shardBalances();
+
+        logger.info("will be exporting accounts modified since - {}, {} of them sharded", modifiedSince, shardBalances.size());
+        // Without it every value is flushed through to the response as it is written, ignoring flush-every
+        ObjectWriter writer = objectMapper.writerFor(AccountDTO.class)
+                                          .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        long exported = 0;
+        try(Stream<AccountDTO> accounts = accountRepository.streamAll(modifiedSince, exportProperties.getFetchSize());
+            JsonGenerator generator = writer.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            for(Iterator<AccountDTO> iterator = accounts.iterator(); iterator.hasNext(); ) {
+                AccountDTO account = iterator.next();
+                BigDecimal shardBalance = shardBalances.get(account.getId());
+                if(shardBalance != null) {
+                    account.setBalance(account.getBalance().add(shardBalance));
+                }
+
+                writer.writeValue(generator, account);
+                generator.writeRaw('\n');
+
+                if(++exported % exportProperties.getFlushEvery() == 0) {
+                    generator.flush();
+                }
+            }
+        }
+
+        logger.info("exported {} account/s", exported);
+        return exported;
+    }
+
+    private Map<Long, BigDecimal> shardBalances() {
+        Map<Long, BigDecimal> shardBalances = new HashMap<>();
+        for(Object[] row : shardRepository.sumBalanceByAccountIds()) {
+            shardBalances.put((Long) row[0], (BigDecimal) row[1]);
+        }
+
+        return shardBalances;
+    }
+}
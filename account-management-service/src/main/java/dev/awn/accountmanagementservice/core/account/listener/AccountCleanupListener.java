@@ -0,0 +1,68 @@
+package dev.awn.accountmanagementservice.core.account.listener;
+
+import dev.awn.accountmanagementservice.core.account.service.AccountService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class AccountCleanupListener {
+    private final static Logger logger = LoggerFactory.getLogger(AccountCleanupListener.class);
+
+    private final AccountService accountService;
+    private final Counter records;
+    private final Counter accountsRemoved;
+    private final Timer batches;
+
+    public AccountCleanupListener(AccountService accountService, MeterRegistry meterRegistry) {
+        this.accountService = accountService;
+        this.records = Counter.builder("account.cleanup.records")
+                              .description("Deleted customer events consumed from account-cleanup-topic")
+                              .register(meterRegistry);
+        this.accountsRemoved = Counter.builder("account.cleanup.accounts")
+                                      .description("Accounts removed because their customer was deleted")
+                                      .register(meterRegistry);
+        this.batches = Timer.builder("account.cleanup.batch")
+                            .description("Time taken to remove the accounts of one polled batch")
+                            .register(meterRegistry);
+    }
+
+    @KafkaListener(topics = "account-cleanup-topic",
+            groupId = "account-cleanup-topic-consumer-group",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void removeAccountsBy(List<String> customerIds) {
+        logger.info("received a batch of {} deleted customer event/s", customerIds.size());
+
+        Set<Long> ids = new LinkedHashSet<>();
+        for(String customerId : customerIds) {
+            try {
+                ids.add(Long.parseLong(customerId.trim()));
+            } catch (NumberFormatException e) {
+                logger.warn("skipping deleted customer event with an invalid id - {}", customerId);
+            }
+        }
+
+        long startTime = System.nanoTime();
+        int removed = ids.isEmpty() ? 0 : accountService.removeAccountsBy(ids);
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        batches.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        records.increment(customerIds.size());
+        accountsRemoved.increment(removed);
+
+        logger.info("removed {} account/s of {} customer/s in {} ms ({} records/sec)",
+                removed,
+                ids.size(),
+                elapsedNanos / 1_000_000,
+                customerIds.size() * 1_000_000_000L / Math.max(1, elapsedNanos));
+    }
+}
@@ -0,0 +1,59 @@
+package dev.awn.accountmanagementservice.core.account.lookup;
+
+import dev.awn.accountmanagementservice.common.config.lookup.CustomerLookupProperties;
+import dev.awn.accountmanagementservice.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * The threads createAccount runs its customer lookup and account summary on, two per create, virtual ones when
+ * spring.threads.virtual.enabled is on.
+ * <p>
+ * Bounded in threads and in queue, so a create that finds it full is refused right away with a 503 instead of
+ * waiting behind the lookup deadline. It is not an {@link Executor} bean on purpose, one would replace Spring Boot's
+ * application task executor.
+ */
+@Component
+@EnableConfigurationProperties(CustomerLookupProperties.class)
+public class CustomerLookupExecutor implements DisposableBean {
+    private final ThreadPoolExecutor executor;
+
+    public CustomerLookupExecutor(CustomerLookupProperties properties, MeterRegistry meterRegistry, Environment environment) {
+        ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor("customer-lookup-").getVirtualThreadFactory()
+                : new CustomizableThreadFactory("customer-lookup-");
+
+        executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        new ExecutorServiceMetrics(executor, "customer.lookup", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new ServiceUnavailableException("too many accounts are being created, try again later", e));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -24,6 +24,7 @@ public class AccountMapper {
                          .type(account.getType())
                          .status(account.getStatus())
                          .customerId(account.getCustomerId())
+                         .lastModified(account.getModificationTime() == null ? account.getCreationTime() : account.getModificationTime())
                          .build();
     }
 
@@ -9,7 +9,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "ACCOUNTS")
+// Listings seek on ID within each filter, so every index ends in it
+@Table(name = "ACCOUNTS", indexes = {
+        @Index(name = "IDX_ACCOUNTS_CUSTOMER_ID", columnList = "CUSTOMER_ID, ID"),
+        @Index(name = "IDX_ACCOUNTS_STATUS", columnList = "STATUS, ID"),
+        @Index(name = "IDX_ACCOUNTS_TYPE", columnList = "TYPE, ID")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -23,7 +28,7 @@ public class Account {
     @Column(name = "CUSTOMER_ID", updatable = false)
     private Long customerId;
 
-    @Column(name = "BALANCE")
+    @Column(name = "BALANCE", precision = 38, scale = 2)
     private BigDecimal balance;
 
     @Column(name = "STATUS")
@@ -39,4 +44,8 @@ public class Account {
 
     @Column(name = "MODIFICATION_TIME")
     private LocalDateTime modificationTime;
+
+    // Last ledger posting applied to BALANCE, only ever written by the ledger applier
+    @Column(name = "LEDGER_SEQUENCE", insertable = false, updatable = false)
+    private Long ledgerSequence;
 }
@@ -0,0 +1,27 @@
+package dev.awn.accountmanagementservice.core.account.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "ACCOUNT_BALANCE_SHARDS")
+@IdClass(AccountBalanceShardId.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class AccountBalanceShard {
+    @Column(name = "ACCOUNT_ID")
+    @Id
+    private Long accountId;
+
+    @Column(name = "SHARD")
+    @Id
+    private Integer shard;
+
+    @Column(name = "BALANCE", precision = 38, scale = 2, nullable = false)
+    private BigDecimal balance;
+}
@@ -0,0 +1,15 @@
+package dev.awn.accountmanagementservice.core.account.model;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class AccountBalanceShardId implements Serializable {
+    private Long accountId;
+    private Integer shard;
+}
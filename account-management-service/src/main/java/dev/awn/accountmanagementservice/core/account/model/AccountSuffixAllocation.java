@@ -0,0 +1,21 @@
+package dev.awn.accountmanagementservice.core.account.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "ACCOUNT_SUFFIX_ALLOCATIONS")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class AccountSuffixAllocation {
+    @Column(name = "CUSTOMER_ID")
+    @Id
+    private Long customerId;
+
+    // Bit (n - 1) is set when the account suffix n is taken
+    @Column(name = "SUFFIXES", nullable = false)
+    private Integer suffixes;
+}
@@ -0,0 +1,19 @@
+package dev.awn.accountmanagementservice.core.account.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class CustomerAccountSummary {
+    private long accountCount;
+
+    private long salaryAccountCount;
+
+    // Bitmap of taken account id suffixes, null when the customer's allocation has not been seeded yet
+    private Integer suffixes;
+
+    public boolean hasSalaryAccount() {
+        return salaryAccountCount > 0;
+    }
+}
@@ -0,0 +1,36 @@
+package dev.awn.accountmanagementservice.core.account.model;
+
+import dev.awn.accountmanagementservice.core.account.constant.CustomerType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Local copy of the customer fields the account service needs, fed by customer events
+@Entity
+@Table(name = "CUSTOMER_REPLICAS")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CustomerReplica {
+    @Id
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "NAME")
+    private String name;
+
+    @Column(name = "TYPE")
+    @Enumerated(EnumType.STRING)
+    private CustomerType type;
+
+    // Deleted customers are kept as tombstones, so an older snapshot page or event cannot bring them back
+    @Column(name = "DELETED", nullable = false)
+    private boolean deleted;
+
+    // Time of the event or snapshot this row was last written from
+    @Column(name = "VERSION_TIME", nullable = false)
+    private LocalDateTime versionTime;
+}
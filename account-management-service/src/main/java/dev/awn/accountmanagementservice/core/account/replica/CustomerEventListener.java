@@ -0,0 +1,35 @@
+package dev.awn.accountmanagementservice.core.account.replica;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerEventDTO;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerEventListener {
+    private final static Logger logger = LoggerFactory.getLogger(CustomerEventListener.class);
+
+    private final CustomerReplicas customerReplicas;
+    private final ObjectMapper objectMapper;
+
+    // Events are keyed by customer id, so the events of one customer always arrive in order
+    @KafkaListener(topics = "customer-events-topic",
+            groupId = "customer-replica-consumer-group")
+    public void onCustomerEvent(String payload) {
+        CustomerEventDTO event;
+        try {
+            event = objectMapper.readValue(payload, CustomerEventDTO.class);
+        } catch (JsonProcessingException e) {
+            logger.error("could not read customer event, will be skipping it - {}", payload, e);
+            return;
+        }
+
+        logger.info("received a {} event of customer of id - {}", event.getType(), event.getCustomerId());
+        customerReplicas.apply(event);
+    }
+}
@@ -0,0 +1,61 @@
+package dev.awn.accountmanagementservice.core.account.replica;
+
+import dev.awn.accountmanagementservice.common.config.replica.CustomerReplicaProperties;
+import dev.awn.accountmanagementservice.core.account.client.CustomerClient;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerSnapshotDTO;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills an empty customer replica from the customer service snapshot endpoint, page by page.
+ * <p>
+ * Runs in the background once the application is ready. Lookups fall back to the customer service until the
+ * replica is filled, and events consumed meanwhile are never overwritten by the older snapshot pages.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(CustomerReplicaProperties.class)
+public class CustomerReplicaBootstrapper {
+    private final static Logger logger = LoggerFactory.getLogger(CustomerReplicaBootstrapper.class);
+
+    private final CustomerReplicas customerReplicas;
+    private final CustomerClient customerClient;
+    private final CustomerReplicaProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrapIfEmpty() {
+        if(!properties.isBootstrapEnabled() || !customerReplicas.isEmpty()) {
+            return;
+        }
+
+        Thread bootstrap = new Thread(this::bootstrap, "customer-replica-bootstrap");
+        bootstrap.setDaemon(true);
+        bootstrap.start();
+    }
+
+    public void bootstrap() {
+        logger.info("customer replica is empty, will be copying every customer from the customer service");
+        int copied = 0;
+        Long afterId = 0L;
+
+        try {
+            while(afterId != null) {
+                CustomerSnapshotDTO snapshot = customerClient.getCustomerSnapshot(afterId, properties.getBootstrapPageSize());
+                customerReplicas.apply(snapshot);
+
+                copied += snapshot.getCustomers().size();
+                afterId = snapshot.getNextAfterId();
+            }
+        } catch (RuntimeException e) {
+            logger.error("could not finish the customer replica bootstrap after {} customer/s, lookups will keep falling back to the customer service", copied, e);
+            return;
+        }
+
+        logger.info("customer replica bootstrap copied {} customer/s", copied);
+    }
+}
@@ -0,0 +1,116 @@
+package dev.awn.accountmanagementservice.core.account.replica;
+
+import dev.awn.accountmanagementservice.core.account.constant.CustomerEventType;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerDTO;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerEventDTO;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerSnapshotDTO;
+import dev.awn.accountmanagementservice.core.account.model.CustomerReplica;
+import dev.awn.accountmanagementservice.core.account.repository.CustomerReplicaRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Local read replica of customers, so account creation does not call the customer service for every request.
+ * <p>
+ * Rows are written from customer events and from snapshot pages, and a row only ever moves forward in time:
+ * whatever arrives with an older version than the stored one is ignored. A customer missing from the replica
+ * is not necessarily missing, callers fall back to the customer service for those.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerReplicas {
+    private final static Logger logger = LoggerFactory.getLogger(CustomerReplicas.class);
+
+    private final CustomerReplicaRepository replicaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public Optional<CustomerReplica> find(long customerId) {
+        return replicaRepository.findById(customerId);
+    }
+
+    public Map<Long, CustomerReplica> findAll(Collection<Long> customerIds) {
+        return replicaRepository.findAllById(customerIds)
+                                .stream()
+                                .collect(Collectors.toMap(CustomerReplica::getId, Function.identity()));
+    }
+
+    public boolean isEmpty() {
+        return replicaRepository.count() == 0;
+    }
+
+    public void apply(CustomerEventDTO event) {
+        boolean deleted = event.getType() == CustomerEventType.DELETED;
+        CustomerReplica replica = deleted
+                ? CustomerReplica.builder().id(event.getCustomerId()).deleted(true).versionTime(event.getEventTime()).build()
+                : toReplica(event.getCustomer(), event.getEventTime());
+
+        logger.info("will be applying a {} event of customer of id - {} to the replica", event.getType(), event.getCustomerId());
+        apply(List.of(replica));
+    }
+
+    public void apply(CustomerSnapshotDTO snapshot) {
+        logger.info("will be applying a snapshot page of {} customer/s to the replica", snapshot.getCustomers().size());
+        apply(snapshot.getCustomers()
+                      .stream()
+                      .map(customer -> toReplica(customer, snapshot.getSnapshotTime()))
+                      .toList());
+    }
+
+    public CustomerDTO toDto(CustomerReplica replica) {
+        return CustomerDTO.builder()
+                          .id(replica.getId())
+                          .name(replica.getName())
+                          .type(replica.getType())
+                          .build();
+    }
+
+    private void apply(List<CustomerReplica> replicas) {
+        try {
+            write(replicas);
+        } catch (DataIntegrityViolationException e) {
+            // The event listener and the bootstrap inserted the same customer at once, the second pass updates it
+            logger.info("customer replica rows were inserted concurrently, will be retrying as updates");
+            write(replicas);
+        }
+    }
+
+    private void write(List<CustomerReplica> replicas) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, CustomerReplica> existing = findAll(replicas.stream().map(CustomerReplica::getId).toList());
+            List<CustomerReplica> inserts = new ArrayList<>();
+
+            for(CustomerReplica replica : replicas) {
+                CustomerReplica current = existing.get(replica.getId());
+                if(current == null) {
+                    inserts.add(replica);
+                } else if(!replica.getVersionTime().isBefore(current.getVersionTime())) {
+                    current.setName(replica.getName());
+                    current.setType(replica.getType());
+                    current.setDeleted(replica.isDeleted());
+                    current.setVersionTime(replica.getVersionTime());
+                }
+            }
+
+            replicaRepository.insertAll(inserts);
+        });
+    }
+
+    private static CustomerReplica toReplica(CustomerDTO customer, LocalDateTime versionTime) {
+        return CustomerReplica.builder()
+                              .id(customer.getId())
+                              .name(customer.getName())
+                              .type(customer.getType())
+                              .deleted(false)
+                              .versionTime(versionTime)
+                              .build();
+    }
+}
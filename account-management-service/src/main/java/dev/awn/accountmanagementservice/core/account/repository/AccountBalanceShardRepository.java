@@ -0,0 +1,62 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import dev.awn.accountmanagementservice.core.account.model.AccountBalanceShard;
+import dev.awn.accountmanagementservice.core.account.model.AccountBalanceShardId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AccountBalanceShardRepository extends JpaRepository<AccountBalanceShard, AccountBalanceShardId> {
+
+    // Each row holds an account id and its number of shards
+    @Query("SELECT s.accountId, COUNT(s) FROM AccountBalanceShard s GROUP BY s.accountId")
+    List<Object[]> countShardsByAccountId();
+
+    // Each row holds an account id and the sum of its shards
+    @Query("SELECT s.accountId, SUM(s.balance) FROM AccountBalanceShard s GROUP BY s.accountId")
+    List<Object[]> sumBalanceByAccountIds();
+
+    long countByAccountId(long accountId);
+
+    @Query("SELECT COALESCE(SUM(s.balance), 0) FROM AccountBalanceShard s WHERE s.accountId = :accountId")
+    BigDecimal sumBalanceByAccountId(@Param("accountId") long accountId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<AccountBalanceShard> findByAccountIdOrderByShard(long accountId);
+
+    // Single shard writes lock nothing but their own row, which is what lets a hot account take concurrent writes
+    @Modifying
+    @Query("UPDATE AccountBalanceShard s SET s.balance = s.balance + :amount " +
+            "WHERE s.accountId = :accountId AND s.shard = :shard")
+    int credit(@Param("accountId") long accountId,
+               @Param("shard") int shard,
+               @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query("UPDATE AccountBalanceShard s SET s.balance = s.balance - :amount " +
+            "WHERE s.accountId = :accountId AND s.shard = :shard AND s.balance >= :amount")
+    int debit(@Param("accountId") long accountId,
+              @Param("shard") int shard,
+              @Param("amount") BigDecimal amount);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AccountBalanceShard s WHERE s.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") long accountId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AccountBalanceShard s WHERE s.accountId IN " +
+            "(SELECT a.id FROM Account a WHERE a.customerId IN :customerIds)")
+    int deleteByCustomerIdIn(@Param("customerIds") Collection<Long> customerIds);
+}
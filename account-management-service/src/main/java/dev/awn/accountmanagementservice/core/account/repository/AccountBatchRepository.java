@@ -0,0 +1,11 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import dev.awn.accountmanagementservice.core.account.model.Account;
+
+import java.util.List;
+
+public interface AccountBatchRepository {
+    Account insert(Account account);
+
+    void insertAll(List<Account> accounts);
+}
@@ -0,0 +1,42 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class AccountBatchRepositoryImpl implements AccountBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    @Transactional
+    public Account insert(Account account) {
+        entityManager.persist(account);
+        return account;
+    }
+
+    // persist() rather than save() - account ids are assigned, so save() would merge and select every row first
+    @Override
+    @Transactional
+    public void insertAll(List<Account> accounts) {
+        for(int i = 0; i < accounts.size(); i++) {
+            entityManager.persist(accounts.get(i));
+
+            if((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
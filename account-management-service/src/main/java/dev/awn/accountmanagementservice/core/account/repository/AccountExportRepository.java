@@ -0,0 +1,10 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface AccountExportRepository {
+    Stream<AccountDTO> streamAll(LocalDateTime modifiedSince, int fetchSize);
+}
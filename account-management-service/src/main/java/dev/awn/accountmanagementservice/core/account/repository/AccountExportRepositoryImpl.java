@@ -0,0 +1,35 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public class AccountExportRepositoryImpl implements AccountExportRepository {
+    private final static String SELECT = "SELECT new dev.awn.accountmanagementservice.core.account.dto.AccountDTO(" +
+            "a.id, a.customerId, a.balance, a.status, a.type, COALESCE(a.modificationTime, a.creationTime)) FROM Account a";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Rows come off the result set as the stream is consumed and straight into DTOs, nothing is kept in the
+    // persistence context. Sharded accounts are always included, their balance changes leave MODIFICATION_TIME alone
+    @Override
+    public Stream<AccountDTO> streamAll(LocalDateTime modifiedSince, int fetchSize) {
+        TypedQuery<AccountDTO> query;
+        if(modifiedSince == null) {
+            query = entityManager.createQuery(SELECT + " ORDER BY a.id", AccountDTO.class);
+        } else {
+            query = entityManager.createQuery(SELECT + " WHERE COALESCE(a.modificationTime, a.creationTime) >= :modifiedSince " +
+                                                      "OR a.id IN (SELECT s.accountId FROM AccountBalanceShard s) ORDER BY a.id", AccountDTO.class)
+                                 .setParameter("modifiedSince", modifiedSince);
+        }
+
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                    .getResultStream();
+    }
+}
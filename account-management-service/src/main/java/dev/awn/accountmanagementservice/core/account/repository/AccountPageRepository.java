@@ -0,0 +1,11 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+
+import java.util.List;
+
+public interface AccountPageRepository {
+    List<Account> findPage(Long customerId, AccountType type, AccountStatus status, long afterId, int limit);
+}
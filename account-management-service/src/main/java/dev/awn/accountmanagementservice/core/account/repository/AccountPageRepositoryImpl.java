@@ -0,0 +1,50 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class AccountPageRepositoryImpl implements AccountPageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Keyset rather than OFFSET, a page seeks past afterId on an index instead of reading and discarding every row before it.
+    // Only the filters given end up in the WHERE clause, so the plan is never left with an "OR :x IS NULL" it cannot index
+    @Override
+    @Transactional(readOnly = true)
+    public List<Account> findPage(Long customerId, AccountType type, AccountStatus status, long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT a FROM Account a WHERE a.id > :afterId");
+        if(customerId != null) {
+            jpql.append(" AND a.customerId = :customerId");
+        }
+        if(type != null) {
+            jpql.append(" AND a.type = :type");
+        }
+        if(status != null) {
+            jpql.append(" AND a.status = :status");
+        }
+        jpql.append(" ORDER BY a.id");
+
+        TypedQuery<Account> query = entityManager.createQuery(jpql.toString(), Account.class)
+                                                 .setParameter("afterId", afterId)
+                                                 .setMaxResults(limit);
+        if(customerId != null) {
+            query.setParameter("customerId", customerId);
+        }
+        if(type != null) {
+            query.setParameter("type", type);
+        }
+        if(status != null) {
+            query.setParameter("status", status);
+        }
+
+        return query.getResultList();
+    }
+}
@@ -1,18 +1,91 @@
 package dev.awn.accountmanagementservice.core.account.repository;
 
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
 import dev.awn.accountmanagementservice.core.account.constant.AccountType;
 import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.model.CustomerAccountSummary;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AccountRepository extends JpaRepository<Account, Long> {
+public interface AccountRepository extends JpaRepository<Account, Long>, AccountBatchRepository, AccountPageRepository,
+        AccountExportRepository {
     Optional<Account> findByCustomerIdAndType(long customerId, AccountType accountType);
 
     List<Account> findByCustomerId(long customerId);
 
-    int deleteAllByCustomerId(long customerId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") long id);
+
+    List<Account> findByCustomerIdIn(Collection<Long> customerIds);
+
+    @Query("SELECT a.id FROM Account a WHERE a.customerId = :customerId")
+    List<Long> findIdsByCustomerId(@Param("customerId") long customerId);
+
+    @Query("SELECT DISTINCT a.customerId FROM Account a WHERE a.customerId IN :customerIds AND a.type = :type")
+    List<Long> findCustomerIdsByCustomerIdInAndType(@Param("customerIds") Collection<Long> customerIds,
+                                                    @Param("type") AccountType type);
+
+    // Everything createAccount validates against, fetched in a single read-only round trip
+    @Transactional(readOnly = true)
+    @Query("SELECT new dev.awn.accountmanagementservice.core.account.model.CustomerAccountSummary(" +
+            "COUNT(a), " +
+            "COALESCE(SUM(CASE WHEN a.type = :salary THEN 1 ELSE 0 END), 0), " +
+            "(SELECT s.suffixes FROM AccountSuffixAllocation s WHERE s.customerId = :customerId)) " +
+            "FROM Account a WHERE a.customerId = :customerId")
+    CustomerAccountSummary summarizeByCustomerId(@Param("customerId") long customerId,
+                                                 @Param("salary") AccountType salary);
+
+    // The validator of conditional GETs, read without loading the account
+    @Query("SELECT COALESCE(a.modificationTime, a.creationTime) FROM Account a WHERE a.id = :id")
+    Optional<LocalDateTime> findLastModifiedById(@Param("id") long id);
+
+    // Balance changes are applied in place and guarded in the WHERE clause, so they can never be lost or overdraw
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = a.balance - :amount, a.modificationTime = :time " +
+            "WHERE a.id = :id AND a.status = :status AND a.balance >= :amount")
+    int debit(@Param("id") long id,
+              @Param("amount") BigDecimal amount,
+              @Param("status") AccountStatus status,
+              @Param("time") LocalDateTime time);
+
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = a.balance + :amount, a.modificationTime = :time " +
+            "WHERE a.id = :id AND a.status = :status")
+    int credit(@Param("id") long id,
+               @Param("amount") BigDecimal amount,
+               @Param("status") AccountStatus status,
+               @Param("time") LocalDateTime time);
+
+    // Ledger postings were already checked when they were journaled, applying them is unconditional
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = a.balance + :amount, a.ledgerSequence = :sequence, " +
+            "a.modificationTime = :time WHERE a.id = :id")
+    int applyDelta(@Param("id") long id,
+                   @Param("amount") BigDecimal amount,
+                   @Param("sequence") long sequence,
+                   @Param("time") LocalDateTime time);
+
+    // Reports whether the account was there, the derived deleteById does not
+    @Modifying
+    @Query("DELETE FROM Account a WHERE a.id = :id")
+    int deleteAccountById(@Param("id") long id);
+
+    // A single set-based statement, the derived deleteAllBy... would load every account and delete them one by one
+    @Modifying
+    @Query("DELETE FROM Account a WHERE a.customerId IN :customerIds")
+    int deleteAllByCustomerIdIn(@Param("customerIds") Collection<Long> customerIds);
 }
@@ -0,0 +1,41 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import dev.awn.accountmanagementservice.core.account.model.AccountSuffixAllocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
+
+// Every allocation step runs in its own short transaction so that a retry always reads the latest committed bitmap
+@Repository
+public interface AccountSuffixAllocationRepository extends JpaRepository<AccountSuffixAllocation, Long> {
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Query("SELECT a.suffixes FROM AccountSuffixAllocation a WHERE a.customerId = :customerId")
+    Optional<Integer> findSuffixesByCustomerId(@Param("customerId") long customerId);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO ACCOUNT_SUFFIX_ALLOCATIONS (CUSTOMER_ID, SUFFIXES) VALUES (:customerId, :suffixes)",
+            nativeQuery = true)
+    int insert(@Param("customerId") long customerId, @Param("suffixes") int suffixes);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE AccountSuffixAllocation a SET a.suffixes = :next " +
+            "WHERE a.customerId = :customerId AND a.suffixes = :expected")
+    int compareAndSet(@Param("customerId") long customerId,
+                      @Param("expected") int expected,
+                      @Param("next") int next);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AccountSuffixAllocation a WHERE a.customerId IN :customerIds")
+    int deleteByCustomerIdIn(@Param("customerIds") Collection<Long> customerIds);
+}
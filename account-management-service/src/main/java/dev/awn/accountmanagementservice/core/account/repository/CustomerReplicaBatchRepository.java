@@ -0,0 +1,9 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import dev.awn.accountmanagementservice.core.account.model.CustomerReplica;
+
+import java.util.List;
+
+public interface CustomerReplicaBatchRepository {
+    void insertAll(List<CustomerReplica> replicas);
+}
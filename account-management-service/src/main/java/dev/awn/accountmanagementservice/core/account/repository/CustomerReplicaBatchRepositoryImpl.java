@@ -0,0 +1,32 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import dev.awn.accountmanagementservice.core.account.model.CustomerReplica;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class CustomerReplicaBatchRepositoryImpl implements CustomerReplicaBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    @Transactional
+    public void insertAll(List<CustomerReplica> replicas) {
+        for(int i = 0; i < replicas.size(); i++) {
+            entityManager.persist(replicas.get(i));
+
+            if((i + 1) % batchSize == 0) {
+                entityManager.flush();
+            }
+        }
+
+        entityManager.flush();
+    }
+}
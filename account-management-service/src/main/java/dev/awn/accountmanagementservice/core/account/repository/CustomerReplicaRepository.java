@@ -0,0 +1,9 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import dev.awn.accountmanagementservice.core.account.model.CustomerReplica;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CustomerReplicaRepository extends JpaRepository<CustomerReplica, Long>, CustomerReplicaBatchRepository {
+}
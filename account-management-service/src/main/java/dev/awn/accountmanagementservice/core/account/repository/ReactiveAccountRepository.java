@@ -0,0 +1,125 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.model.CustomerAccountSummary;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// The same statements AccountRepository runs, over R2DBC for the reactive account API
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAccountRepository {
+    private final DatabaseClient databaseClient;
+
+    public Mono<Account> findById(long id) {
+        return databaseClient.sql("SELECT ID, CUSTOMER_ID, BALANCE, STATUS, TYPE, CREATION_TIME, MODIFICATION_TIME " +
+                                  "FROM ACCOUNTS WHERE ID = :id")
+                             .bind("id", id)
+                             .map(ReactiveAccountRepository::toAccount)
+                             .one();
+    }
+
+    public Mono<Long> findIdByCustomerIdAndType(long customerId, AccountType type) {
+        return databaseClient.sql("SELECT ID FROM ACCOUNTS WHERE CUSTOMER_ID = :customerId AND TYPE = :type")
+                             .bind("customerId", customerId)
+                             .bind("type", type.name())
+                             .map(row -> row.get("ID", Long.class))
+                             .first();
+    }
+
+    public Flux<Long> findIdsByCustomerId(long customerId) {
+        return databaseClient.sql("SELECT ID FROM ACCOUNTS WHERE CUSTOMER_ID = :customerId")
+                             .bind("customerId", customerId)
+                             .map(row -> row.get("ID", Long.class))
+                             .all();
+    }
+
+    // Everything createAccount validates against, fetched in a single round trip
+    public Mono<CustomerAccountSummary> summarizeByCustomerId(long customerId) {
+        return databaseClient.sql("SELECT COUNT(*) AS ACCOUNT_COUNT, " +
+                                  "COALESCE(SUM(CASE WHEN TYPE = :salary THEN 1 ELSE 0 END), 0) AS SALARY_ACCOUNT_COUNT, " +
+                                  "(SELECT SUFFIXES FROM ACCOUNT_SUFFIX_ALLOCATIONS WHERE CUSTOMER_ID = :customerId) AS SUFFIXES " +
+                                  "FROM ACCOUNTS WHERE CUSTOMER_ID = :customerId")
+                             .bind("customerId", customerId)
+                             .bind("salary", AccountType.SALARY.name())
+                             .map(row -> {
+                                 Number suffixes = (Number) row.get("SUFFIXES");
+                                 return new CustomerAccountSummary(
+                                         ((Number) row.get("ACCOUNT_COUNT")).longValue(),
+                                         ((Number) row.get("SALARY_ACCOUNT_COUNT")).longValue(),
+                                         suffixes == null ? null : suffixes.intValue()
+                                 );
+                             })
+                             .one();
+    }
+
+    public Mono<Long> insert(Account account) {
+        return databaseClient.sql("INSERT INTO ACCOUNTS (ID, CUSTOMER_ID, BALANCE, STATUS, TYPE, CREATION_TIME) " +
+                                  "VALUES (:id, :customerId, :balance, :status, :type, :creationTime)")
+                             .bind("id", account.getId())
+                             .bind("customerId", account.getCustomerId())
+                             .bind("balance", account.getBalance())
+                             .bind("status", account.getStatus().name())
+                             .bind("type", account.getType().name())
+                             .bind("creationTime", account.getCreationTime())
+                             .fetch()
+                             .rowsUpdated();
+    }
+
+    // CUSTOMER_ID and CREATION_TIME are not updatable, like in the JPA mapping
+    public Mono<Long> update(Account account) {
+        return databaseClient.sql("UPDATE ACCOUNTS SET BALANCE = :balance, STATUS = :status, TYPE = :type, " +
+                                  "MODIFICATION_TIME = :modificationTime WHERE ID = :id")
+                             .bind("id", account.getId())
+                             .bind("balance", account.getBalance())
+                             .bind("status", account.getStatus().name())
+                             .bind("type", account.getType().name())
+                             .bind("modificationTime", account.getModificationTime())
+                             .fetch()
+                             .rowsUpdated();
+    }
+
+    public Mono<Long> deleteById(long id) {
+        return databaseClient.sql("DELETE FROM ACCOUNTS WHERE ID = :id")
+                             .bind("id", id)
+                             .fetch()
+                             .rowsUpdated();
+    }
+
+    public Mono<BigDecimal> sumShardBalanceByAccountId(long accountId) {
+        return databaseClient.sql("SELECT COALESCE(SUM(BALANCE), 0) AS BALANCE FROM ACCOUNT_BALANCE_SHARDS WHERE ACCOUNT_ID = :accountId")
+                             .bind("accountId", accountId)
+                             .map(row -> row.get("BALANCE", BigDecimal.class))
+                             .one();
+    }
+
+    public Mono<Long> deleteShardsByAccountId(long accountId) {
+        return databaseClient.sql("DELETE FROM ACCOUNT_BALANCE_SHARDS WHERE ACCOUNT_ID = :accountId")
+                             .bind("accountId", accountId)
+                             .fetch()
+                             .rowsUpdated();
+    }
+
+    private static Account toAccount(Readable row) {
+        return Account.builder()
+                      .id(row.get("ID", Long.class))
+                      .customerId(row.get("CUSTOMER_ID", Long.class))
+                      .balance(row.get("BALANCE", BigDecimal.class))
+                      .status(AccountStatus.valueOf(row.get("STATUS", String.class)))
+                      .type(AccountType.valueOf(row.get("TYPE", String.class)))
+                      .creationTime(row.get("CREATION_TIME", LocalDateTime.class))
+                      .modificationTime(row.get("MODIFICATION_TIME", LocalDateTime.class))
+                      .build();
+    }
+}
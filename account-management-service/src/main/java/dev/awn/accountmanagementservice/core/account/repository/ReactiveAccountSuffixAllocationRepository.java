@@ -0,0 +1,40 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+// The same statements AccountSuffixAllocationRepository runs, over R2DBC for the reactive account API
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAccountSuffixAllocationRepository {
+    private final DatabaseClient databaseClient;
+
+    public Mono<Integer> findSuffixesByCustomerId(long customerId) {
+        return databaseClient.sql("SELECT SUFFIXES FROM ACCOUNT_SUFFIX_ALLOCATIONS WHERE CUSTOMER_ID = :customerId")
+                             .bind("customerId", customerId)
+                             .map(row -> ((Number) row.get("SUFFIXES")).intValue())
+                             .one();
+    }
+
+    public Mono<Long> insert(long customerId, int suffixes) {
+        return databaseClient.sql("INSERT INTO ACCOUNT_SUFFIX_ALLOCATIONS (CUSTOMER_ID, SUFFIXES) VALUES (:customerId, :suffixes)")
+                             .bind("customerId", customerId)
+                             .bind("suffixes", suffixes)
+                             .fetch()
+                             .rowsUpdated();
+    }
+
+    public Mono<Long> compareAndSet(long customerId, int expected, int next) {
+        return databaseClient.sql("UPDATE ACCOUNT_SUFFIX_ALLOCATIONS SET SUFFIXES = :next " +
+                                  "WHERE CUSTOMER_ID = :customerId AND SUFFIXES = :expected")
+                             .bind("customerId", customerId)
+                             .bind("expected", expected)
+                             .bind("next", next)
+                             .fetch()
+                             .rowsUpdated();
+    }
+}
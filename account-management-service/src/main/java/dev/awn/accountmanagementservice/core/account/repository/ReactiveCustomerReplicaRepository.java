@@ -0,0 +1,32 @@
+package dev.awn.accountmanagementservice.core.account.repository;
+
+import dev.awn.accountmanagementservice.core.account.constant.CustomerType;
+import dev.awn.accountmanagementservice.core.account.model.CustomerReplica;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+// Read side of the customer replica for the reactive account API, the replica is still written through JPA
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveCustomerReplicaRepository {
+    private final DatabaseClient databaseClient;
+
+    public Mono<CustomerReplica> findById(long id) {
+        return databaseClient.sql("SELECT ID, NAME, TYPE, DELETED FROM CUSTOMER_REPLICAS WHERE ID = :id")
+                             .bind("id", id)
+                             .map(row -> {
+                                 String type = row.get("TYPE", String.class);
+                                 return CustomerReplica.builder()
+                                                       .id(row.get("ID", Long.class))
+                                                       .name(row.get("NAME", String.class))
+                                                       .type(type == null ? null : CustomerType.valueOf(type))
+                                                       .deleted(Boolean.TRUE.equals(row.get("DELETED", Boolean.class)))
+                                                       .build();
+                             })
+                             .one();
+    }
+}
@@ -1,15 +1,37 @@
 package dev.awn.accountmanagementservice.core.account.service;
 
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.dto.AccountBatchResponseDTO;
 import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import dev.awn.accountmanagementservice.core.account.dto.AccountPageDTO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collection;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 public interface AccountService {
     AccountDTO getAccount(long id);
 
+    Optional<LocalDateTime> getLastModified(long id);
+
+    AccountPageDTO getAccounts(Long customerId, AccountType type, AccountStatus status, long afterId, int limit);
+
     AccountDTO createAccount(AccountDTO accountDTO);
 
+    CompletableFuture<AccountDTO> createAccountAsync(AccountDTO accountDTO);
+
+    AccountBatchResponseDTO createAccounts(List<AccountDTO> accountDTOs);
+
     AccountDTO modifyAccount(AccountDTO accountDTO);
 
+    AccountDTO shardAccount(long id, int count);
+
     boolean removeAccount(long id);
+
+    int removeAccountsBy(Collection<Long> customerIds);
 }
@@ -0,0 +1,21 @@
+package dev.awn.accountmanagementservice.core.account.service;
+
+import dev.awn.accountmanagementservice.core.account.dto.AccountBatchResponseDTO;
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactiveAccountService {
+    Mono<AccountDTO> getAccount(long id);
+
+    Mono<AccountDTO> createAccount(AccountDTO accountDTO);
+
+    Mono<AccountBatchResponseDTO> createAccounts(List<AccountDTO> accountDTOs);
+
+    Mono<AccountDTO> modifyAccount(AccountDTO accountDTO);
+
+    Mono<AccountDTO> shardAccount(long id, int count);
+
+    Mono<Boolean> removeAccount(long id);
+}
@@ -1,39 +1,68 @@
 package dev.awn.accountmanagementservice.core.account.service.impl;
 
+import dev.awn.accountmanagementservice.common.config.lookup.CustomerLookupProperties;
 import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.common.exception.InternalServerErrorException;
 import dev.awn.accountmanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.accountmanagementservice.core.account.allocator.AccountSuffixAllocator;
+import dev.awn.accountmanagementservice.core.account.cache.AccountCache;
+import dev.awn.accountmanagementservice.core.account.cache.CustomerCache;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
 import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.dto.AccountBatchItemDTO;
+import dev.awn.accountmanagementservice.core.account.dto.AccountBatchResponseDTO;
 import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import dev.awn.accountmanagementservice.core.account.dto.AccountPageDTO;
 import dev.awn.accountmanagementservice.core.account.dto.CustomerDTO;
+import dev.awn.accountmanagementservice.core.account.lookup.CustomerLookupExecutor;
 import dev.awn.accountmanagementservice.core.account.mapper.AccountMapper;
 import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.model.CustomerAccountSummary;
+import dev.awn.accountmanagementservice.core.account.model.CustomerReplica;
+import dev.awn.accountmanagementservice.core.account.replica.CustomerReplicas;
 import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
 import dev.awn.accountmanagementservice.core.account.service.AccountService;
+import dev.awn.accountmanagementservice.core.account.shard.AccountBalanceShards;
+import dev.awn.accountmanagementservice.core.transfer.lock.AccountLockStripes;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@EnableConfigurationProperties(CustomerLookupProperties.class)
 public class AccountServiceImpl implements AccountService {
     private final static Logger logger = LoggerFactory.getLogger(AccountServiceImpl.class);
     private final long MAXIMUM_ACCOUNT_ID_RANGE = 9_999_999_999L;
     private final long MINIMUM_ACCOUNT_ID_RANGE = 1_000_000_001L;
+    private final int MAXIMUM_BATCH_SIZE = 1_000;
 
     private final AccountRepository accountRepository;
     private final AccountMapper accountMapper;
-    private final RestTemplate restTemplate;
+    private final AccountCache accountCache;
+    private final CustomerCache customerCache;
+    private final CustomerReplicas customerReplicas;
+    private final AccountSuffixAllocator suffixAllocator;
+    private final AccountBalanceShards balanceShards;
+    private final Validator validator;
+    private final CustomerLookupExecutor lookupExecutor;
+    private final CustomerLookupProperties lookupProperties;
+    private final AccountLockStripes lockStripes;
 
     @Override
     public AccountDTO getAccount(long id) {
@@ -43,7 +72,11 @@ public class AccountServiceImpl implements AccountService {
             throw new BadRequestException("invalid id - " + id);
         }
 
-        logger.info("will be getting the customer of id - {}", id);
+        return accountCache.get(id, this::loadAccount);
+    }
+
+    private AccountDTO loadAccount(long id) {
+        logger.info("account of id - {} is not cached, will be getting it", id);
         Optional<Account> account = accountRepository.findById(id);
 
         if(account.isEmpty()) {
@@ -52,64 +85,281 @@ public class AccountServiceImpl implements AccountService {
         }
 
         logger.info("an account of id - {} was found, will be returning it", id);
-        return accountMapper.toDto(account.get());
+        return toDto(account.get());
+    }
+
+    private AccountDTO toDto(Account account) {
+        if(!balanceShards.isSharded(account.getId())) {
+            return accountMapper.toDto(account);
+        }
+
+        logger.info("account of id - {} is sharded, will be summing its balance shards", account.getId());
+        account.setBalance(balanceShards.totalBalance(account));
+        AccountDTO accountDTO = accountMapper.toDto(account);
+
+        // Shard credits and debits leave the account row alone, its modification time does not cover the balance
+        accountDTO.setLastModified(null);
+        return accountDTO;
+    }
+
+    @Override
+    public Optional<LocalDateTime> getLastModified(long id) {
+        if(id > MAXIMUM_ACCOUNT_ID_RANGE || id < MINIMUM_ACCOUNT_ID_RANGE || balanceShards.isSharded(id)) {
+            return Optional.empty();
+        }
+
+        Optional<AccountDTO> cached = accountCache.getIfPresent(id);
+        if(cached.isPresent()) {
+            return Optional.ofNullable(cached.get().getLastModified());
+        }
+
+        logger.info("will be reading the modification time of account of id - {}", id);
+        return accountRepository.findLastModifiedById(id);
+    }
+
+    @Override
+    public AccountPageDTO getAccounts(Long customerId, AccountType type, AccountStatus status, long afterId, int limit) {
+        logger.info("will be checking if page limit - {} is valid", limit);
+        if(limit < 1 || limit > MAXIMUM_BATCH_SIZE) {
+            logger.warn("invalid page limit - {}", limit);
+            throw new BadRequestException("limit must be between 1 and " + MAXIMUM_BATCH_SIZE);
+        }
+
+        logger.info("will be getting up to {} account/s after id - {} of customer - {}, type - {} and status - {}",
+                limit, afterId, customerId, type, status);
+        List<AccountDTO> accounts = accountRepository.findPage(customerId, type, status, afterId, limit)
+                                                     .stream()
+                                                     .map(this::toDto)
+                                                     .toList();
+
+        return AccountPageDTO.builder()
+                             .accounts(accounts)
+                             .nextAfterId(accounts.size() < limit ? null : accounts.get(accounts.size() - 1).getId())
+                             .build();
     }
 
     @Override
     public AccountDTO createAccount(AccountDTO accountDTO) {
+        try {
+            return createAccountAsync(accountDTO).join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // The remote customer lookup and the local summary are independent, so they run side by side
+    @Override
+    public CompletableFuture<AccountDTO> createAccountAsync(AccountDTO accountDTO) {
+        long customerId = accountDTO.getCustomerId();
+        long timeoutMillis = lookupProperties.getTimeout().toMillis();
+        checkBalance(accountDTO);
+
+        logger.atInfo().addKeyValue("customerId", customerId).log("will be checking if customer exists");
+        CompletableFuture<CustomerDTO> customerLookup = lookupExecutor.supplyAsync(() -> getCustomerById(customerId))
+                                                                      .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+
+        logger.atInfo().addKeyValue("customerId", customerId).log("will be summarizing the existing accounts");
+        CompletableFuture<CustomerAccountSummary> summaryLookup = lookupExecutor.supplyAsync(() -> accountRepository.summarizeByCustomerId(customerId, AccountType.SALARY))
+                                                                                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+
+        CompletableFuture<AccountDTO> createdAccount = new CompletableFuture<>();
+        customerLookup.thenAcceptBoth(summaryLookup, (customer, summary) -> {
+            try {
+                createdAccount.complete(createAccount(accountDTO, customer, summary));
+            } catch (RuntimeException e) {
+                createdAccount.completeExceptionally(e);
+            }
+        });
+
+        // Whichever read fails first fails the create right away and gives up on the other one, a remote call
+        // already in flight is abandoned and stays bounded by the client timeouts
+        customerLookup.exceptionally(e -> {
+            if(e instanceof TimeoutException) {
+                logger.error("customer lookup of customerId - {} did not complete within {} ms", customerId, timeoutMillis);
+                e = new BadRequestException("customer service is unavailable or customer does not exist.");
+            }
+            createdAccount.completeExceptionally(e);
+            summaryLookup.cancel(true);
+            return null;
+        });
+        summaryLookup.exceptionally(e -> {
+            if(e instanceof TimeoutException) {
+                logger.error("account summary of customerId - {} did not complete within {} ms", customerId, timeoutMillis);
+                e = new InternalServerErrorException("could not read the existing accounts of customerId - " + customerId);
+            }
+            createdAccount.completeExceptionally(e);
+            customerLookup.cancel(true);
+            return null;
+        });
+
+        return createdAccount;
+    }
+
+    // Balances are bounded like transfer amounts, a larger one would let a transfer past the balance check that the
+    // ledger journal cannot record
+    private void checkBalance(AccountDTO accountDTO) {
+        if(accountDTO.getBalance() == null) {
+            return;
+        }
+
+        Set<ConstraintViolation<AccountDTO>> violations = validator.validateProperty(accountDTO, "balance");
+        if(!violations.isEmpty()) {
+            logger.warn("invalid balance - {}", accountDTO.getBalance());
+            throw new BadRequestException(violations.iterator().next().getMessage());
+        }
+    }
+
+    // The shards keep their part, so the requested balance has to be given and cover it
+    static void checkShardedBalance(long id, BigDecimal balance, BigDecimal shardBalance) {
+        if(balance == null || balance.compareTo(shardBalance) < 0) {
+            logger.warn("balance - {} of sharded account of id - {} does not cover its shards' {}", balance, id, shardBalance);
+            throw new BadRequestException("the balance of a sharded account must be given and cannot be below " + shardBalance);
+        }
+    }
+
+    private AccountDTO createAccount(AccountDTO accountDTO, CustomerDTO customer, CustomerAccountSummary summary) {
         long customerId = accountDTO.getCustomerId();
 
-        logger.info("will be checking if customer exists of customerId - {}", customerId);
-        CustomerDTO customer = getCustomerById(customerId);
         if (customer == null) {
             logger.warn("no customer found of customerId - {}", customerId);
             throw new BadRequestException("no customer found of customerId - " + customerId);
         }
 
-        logger.info("retrieving accounts for customerId - {}", customerId);
-        List<Account> existingAccounts = accountRepository.findByCustomerId(customerId);
-
-        if (existingAccounts.size() >= 10) {
-            logger.warn("customerId of - {} already has maximum number of accounts allowed", customerId);
+        if(summary.getAccountCount() >= AccountSuffixAllocator.MAXIMUM_SUFFIX) {
+            logger.warn("customerId of - {} already has {} account/s", customerId, summary.getAccountCount());
             throw new BadRequestException("customerId of - " + customerId + " already has maximum number of accounts allowed");
         }
 
         logger.info("will perform account type checking");
-        if(accountDTO.getType().equals(AccountType.SALARY)) {
-            logger.info("account type is SALARY, will be searching for account where customerId is {} and type is SALARY", customerId);
-            Optional<Account> accountOptional = accountRepository.findByCustomerIdAndType(customerId, AccountType.SALARY);
-            if(accountOptional.isPresent()) {
-                logger.warn("found a SALARY account of id - {}, will not be creating the acount", accountOptional.get().getId());
-                throw new BadRequestException("customer of customerId " + customerId + " already has a salary account");
-            }
+        if(accountDTO.getType().equals(AccountType.SALARY) && summary.hasSalaryAccount()) {
+            logger.warn("customer of customerId {} already has a SALARY account, will not be creating the account", customerId);
+            throw new BadRequestException("customer of customerId " + customerId + " already has a salary account");
         }
 
-        logger.info("will construct the account id suffixes (last 3 digits)");
-        Set<Integer> existingAccountSuffixes = existingAccounts.stream()
-                                                               .map(account -> (int) (account.getId() % 1000))
-                                                               .collect(Collectors.toSet());
-        logger.info("found the following suffixes -> {}", existingAccountSuffixes);
-
-        logger.info("will attempt to generate a new suffix");
-        int newSuffix = -1;
-        for (int i = 1; i <= 10; i++) {
-            if (!existingAccountSuffixes.contains(i)) {
-                newSuffix = i;
-                logger.info("found new suffix - {}", newSuffix);
-                break;
-            }
-        }
+        logger.info("will be allocating a new account id suffix (last 3 digits)");
+        int newSuffix = summary.getSuffixes() == null
+                ? suffixAllocator.allocate(customerId)
+                : suffixAllocator.allocateFrom(customerId, summary.getSuffixes());
 
         long newAccountId = customerId * 1000 + newSuffix;
-        logger.info("calculated new account id, produced the following - {}", newAccountId);
+        logger.atInfo().addKeyValue("accountId", newAccountId).log("calculated new account id");
         accountDTO.setId(newAccountId);
 
         Account account = accountMapper.toModel(accountDTO);
         account.setCreationTime(LocalDateTime.now());
 
         logger.info("will be saving the new account");
-        Account savedAccount = accountRepository.save(account);
-        return accountMapper.toDto(savedAccount);
+        try {
+            Account savedAccount = accountRepository.insert(account);
+            return accountMapper.toDto(savedAccount);
+        } catch (DataIntegrityViolationException e) {
+            // The id is already taken by a stored account, so its suffix stays held
+            logger.warn("account of id - {} already exists, will not be releasing its suffix", newAccountId);
+            throw e;
+        } catch (RuntimeException e) {
+            logger.warn("could not save account of id - {}, will be releasing its suffix", newAccountId);
+            suffixAllocator.release(newAccountId);
+            throw e;
+        }
+    }
+
+    @Override
+    public AccountBatchResponseDTO createAccounts(List<AccountDTO> accountDTOs) {
+        logger.info("will be checking if the batch of {} account/s is valid", accountDTOs.size());
+        if(accountDTOs.size() > MAXIMUM_BATCH_SIZE) {
+            logger.warn("batch of {} account/s exceeds the maximum of {}", accountDTOs.size(), MAXIMUM_BATCH_SIZE);
+            throw new BadRequestException("a maximum of " + MAXIMUM_BATCH_SIZE + " accounts can be created at once");
+        }
+
+        AccountBatchItemDTO[] results = new AccountBatchItemDTO[accountDTOs.size()];
+        Set<Long> customerIds = new HashSet<>();
+        for(int i = 0; i < accountDTOs.size(); i++) {
+            AccountDTO accountDTO = accountDTOs.get(i);
+            Set<ConstraintViolation<AccountDTO>> violations = validator.validate(accountDTO);
+
+            if(!violations.isEmpty()) {
+                String error = violations.stream()
+                                         .map(ConstraintViolation::getMessage)
+                                         .sorted()
+                                         .collect(Collectors.joining(", "));
+                results[i] = failedItem(i, error);
+            } else {
+                customerIds.add(accountDTO.getCustomerId());
+            }
+        }
+
+        logger.info("will be checking if {} distinct customer/s exist", customerIds.size());
+        Map<Long, CustomerDTO> customers = getCustomersByIds(customerIds);
+
+        logger.info("retrieving customers that already have a SALARY account out of {} customer/s", customers.size());
+        Set<Long> customersWithSalary = customers.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(accountRepository.findCustomerIdsByCustomerIdInAndType(customers.keySet(), AccountType.SALARY));
+
+        Map<Long, List<Integer>> pendingByCustomer = new LinkedHashMap<>();
+        for(int i = 0; i < accountDTOs.size(); i++) {
+            if(results[i] != null) {
+                continue;
+            }
+
+            AccountDTO accountDTO = accountDTOs.get(i);
+            long customerId = accountDTO.getCustomerId();
+
+            if(!customers.containsKey(customerId)) {
+                results[i] = failedItem(i, "no customer found of customerId - " + customerId);
+            } else if(accountDTO.getType().equals(AccountType.SALARY) && !customersWithSalary.add(customerId)) {
+                results[i] = failedItem(i, "customer of customerId " + customerId + " already has a salary account");
+            } else {
+                pendingByCustomer.computeIfAbsent(customerId, id -> new ArrayList<>()).add(i);
+            }
+        }
+
+        logger.info("will be allocating account id suffixes for {} customer/s", pendingByCustomer.size());
+        Map<Long, List<Integer>> allocatedByCustomer = new HashMap<>();
+        List<Account> accounts = new ArrayList<>();
+        LocalDateTime creationTime = LocalDateTime.now();
+        for(Map.Entry<Long, List<Integer>> pending : pendingByCustomer.entrySet()) {
+            long customerId = pending.getKey();
+            List<Integer> indices = pending.getValue();
+            List<Integer> suffixes = suffixAllocator.allocate(customerId, indices.size());
+            allocatedByCustomer.put(customerId, suffixes);
+
+            for(int j = 0; j < indices.size(); j++) {
+                int i = indices.get(j);
+                if(j >= suffixes.size()) {
+                    results[i] = failedItem(i, "customerId of - " + customerId + " already has maximum number of accounts allowed");
+                    continue;
+                }
+
+                Account account = accountMapper.toModel(accountDTOs.get(i));
+                account.setId(customerId * 1000 + suffixes.get(j));
+                account.setCreationTime(creationTime);
+                accounts.add(account);
+
+                results[i] = AccountBatchItemDTO.builder()
+                                                .index(i)
+                                                .account(accountMapper.toDto(account))
+                                                .build();
+            }
+        }
+
+        logger.info("will be saving {} new account/s in batches", accounts.size());
+        try {
+            accountRepository.insertAll(accounts);
+        } catch (RuntimeException e) {
+            logger.warn("could not save the batch, will be releasing {} allocated suffix/es", accounts.size());
+            allocatedByCustomer.forEach(suffixAllocator::release);
+            throw e;
+        }
+
+        return AccountBatchResponseDTO.builder()
+                                      .created(accounts.size())
+                                      .failed(accountDTOs.size() - accounts.size())
+                                      .results(Arrays.asList(results))
+                                      .build();
     }
 
     @Override
@@ -121,6 +371,7 @@ public class AccountServiceImpl implements AccountService {
             logger.warn("invalid id - {}", id);
             throw new BadRequestException("invalid id - " + id);
         }
+        checkBalance(accountDTO);
 
         logger.info("will be checking if an account exists of id - {}", id);
         Optional<Account> accountOptional = accountRepository.findById(id);
@@ -151,16 +402,51 @@ public class AccountServiceImpl implements AccountService {
             }
         }
 
-        Account account = accountMapper.toModel(accountDTO);
-        account.setModificationTime(LocalDateTime.now());
+        boolean sharded = balanceShards.isSharded(id);
+        if(sharded && accountDTO.getStatus() != AccountStatus.ACTIVE) {
+            logger.warn("account of id - {} is sharded, will not be deactivating it", id);
+            throw new BadRequestException("a sharded account cannot be deactivated");
+        }
+
+        // Transfers update the balance under the same stripe, so neither can overwrite the other's write
+        long lockKey = AccountBalanceShards.lockKey(id, AccountBalanceShards.UNSHARDED);
+        Account savedAccount = lockStripes.callLocked(lockKey, lockKey, () -> {
+            Account account = accountMapper.toModel(accountDTO);
+            account.setModificationTime(LocalDateTime.now());
+
+            if(sharded) {
+                BigDecimal shardBalance = balanceShards.shardBalance(id);
+                checkShardedBalance(id, accountDTO.getBalance(), shardBalance);
 
-        logger.info("will be saving modified account");
-        Account savedAccount = accountRepository.save(account);
+                logger.info("account of id - {} is sharded, the shards keep their part of the requested balance", id);
+                account.setBalance(account.getBalance().subtract(shardBalance));
+            }
+
+            logger.info("will be saving modified account");
+            return accountRepository.save(account);
+        });
+        accountCache.evict(id);
 
         return accountMapper.toDto(savedAccount);
     }
 
     @Override
+    public AccountDTO shardAccount(long id, int count) {
+        logger.info("will be checking if id - {} is valid", id);
+        if(id > MAXIMUM_ACCOUNT_ID_RANGE || id < MINIMUM_ACCOUNT_ID_RANGE) {
+            logger.warn("invalid id - {}", id);
+            throw new BadRequestException("invalid id - " + id);
+        }
+
+        logger.info("will be sharding the balance of account of id - {} into {} shards", id, count);
+        balanceShards.enable(id, count);
+        accountCache.evict(id);
+
+        return getAccount(id);
+    }
+
+    @Override
+    @Transactional
     public boolean removeAccount(long id) {
         logger.info("will be checking if id - {} is valid", id);
         if(id < MINIMUM_ACCOUNT_ID_RANGE || id > MAXIMUM_ACCOUNT_ID_RANGE) {
@@ -169,33 +455,73 @@ public class AccountServiceImpl implements AccountService {
         }
 
         logger.info("will be deleting account of id - {}", id);
-        accountRepository.deleteById(id);
+        int deleted = accountRepository.deleteAccountById(id);
+        accountCache.evict(id);
+        if(deleted == 0) {
+            // Nothing was deleted, so its suffix is either free already or held by an account being created right now
+            logger.warn("no account found of id - {}, will not be releasing its suffix", id);
+            return false;
+        }
+
+        balanceShards.remove(id);
+        suffixAllocator.releaseAfterCommit(id);
 
         return true;
     }
 
-    @KafkaListener(topics = "account-cleanup-topic",
-            groupId = "account-cleanup-topic-consumer-group")
+    @Override
     @Transactional
-    public void removeAccountsBy(String customerId) {
-        logger.info("received an event where customer of id - {} was deleted", customerId);
+    public int removeAccountsBy(Collection<Long> customerIds) {
+        logger.info("will be deleting all accounts under {} deleted customer/s", customerIds.size());
+        balanceShards.removeAll(customerIds);
+        int accountsDeleted = accountRepository.deleteAllByCustomerIdIn(customerIds);
+        suffixAllocator.releaseAll(customerIds);
 
-        logger.info("will be deleting all accounts under customer id of - {}", customerId);
-        int accountsDeleted = accountRepository.deleteAllByCustomerId(Long.parseLong(customerId));
+        logger.info("removed {} account/s of {} customer/s", accountsDeleted, customerIds.size());
+        customerCache.evictAll(customerIds);
+        accountCache.evictAllOf(customerIds);
 
-        logger.info("removed {} account/s of customer id - {}", accountsDeleted, customerId);
+        return accountsDeleted;
     }
 
+    // The local replica answers first, only customers it has never heard of are looked up remotely
     private CustomerDTO getCustomerById(long customerId) {
-        final String CUSTOMER_SERVICE_URL = "http://localhost:8081/api/v1/customers/";
+        Optional<CustomerReplica> replica = customerReplicas.find(customerId);
+        if(replica.isEmpty()) {
+            logger.info("customer of id - {} is not replicated yet, will be asking the customer service", customerId);
+            return customerCache.get(customerId);
+        }
 
-        try {
-            String url = CUSTOMER_SERVICE_URL + customerId;
-            logger.info("will be hitting the following url to get customer details - {}", url);
-            return restTemplate.getForObject(url, CustomerDTO.class);
-        } catch (RestClientException e) {
-            logger.error("error fetching customer of id - {}", customerId, e);
-            throw new BadRequestException("customer service is unavailable or customer does not exist.");
+        return replica.get().isDeleted() ? null : customerReplicas.toDto(replica.get());
+    }
+
+    private Map<Long, CustomerDTO> getCustomersByIds(Set<Long> customerIds) {
+        Map<Long, CustomerReplica> replicas = customerReplicas.findAll(customerIds);
+        Map<Long, CustomerDTO> customers = new HashMap<>();
+        Set<Long> unreplicatedIds = new HashSet<>();
+
+        for(Long customerId : customerIds) {
+            CustomerReplica replica = replicas.get(customerId);
+            if(replica == null) {
+                unreplicatedIds.add(customerId);
+            } else if(!replica.isDeleted()) {
+                customers.put(customerId, customerReplicas.toDto(replica));
+            }
+        }
+
+        if(!unreplicatedIds.isEmpty()) {
+            logger.info("{} customer/s are not replicated yet, will be asking the customer service", unreplicatedIds.size());
+            customers.putAll(customerCache.getAll(unreplicatedIds));
         }
+
+        return customers;
+    }
+
+    private AccountBatchItemDTO failedItem(int index, String error) {
+        logger.warn("account at index {} of the batch was rejected - {}", index, error);
+        return AccountBatchItemDTO.builder()
+                                  .index(index)
+                                  .error(error)
+                                  .build();
     }
 }
@@ -0,0 +1,288 @@
+package dev.awn.accountmanagementservice.core.account.service.impl;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.accountmanagementservice.core.account.allocator.AccountSuffixAllocator;
+import dev.awn.accountmanagementservice.core.account.allocator.ReactiveAccountSuffixAllocator;
+import dev.awn.accountmanagementservice.core.account.client.ReactiveCustomerClient;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.dto.AccountBatchResponseDTO;
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerDTO;
+import dev.awn.accountmanagementservice.core.account.mapper.AccountMapper;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.model.CustomerAccountSummary;
+import dev.awn.accountmanagementservice.core.account.model.CustomerReplica;
+import dev.awn.accountmanagementservice.core.account.repository.ReactiveAccountRepository;
+import dev.awn.accountmanagementservice.core.account.repository.ReactiveCustomerReplicaRepository;
+import dev.awn.accountmanagementservice.core.account.service.AccountService;
+import dev.awn.accountmanagementservice.core.account.service.ReactiveAccountService;
+import dev.awn.accountmanagementservice.core.account.shard.AccountBalanceShards;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Non-blocking implementation of the account API with the same rules as {@link AccountServiceImpl}: the id
+ * ranges, at most {@link AccountSuffixAllocator#MAXIMUM_SUFFIX} accounts per customer and a single SALARY
+ * account each.
+ * <p>
+ * Batch creation and sharding are rare, multi-row operations; they are handed to {@link AccountServiceImpl}
+ * on the bounded elastic scheduler rather than duplicated.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAccountServiceImpl implements ReactiveAccountService {
+    private final static Logger logger = LoggerFactory.getLogger(ReactiveAccountServiceImpl.class);
+    private final long MAXIMUM_ACCOUNT_ID_RANGE = 9_999_999_999L;
+    private final long MINIMUM_ACCOUNT_ID_RANGE = 1_000_000_001L;
+
+    private final ReactiveAccountRepository accountRepository;
+    private final ReactiveCustomerReplicaRepository replicaRepository;
+    private final ReactiveAccountSuffixAllocator suffixAllocator;
+    private final ReactiveCustomerClient customerClient;
+    private final AccountBalanceShards balanceShards;
+    private final AccountMapper accountMapper;
+    private final AccountService accountService;
+    private final Validator validator;
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public Mono<AccountDTO> getAccount(long id) {
+        logger.info("will be checking if id - {} is valid", id);
+        if(id > MAXIMUM_ACCOUNT_ID_RANGE || id < MINIMUM_ACCOUNT_ID_RANGE) {
+            logger.warn("invalid id - {}", id);
+            return Mono.error(new BadRequestException("invalid id - " + id));
+        }
+
+        logger.info("will be getting the account of id - {}", id);
+        return accountRepository.findById(id)
+                                .switchIfEmpty(Mono.error(() -> {
+                                    logger.warn("no account was found of id - {}", id);
+                                    return new ResourceNotFoundException("no account was found of id - " + id);
+                                }))
+                                .flatMap(account -> {
+                                    if(!balanceShards.isSharded(id)) {
+                                        return Mono.just(account);
+                                    }
+
+                                    logger.info("account of id - {} is sharded, will be summing its balance shards", id);
+                                    return accountRepository.sumShardBalanceByAccountId(id)
+                                                            .map(shardBalance -> {
+                                                                account.setBalance(account.getBalance().add(shardBalance));
+                                                                return account;
+                                                            });
+                                })
+                                .map(accountMapper::toDto);
+    }
+
+    @Override
+    public Mono<AccountDTO> createAccount(AccountDTO accountDTO) {
+        long customerId = accountDTO.getCustomerId();
+
+        logger.info("will be checking if customer exists of customerId - {}", customerId);
+        return checkBalance(accountDTO)
+                .then(getCustomerById(customerId))
+                .switchIfEmpty(Mono.error(() -> {
+                    logger.warn("no customer found of customerId - {}", customerId);
+                    return new BadRequestException("no customer found of customerId - " + customerId);
+                }))
+                .then(Mono.defer(() -> {
+                    logger.info("will be summarizing the existing accounts of customerId - {}", customerId);
+                    return accountRepository.summarizeByCustomerId(customerId);
+                }))
+                .flatMap(summary -> validate(accountDTO, customerId, summary))
+                .flatMap(summary -> {
+                    logger.info("will be allocating a new account id suffix (last 3 digits)");
+                    return suffixAllocator.allocate(customerId, summary.getSuffixes());
+                })
+                .flatMap(newSuffix -> {
+                    long newAccountId = customerId * 1000 + newSuffix;
+                    logger.info("calculated new account id, produced the following - {}", newAccountId);
+                    accountDTO.setId(newAccountId);
+
+                    Account account = accountMapper.toModel(accountDTO);
+                    account.setCreationTime(LocalDateTime.now());
+
+                    logger.info("will be saving the new account");
+                    return accountRepository.insert(account)
+                                            .thenReturn(accountMapper.toDto(account))
+                                            // The id is already taken by a stored account, so its suffix stays held
+                                            .onErrorResume(e -> !(e instanceof DataIntegrityViolationException), e -> {
+                                                logger.warn("could not save account of id - {}, will be releasing its suffix", newAccountId);
+                                                return suffixAllocator.release(newAccountId).then(Mono.error(e));
+                                            });
+                });
+    }
+
+    @Override
+    public Mono<AccountBatchResponseDTO> createAccounts(List<AccountDTO> accountDTOs) {
+        return Mono.fromCallable(() -> accountService.createAccounts(accountDTOs))
+                   .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<AccountDTO> modifyAccount(AccountDTO accountDTO) {
+        Long id = accountDTO.getId();
+
+        logger.info("will be checking if id - {} is valid", id);
+        if(id == null || id > MAXIMUM_ACCOUNT_ID_RANGE || id < MINIMUM_ACCOUNT_ID_RANGE) {
+            logger.warn("invalid id - {}", id);
+            return Mono.error(new BadRequestException("invalid id - " + id));
+        }
+
+        logger.info("will be checking if an account exists of id - {}", id);
+        return checkBalance(accountDTO)
+                           .then(accountRepository.findById(id))
+                           .switchIfEmpty(Mono.error(() -> {
+                               logger.warn("no account found of id - {}", id);
+                               return new ResourceNotFoundException("no account found of id - " + id);
+                           }))
+                           .flatMap(existing -> checkSalaryAccount(accountDTO, id))
+                           .then(Mono.defer(() -> {
+                               Account account = accountMapper.toModel(accountDTO);
+                               account.setModificationTime(LocalDateTime.now());
+
+                               if(!balanceShards.isSharded(id)) {
+                                   return Mono.just(account);
+                               }
+
+                               if(accountDTO.getStatus() != AccountStatus.ACTIVE) {
+                                   logger.warn("account of id - {} is sharded, will not be deactivating it", id);
+                                   return Mono.error(new BadRequestException("a sharded account cannot be deactivated"));
+                               }
+
+                               logger.info("account of id - {} is sharded, the shards keep their part of the requested balance", id);
+                               return accountRepository.sumShardBalanceByAccountId(id)
+                                                       .map(shardBalance -> {
+                                                           AccountServiceImpl.checkShardedBalance(id, accountDTO.getBalance(), shardBalance);
+                                                           account.setBalance(account.getBalance().subtract(shardBalance));
+                                                           return account;
+                                                       });
+                           }))
+                           .flatMap(account -> {
+                               logger.info("will be saving modified account");
+                               return accountRepository.update(account)
+                                                       .thenReturn(accountMapper.toDto(account));
+                           });
+    }
+
+    @Override
+    public Mono<AccountDTO> shardAccount(long id, int count) {
+        return Mono.fromCallable(() -> accountService.shardAccount(id, count))
+                   .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Boolean> removeAccount(long id) {
+        logger.info("will be checking if id - {} is valid", id);
+        if(id < MINIMUM_ACCOUNT_ID_RANGE || id > MAXIMUM_ACCOUNT_ID_RANGE) {
+            logger.warn("invalid id - {}", id);
+            return Mono.error(new BadRequestException("invalid id - " + id));
+        }
+
+        logger.info("will be deleting account of id - {}", id);
+        // The account and its shards go together, the suffix is only released once both are gone
+        return accountRepository.deleteById(id)
+                                .flatMap(deleted -> deleted == 0
+                                        ? Mono.just(false)
+                                        : accountRepository.deleteShardsByAccountId(id).thenReturn(true))
+                                .as(transactionalOperator::transactional)
+                                .flatMap(deleted -> {
+                                    if(!deleted) {
+                                        logger.warn("no account found of id - {}, will not be releasing its suffix", id);
+                                        return Mono.just(false);
+                                    }
+
+                                    return suffixAllocator.release(id).thenReturn(true);
+                                });
+    }
+
+    // Same bound as AccountServiceImpl, the request body is not validated on its own
+    private Mono<Void> checkBalance(AccountDTO accountDTO) {
+        if(accountDTO.getBalance() == null) {
+            return Mono.empty();
+        }
+
+        Set<ConstraintViolation<AccountDTO>> violations = validator.validateProperty(accountDTO, "balance");
+        if(!violations.isEmpty()) {
+            logger.warn("invalid balance - {}", accountDTO.getBalance());
+            return Mono.error(new BadRequestException(violations.iterator().next().getMessage()));
+        }
+
+        return Mono.empty();
+    }
+
+    private Mono<CustomerAccountSummary> validate(AccountDTO accountDTO, long customerId, CustomerAccountSummary summary) {
+        if(summary.getAccountCount() >= AccountSuffixAllocator.MAXIMUM_SUFFIX) {
+            logger.warn("customerId of - {} already has {} account/s", customerId, summary.getAccountCount());
+            return Mono.error(new BadRequestException("customerId of - " + customerId + " already has maximum number of accounts allowed"));
+        }
+
+        logger.info("will perform account type checking");
+        if(accountDTO.getType().equals(AccountType.SALARY) && summary.hasSalaryAccount()) {
+            logger.warn("customer of customerId {} already has a SALARY account, will not be creating the account", customerId);
+            return Mono.error(new BadRequestException("customer of customerId " + customerId + " already has a salary account"));
+        }
+
+        return Mono.just(summary);
+    }
+
+    private Mono<Void> checkSalaryAccount(AccountDTO accountDTO, long id) {
+        if(!accountDTO.getType().equals(AccountType.SALARY)) {
+            return Mono.empty();
+        }
+
+        logger.info("will be checking if a salary account already exists");
+        long customerId = accountDTO.getCustomerId();
+        return accountRepository.findIdByCustomerIdAndType(customerId, AccountType.SALARY)
+                                .flatMap(existingId -> {
+                                    logger.info("found a salary account for customerId - {} with the id - {}", customerId, existingId);
+
+                                    if(id != existingId) {
+                                        logger.warn("customer of id - {} already contains a salary account of id - {}", customerId, existingId);
+                                        return Mono.error(new BadRequestException("only one salary account is allowed"));
+                                    }
+
+                                    return Mono.empty();
+                                });
+    }
+
+    // The local replica answers first, only customers it has never heard of are looked up remotely
+    private Mono<CustomerDTO> getCustomerById(long customerId) {
+        return replicaRepository.findById(customerId)
+                                .map(Optional::of)
+                                .defaultIfEmpty(Optional.empty())
+                                .flatMap(replica -> {
+                                    if(replica.isEmpty()) {
+                                        logger.info("customer of id - {} is not replicated yet, will be asking the customer service", customerId);
+                                        return customerClient.getCustomer(customerId);
+                                    }
+
+                                    return replica.get().isDeleted() ? Mono.empty() : Mono.just(toDto(replica.get()));
+                                });
+    }
+
+    private CustomerDTO toDto(CustomerReplica replica) {
+        return CustomerDTO.builder()
+                          .id(replica.getId())
+                          .name(replica.getName())
+                          .type(replica.getType())
+                          .build();
+    }
+}
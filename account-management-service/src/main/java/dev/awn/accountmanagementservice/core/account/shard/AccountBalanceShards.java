@@ -0,0 +1,245 @@
+package dev.awn.accountmanagementservice.core.account.shard;
+
+import dev.awn.accountmanagementservice.common.config.shard.AccountShardProperties;
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.model.AccountBalanceShard;
+import dev.awn.accountmanagementservice.core.account.repository.AccountBalanceShardRepository;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Opt-in balance sharding for hot accounts.
+ * <p>
+ * A sharded account's balance is the {@code ACCOUNTS} row plus the sum of its {@code ACCOUNT_BALANCE_SHARDS}
+ * rows. Credits and debits each go to one random shard, so concurrent writes to the same account land on
+ * different rows. Anything that touches more than one row of an account locks the account row first and
+ * then the shards in order, so it can never deadlock against another such writer.
+ * <p>
+ * A scheduled rebalance spreads the balance evenly again, so single shard debits keep succeeding, and folds
+ * the {@code ACCOUNTS} row into the shards. An instance that has not noticed the sharding yet and still
+ * writes the row therefore stays correct.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(AccountShardProperties.class)
+public class AccountBalanceShards implements SchedulingConfigurer {
+    private final static Logger logger = LoggerFactory.getLogger(AccountBalanceShards.class);
+    public final static int UNSHARDED = -1;
+
+    private final AccountBalanceShardRepository shardRepository;
+    private final AccountRepository accountRepository;
+    private final AccountShardProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, Integer> shardCounts = new ConcurrentHashMap<>();
+
+    public void enable(long accountId, int count) {
+        if(count < 2 || count > properties.getMaximumCount()) {
+            logger.warn("invalid shard count - {} for account of id - {}", count, accountId);
+            throw new BadRequestException("shard count must be between 2 and " + properties.getMaximumCount());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Account account = accountRepository.findByIdForUpdate(accountId)
+                                               .orElseThrow(() -> new ResourceNotFoundException("no account found of id - " + accountId));
+
+            if(account.getStatus() != AccountStatus.ACTIVE) {
+                logger.warn("account of id - {} is not active, will not be sharding it", accountId);
+                throw new BadRequestException("account of id - " + accountId + " is not active");
+            }
+
+            if(shardRepository.countByAccountId(accountId) > 0) {
+                logger.warn("account of id - {} is already sharded", accountId);
+                throw new BadRequestException("account of id - " + accountId + " is already sharded");
+            }
+
+            logger.info("will be spreading the balance of account of id - {} over {} shards", accountId, count);
+            List<BigDecimal> parts = split(account.getBalance(), count);
+            List<AccountBalanceShard> shards = new ArrayList<>(count);
+            for(int shard = 0; shard < count; shard++) {
+                shards.add(new AccountBalanceShard(accountId, shard, parts.get(shard)));
+            }
+            shardRepository.saveAll(shards);
+
+            account.setBalance(BigDecimal.ZERO);
+            account.setModificationTime(LocalDateTime.now());
+        });
+
+        // Only published once the shard rows are committed, writes would otherwise target rows that do not exist yet
+        shardCounts.put(accountId, count);
+    }
+
+    public boolean isSharded(long accountId) {
+        return shardCounts.containsKey(accountId);
+    }
+
+    public int pickShard(long accountId) {
+        Integer count = shardCounts.get(accountId);
+        return count == null ? UNSHARDED : ThreadLocalRandom.current().nextInt(count);
+    }
+
+    // Lock key for a single shard, so concurrent transfers on different shards of one account do not contend
+    public static long lockKey(long accountId, int shard) {
+        return shard == UNSHARDED ? accountId : accountId * 64 + shard;
+    }
+
+    public boolean credit(long accountId, int shard, BigDecimal amount, LocalDateTime time) {
+        if(shardRepository.credit(accountId, shard, amount) == 1) {
+            return true;
+        }
+
+        // The shard is gone, the account was removed or is no longer sharded
+        return accountRepository.credit(accountId, amount, AccountStatus.ACTIVE, time) == 1;
+    }
+
+    public boolean debit(long accountId, int shard, BigDecimal amount) {
+        if(shardRepository.debit(accountId, shard, amount) == 1) {
+            return true;
+        }
+
+        Account account = accountRepository.findById(accountId).orElse(null);
+        if(account != null && totalBalance(account).compareTo(amount) >= 0) {
+            throw new ShardBalanceExhaustedException(accountId);
+        }
+
+        return false;
+    }
+
+    // Slow path for debits larger than any single shard, takes from the shards in order and then from the account row
+    public boolean debitAcrossShards(long accountId, BigDecimal amount, LocalDateTime time) {
+        Optional<Account> account = accountRepository.findByIdForUpdate(accountId);
+        if(account.isEmpty() || account.get().getStatus() != AccountStatus.ACTIVE) {
+            return false;
+        }
+
+        BigDecimal remaining = amount;
+        for(AccountBalanceShard shard : shardRepository.findByAccountIdOrderByShard(accountId)) {
+            BigDecimal taken = shard.getBalance().min(remaining).max(BigDecimal.ZERO);
+            shard.setBalance(shard.getBalance().subtract(taken));
+            remaining = remaining.subtract(taken);
+
+            if(remaining.signum() == 0) {
+                return true;
+            }
+        }
+
+        return accountRepository.debit(accountId, remaining, AccountStatus.ACTIVE, time) == 1;
+    }
+
+    public BigDecimal shardBalance(long accountId) {
+        return shardRepository.sumBalanceByAccountId(accountId);
+    }
+
+    public BigDecimal totalBalance(Account account) {
+        return account.getBalance().add(shardBalance(account.getId()));
+    }
+
+    public void rebalance(long accountId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // The account row is locked first, the same order every writer of both tables follows
+            Account account = accountRepository.findByIdForUpdate(accountId).orElse(null);
+            List<AccountBalanceShard> shards = shardRepository.findByAccountIdOrderByShard(accountId);
+
+            if(account == null || shards.isEmpty()) {
+                logger.info("account of id - {} is no longer sharded", accountId);
+                shardCounts.remove(accountId);
+                return;
+            }
+
+            BigDecimal total = account.getBalance();
+            for(AccountBalanceShard shard : shards) {
+                total = total.add(shard.getBalance());
+            }
+
+            List<BigDecimal> parts = split(total, shards.size());
+            for(int i = 0; i < shards.size(); i++) {
+                shards.get(i).setBalance(parts.get(i));
+            }
+
+            if(account.getBalance().signum() != 0) {
+                account.setBalance(BigDecimal.ZERO);
+                account.setModificationTime(LocalDateTime.now());
+            }
+        });
+    }
+
+    // Registered here rather than with @Scheduled, whose delay strings do not take durations like 30s
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::rebalanceAll, properties.getRebalanceInterval());
+        taskRegistrar.addFixedDelayTask(this::refresh, properties.getRefreshInterval());
+    }
+
+    public void rebalanceAll() {
+        if(shardCounts.isEmpty()) {
+            return;
+        }
+
+        logger.info("will be rebalancing {} sharded account/s", shardCounts.size());
+        for(long accountId : List.copyOf(shardCounts.keySet())) {
+            try {
+                rebalance(accountId);
+            } catch (RuntimeException e) {
+                logger.error("could not rebalance account of id - {}", accountId, e);
+            }
+        }
+    }
+
+    public void refresh() {
+        Map<Long, Integer> counts = new ConcurrentHashMap<>();
+        for(Object[] row : shardRepository.countShardsByAccountId()) {
+            counts.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+
+        shardCounts.keySet().retainAll(counts.keySet());
+        shardCounts.putAll(counts);
+    }
+
+    public void remove(long accountId) {
+        shardCounts.remove(accountId);
+        shardRepository.deleteByAccountId(accountId);
+    }
+
+    // Must run before the accounts themselves are deleted, the shards are found through them
+    public void removeAll(Collection<Long> customerIds) {
+        shardCounts.keySet().removeIf(accountId -> customerIds.contains(accountId / 1000));
+        shardRepository.deleteByCustomerIdIn(customerIds);
+    }
+
+    // Splits to the cent, earlier parts take the remainder
+    private static List<BigDecimal> split(BigDecimal total, int count) {
+        BigInteger[] division = total.setScale(2).unscaledValue().divideAndRemainder(BigInteger.valueOf(count));
+        long remainder = division[1].longValue();
+
+        List<BigDecimal> parts = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            BigInteger part = i < Math.abs(remainder)
+                    ? division[0].add(BigInteger.valueOf(Long.signum(remainder)))
+                    : division[0];
+            parts.add(new BigDecimal(part, 2));
+        }
+
+        return parts;
+    }
+}
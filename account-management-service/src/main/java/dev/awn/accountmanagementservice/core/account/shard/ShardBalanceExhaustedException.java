@@ -0,0 +1,15 @@
+package dev.awn.accountmanagementservice.core.account.shard;
+
+// Thrown when no single shard can cover a debit that the account as a whole can, a rebalance makes it succeed
+public class ShardBalanceExhaustedException extends RuntimeException {
+    private final long accountId;
+
+    public ShardBalanceExhaustedException(long accountId) {
+        super("no single balance shard of account of id - " + accountId + " can cover the debit");
+        this.accountId = accountId;
+    }
+
+    public long getAccountId() {
+        return accountId;
+    }
+}
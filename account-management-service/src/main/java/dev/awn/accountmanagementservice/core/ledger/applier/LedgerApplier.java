@@ -0,0 +1,142 @@
+package dev.awn.accountmanagementservice.core.ledger.applier;
+
+import dev.awn.accountmanagementservice.core.account.cache.AccountCache;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import dev.awn.accountmanagementservice.core.ledger.journal.LedgerJournal;
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerPosting;
+import dev.awn.accountmanagementservice.core.ledger.repository.LedgerPostingRepository;
+import dev.awn.accountmanagementservice.core.ledger.service.LedgerPendingPostings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Applies durable postings to the database in batches on a single background thread.
+ * <p>
+ * Each batch inserts its {@code LEDGER_POSTINGS} rows and adds the per-account sum to {@code ACCOUNTS} in one
+ * transaction. Failed batches are retried, postings that turn out to be applied already are skipped.
+ */
+public class LedgerApplier {
+    private final static Logger logger = LoggerFactory.getLogger(LedgerApplier.class);
+
+    private final LedgerPostingRepository postingRepository;
+    private final AccountRepository accountRepository;
+    private final AccountCache accountCache;
+    private final LedgerPendingPostings pendingPostings;
+    private final LedgerJournal journal;
+    private final TransactionTemplate transactionTemplate;
+    private final int applyBatchSize;
+    private final Duration retryDelay;
+
+    private final BlockingQueue<LedgerPosting> postings = new LinkedBlockingQueue<>();
+    private Thread applier;
+    private volatile boolean running;
+    private volatile long appliedSequence;
+
+    public LedgerApplier(LedgerPostingRepository postingRepository,
+                         AccountRepository accountRepository,
+                         AccountCache accountCache,
+                         LedgerPendingPostings pendingPostings,
+                         LedgerJournal journal,
+                         TransactionTemplate transactionTemplate,
+                         int applyBatchSize,
+                         Duration retryDelay) {
+        this.postingRepository = postingRepository;
+        this.accountRepository = accountRepository;
+        this.accountCache = accountCache;
+        this.pendingPostings = pendingPostings;
+        this.journal = journal;
+        this.transactionTemplate = transactionTemplate;
+        this.applyBatchSize = applyBatchSize;
+        this.retryDelay = retryDelay;
+    }
+
+    public void start(long appliedSequence) {
+        this.appliedSequence = appliedSequence;
+        running = true;
+        applier = new Thread(this::apply, "ledger-applier");
+        applier.setDaemon(true);
+        applier.start();
+    }
+
+    public void submit(List<LedgerPosting> durablePostings) {
+        postings.addAll(durablePostings);
+    }
+
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    public void stop() {
+        running = false;
+        if(applier != null) {
+            applier.interrupt();
+            try {
+                applier.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void apply() {
+        List<LedgerPosting> batch = new ArrayList<>(applyBatchSize);
+        while(running) {
+            try {
+                if(batch.isEmpty()) {
+                    batch.add(postings.take());
+                    postings.drainTo(batch, applyBatchSize - 1);
+                }
+
+                applyBatch(batch);
+                pendingPostings.remove(batch);
+                appliedSequence = batch.get(batch.size() - 1).getSequence();
+                batch.clear();
+
+                journal.deleteSegmentsUpTo(appliedSequence);
+            } catch (InterruptedException e) {
+                break;
+            } catch (RuntimeException e) {
+                logger.error("could not apply {} ledger posting/s, will be retrying in {}", batch.size(), retryDelay, e);
+                try {
+                    Thread.sleep(retryDelay.toMillis());
+                    long maxSequence = postingRepository.findMaxSequence();
+                    batch.removeIf(posting -> posting.getSequence() <= maxSequence);
+                } catch (InterruptedException interrupted) {
+                    break;
+                } catch (RuntimeException ignored) {
+                    // the database is still unavailable, the whole batch is retried
+                }
+            }
+        }
+    }
+
+    private void applyBatch(List<LedgerPosting> batch) {
+        Map<Long, BigDecimal> deltas = new TreeMap<>();
+        for(LedgerPosting posting : batch) {
+            deltas.merge(posting.getAccountId(), posting.getAmount(), BigDecimal::add);
+        }
+
+        long lastSequence = batch.get(batch.size() - 1).getSequence();
+        LocalDateTime time = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            postingRepository.insertAll(batch);
+
+            // Accounts are updated in id order, like every other multi-account writer
+            deltas.forEach((accountId, delta) -> accountRepository.applyDelta(accountId, delta, lastSequence, time));
+        });
+        accountCache.evictAll(deltas.keySet());
+
+        logger.info("applied {} ledger posting/s to {} account/s", batch.size(), deltas.size());
+    }
+}
@@ -0,0 +1,32 @@
+package dev.awn.accountmanagementservice.core.ledger.controller;
+
+import dev.awn.accountmanagementservice.core.ledger.dto.LedgerPostingDTO;
+import dev.awn.accountmanagementservice.core.ledger.service.LedgerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/ledger")
+@ConditionalOnProperty(prefix = "ledger", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class LedgerController {
+    private final LedgerService ledgerService;
+
+    @GetMapping("/accounts/{accountId}/postings")
+    public ResponseEntity<List<LedgerPostingDTO>> getPostings(@PathVariable long accountId,
+                                                              @RequestParam(defaultValue = "0") long afterSequence,
+                                                              @RequestParam(defaultValue = "100") int limit) {
+        List<LedgerPostingDTO> postings = ledgerService.getPostings(accountId, afterSequence, limit);
+
+        return ResponseEntity.status(HttpStatus.OK).body(postings);
+    }
+}
@@ -0,0 +1,19 @@
+package dev.awn.accountmanagementservice.core.ledger.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class LedgerPostingDTO {
+    private Long sequence;
+    private Long accountId;
+    private Long counterpartyAccountId;
+    private BigDecimal amount;
+    private LocalDateTime postingTime;
+}
@@ -0,0 +1,299 @@
+package dev.awn.accountmanagementservice.core.ledger.journal;
+
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerPosting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, memory-mapped write-ahead journal of ledger postings.
+ * <p>
+ * Postings are fixed size records written into preallocated segment files named after their first sequence.
+ * A single writer thread drains every pending append, writes them and forces the segment to disk once for
+ * the whole batch (group commit), and only then completes their futures. Every record carries a CRC, replay
+ * stops at the first record that does not check out, which is where a crash interrupted the last batch.
+ */
+public class LedgerJournal implements Closeable {
+    private final static Logger logger = LoggerFactory.getLogger(LedgerJournal.class);
+    final static int RECORD_SIZE = 48;
+    private final static int CHECKSUMMED_BYTES = 40;
+    private final static String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final long segmentSize;
+    private final int maximumBatchSize;
+
+    private final BlockingQueue<Append> appends = new LinkedBlockingQueue<>();
+    private final CRC32 crc = new CRC32();
+    private Thread writer;
+    private volatile boolean running;
+    private volatile IOException failure;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    public LedgerJournal(Path directory, long segmentSize, int maximumBatchSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize - segmentSize % RECORD_SIZE;
+        this.maximumBatchSize = maximumBatchSize;
+    }
+
+    /**
+     * Replays every intact posting to the consumer, truncates whatever follows the last one and starts the
+     * writer. Returns the sequence of the last intact posting, or 0 for an empty journal.
+     */
+    public long open(Consumer<LedgerPosting> replay) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments = segments();
+
+        long lastSequence = 0;
+        Path lastSegment = null;
+        int lastPosition = 0;
+
+        for(int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            try(FileChannel segmentChannel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer segmentBuffer = segmentChannel.map(FileChannel.MapMode.READ_ONLY, 0, segmentChannel.size());
+
+                int position = 0;
+                LedgerPosting posting;
+                while(position + RECORD_SIZE <= segmentBuffer.limit()
+                        && (posting = read(segmentBuffer, position, lastSequence)) != null) {
+                    replay.accept(posting);
+                    lastSequence = posting.getSequence();
+                    position += RECORD_SIZE;
+                }
+
+                lastSegment = segment;
+                lastPosition = position;
+
+                if(position + RECORD_SIZE <= segmentBuffer.limit()) {
+                    // Anything after a torn record was never acknowledged, later segments included
+                    for(Path unacknowledged : segments.subList(i + 1, segments.size())) {
+                        logger.warn("dropping unacknowledged journal segment - {}", unacknowledged);
+                        Files.delete(unacknowledged);
+                    }
+                    break;
+                }
+            }
+        }
+
+        if(lastSegment == null) {
+            startSegment(lastSequence + 1);
+        } else {
+            mapSegment(lastSegment, lastPosition);
+        }
+
+        logger.info("journal opened at sequence {} in {}", lastSequence, directory);
+
+        running = true;
+        writer = new Thread(this::write, "ledger-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+
+        return lastSequence;
+    }
+
+    // Postings must be appended in sequence order, the future completes once they are forced to disk
+    public CompletableFuture<Void> append(List<LedgerPosting> postings) {
+        Append append = new Append(postings, new CompletableFuture<>());
+        if(!running || failure != null) {
+            append.future.completeExceptionally(new IOException("ledger journal is not accepting postings", failure));
+            return append.future;
+        }
+
+        // Amounts are recorded as long cents, one that does not fit is refused here rather than on the writer thread
+        try {
+            postings.forEach(posting -> cents(posting.getAmount()));
+        } catch (ArithmeticException e) {
+            append.future.completeExceptionally(e);
+            return append.future;
+        }
+
+        appends.add(append);
+        return append.future;
+    }
+
+    // Removes segments whose postings have all been applied, the current segment is always kept
+    public void deleteSegmentsUpTo(long appliedSequence) {
+        try {
+            List<Path> segments = segments();
+            for(int i = 0; i + 1 < segments.size(); i++) {
+                if(firstSequenceOf(segments.get(i + 1)) - 1 > appliedSequence) {
+                    return;
+                }
+
+                logger.info("deleting fully applied journal segment - {}", segments.get(i));
+                Files.deleteIfExists(segments.get(i));
+            }
+        } catch (IOException e) {
+            logger.warn("could not delete applied journal segments", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        if(writer != null) {
+            writer.interrupt();
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        for(Append append : appends) {
+            append.future.completeExceptionally(new IOException("ledger journal was closed"));
+        }
+
+        if(channel != null) {
+            buffer.force();
+            channel.close();
+        }
+    }
+
+    private void write() {
+        List<Append> batch = new ArrayList<>();
+        while(running) {
+            try {
+                batch.add(appends.take());
+                int postings = batch.get(0).postings.size();
+                while(postings < maximumBatchSize && appends.peek() != null) {
+                    Append next = appends.poll();
+                    batch.add(next);
+                    postings += next.postings.size();
+                }
+
+                for(Append append : batch) {
+                    for(LedgerPosting posting : append.postings) {
+                        if(!buffer.hasRemaining()) {
+                            buffer.force();
+                            channel.close();
+                            startSegment(posting.getSequence());
+                        }
+                        put(posting);
+                    }
+                }
+                buffer.force();
+
+                for(Append append : batch) {
+                    append.future.complete(null);
+                }
+            } catch (InterruptedException e) {
+                break;
+            } catch (IOException | RuntimeException e) {
+                logger.error("could not write {} batched append/s to the ledger journal, will stop accepting postings", batch.size(), e);
+                failure = e instanceof IOException io ? io
+                        : e instanceof UncheckedIOException unchecked ? unchecked.getCause()
+                        : new IOException(e);
+                batch.forEach(append -> append.future.completeExceptionally(failure));
+                appends.forEach(append -> append.future.completeExceptionally(failure));
+                appends.clear();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        for(Append append : batch) {
+            append.future.completeExceptionally(new IOException("ledger journal was closed"));
+        }
+    }
+
+    private void put(LedgerPosting posting) {
+        int start = buffer.position();
+        buffer.putLong(posting.getSequence());
+        buffer.putLong(posting.getAccountId());
+        buffer.putLong(posting.getCounterpartyAccountId());
+        buffer.putLong(cents(posting.getAmount()));
+        buffer.putLong(posting.getPostingTime().toInstant(ZoneOffset.UTC).toEpochMilli());
+
+        crc.reset();
+        crc.update(buffer.slice(start, CHECKSUMMED_BYTES));
+        buffer.putInt((int) crc.getValue());
+        buffer.putInt(0);
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount.setScale(2).unscaledValue().longValueExact();
+    }
+
+    private LedgerPosting read(MappedByteBuffer segmentBuffer, int position, long previousSequence) {
+        long sequence = segmentBuffer.getLong(position);
+        if(sequence <= previousSequence) {
+            return null;
+        }
+
+        CRC32 recordCrc = new CRC32();
+        recordCrc.update(segmentBuffer.slice(position, CHECKSUMMED_BYTES));
+        if((int) recordCrc.getValue() != segmentBuffer.getInt(position + CHECKSUMMED_BYTES)) {
+            logger.warn("journal record of sequence {} failed its checksum, treating it as the end of the journal", sequence);
+            return null;
+        }
+
+        return LedgerPosting.builder()
+                            .sequence(sequence)
+                            .accountId(segmentBuffer.getLong(position + 8))
+                            .counterpartyAccountId(segmentBuffer.getLong(position + 16))
+                            .amount(BigDecimal.valueOf(segmentBuffer.getLong(position + 24), 2))
+                            .postingTime(LocalDateTime.ofInstant(Instant.ofEpochMilli(segmentBuffer.getLong(position + 32)), ZoneOffset.UTC))
+                            .build();
+    }
+
+    private void startSegment(long firstSequence) throws IOException {
+        Path segment = directory.resolve(String.format("%020d%s", firstSequence, SEGMENT_SUFFIX));
+        logger.info("starting journal segment - {}", segment);
+        mapSegment(segment, 0);
+    }
+
+    private void mapSegment(Path segment, int position) throws IOException {
+        boolean existing = Files.exists(segment);
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+
+        // Clears a torn record and anything after it, so a later replay cannot mistake it for a posting
+        for(int i = position; existing && i < segmentSize; i += 8) {
+            if(buffer.getLong(i) != 0) {
+                buffer.putLong(i, 0);
+            }
+        }
+        buffer.position(position);
+    }
+
+    private List<Path> segments() throws IOException {
+        try(Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                        .sorted()
+                        .toList();
+        }
+    }
+
+    private static long firstSequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private record Append(List<LedgerPosting> postings, CompletableFuture<Void> future) {
+    }
+}
@@ -0,0 +1,20 @@
+package dev.awn.accountmanagementservice.core.ledger.mapper;
+
+import dev.awn.accountmanagementservice.core.ledger.dto.LedgerPostingDTO;
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerPosting;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LedgerPostingMapper {
+
+    public LedgerPostingDTO toDto(LedgerPosting posting) {
+        return LedgerPostingDTO.builder()
+                               .sequence(posting.getSequence())
+                               .accountId(posting.getAccountId())
+                               .counterpartyAccountId(posting.getCounterpartyAccountId())
+                               .amount(posting.getAmount())
+                               .postingTime(posting.getPostingTime())
+                               .build();
+    }
+
+}
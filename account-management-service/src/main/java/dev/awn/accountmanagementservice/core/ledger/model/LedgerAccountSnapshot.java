@@ -0,0 +1,20 @@
+package dev.awn.accountmanagementservice.core.ledger.model;
+
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// An account's stored balance together with the last posting already applied to it, read from the same row
+@AllArgsConstructor
+@Getter
+public class LedgerAccountSnapshot {
+    private long accountId;
+
+    private AccountStatus status;
+
+    private BigDecimal balance;
+
+    private long appliedSequence;
+}
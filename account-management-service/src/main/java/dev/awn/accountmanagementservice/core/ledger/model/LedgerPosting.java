@@ -0,0 +1,34 @@
+package dev.awn.accountmanagementservice.core.ledger.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "LEDGER_POSTINGS",
+        indexes = @Index(name = "IDX_LEDGER_POSTINGS_ACCOUNT_ID", columnList = "ACCOUNT_ID, SEQUENCE"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class LedgerPosting {
+    @Column(name = "SEQUENCE")
+    @Id
+    private Long sequence;
+
+    @Column(name = "ACCOUNT_ID", nullable = false, updatable = false)
+    private Long accountId;
+
+    @Column(name = "COUNTERPARTY_ACCOUNT_ID", nullable = false, updatable = false)
+    private Long counterpartyAccountId;
+
+    // Negative for debits, positive for credits
+    @Column(name = "AMOUNT", precision = 38, scale = 2, nullable = false, updatable = false)
+    private BigDecimal amount;
+
+    @Column(name = "POSTING_TIME", nullable = false, updatable = false)
+    private LocalDateTime postingTime;
+}
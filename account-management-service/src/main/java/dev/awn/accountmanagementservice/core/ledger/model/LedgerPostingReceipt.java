@@ -0,0 +1,7 @@
+package dev.awn.accountmanagementservice.core.ledger.model;
+
+import java.util.concurrent.CompletableFuture;
+
+// The sequence of a transfer's debit posting, known as soon as it is posted, and when it becomes durable
+public record LedgerPostingReceipt(long sequence, CompletableFuture<Void> durable) {
+}
@@ -0,0 +1,9 @@
+package dev.awn.accountmanagementservice.core.ledger.repository;
+
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerPosting;
+
+import java.util.List;
+
+public interface LedgerPostingBatchRepository {
+    void insertAll(List<LedgerPosting> postings);
+}
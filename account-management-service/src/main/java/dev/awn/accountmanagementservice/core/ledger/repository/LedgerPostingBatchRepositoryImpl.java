@@ -0,0 +1,35 @@
+package dev.awn.accountmanagementservice.core.ledger.repository;
+
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerPosting;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class LedgerPostingBatchRepositoryImpl implements LedgerPostingBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    // Joins the applier's transaction, postings are only ever inserted together with their balance updates
+    @Override
+    @Transactional
+    public void insertAll(List<LedgerPosting> postings) {
+        for(int i = 0; i < postings.size(); i++) {
+            entityManager.persist(postings.get(i));
+
+            if((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
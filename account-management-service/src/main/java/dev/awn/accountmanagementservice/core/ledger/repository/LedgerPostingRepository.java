@@ -0,0 +1,28 @@
+package dev.awn.accountmanagementservice.core.ledger.repository;
+
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerAccountSnapshot;
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerPosting;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface LedgerPostingRepository extends JpaRepository<LedgerPosting, Long>, LedgerPostingBatchRepository {
+
+    // Postings are inserted in the same transaction as their balance updates, so this is also the replay checkpoint
+    @Query("SELECT COALESCE(MAX(p.sequence), 0) FROM LedgerPosting p")
+    long findMaxSequence();
+
+    // The balance and the last posting applied to it come from the same row, so they can never disagree
+    @Query("SELECT new dev.awn.accountmanagementservice.core.ledger.model.LedgerAccountSnapshot(" +
+            "a.id, a.status, a.balance, COALESCE(a.ledgerSequence, 0)) " +
+            "FROM Account a WHERE a.id IN :accountIds")
+    List<LedgerAccountSnapshot> findSnapshots(@Param("accountIds") Collection<Long> accountIds);
+
+    List<LedgerPosting> findByAccountIdAndSequenceGreaterThanOrderBySequence(long accountId, long sequence, Limit limit);
+}
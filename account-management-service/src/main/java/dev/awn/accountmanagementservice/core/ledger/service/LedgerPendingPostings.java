@@ -0,0 +1,41 @@
+package dev.awn.accountmanagementservice.core.ledger.service;
+
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerPosting;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Journaled postings that may not be reflected in {@code ACCOUNTS} yet, keyed by account and sequence.
+ * <p>
+ * A posting is only removed once the applier has committed it. Callers copy an account's postings first, then
+ * read the stored balance with its applied sequence, and count only the copied postings after that sequence.
+ * Each posting is then counted exactly once, in the copy or in the stored balance, whichever it was in.
+ */
+public class LedgerPendingPostings {
+    private final Map<Long, ConcurrentSkipListMap<Long, BigDecimal>> postingsByAccount = new ConcurrentHashMap<>();
+
+    public void add(LedgerPosting posting) {
+        postingsByAccount.computeIfAbsent(posting.getAccountId(), accountId -> new ConcurrentSkipListMap<>())
+                         .put(posting.getSequence(), posting.getAmount());
+    }
+
+    public void remove(List<LedgerPosting> postings) {
+        for(LedgerPosting posting : postings) {
+            postingsByAccount.computeIfPresent(posting.getAccountId(), (accountId, pending) -> {
+                pending.remove(posting.getSequence());
+                return pending.isEmpty() ? null : pending;
+            });
+        }
+    }
+
+    public NavigableMap<Long, BigDecimal> copyOf(long accountId) {
+        ConcurrentSkipListMap<Long, BigDecimal> pending = postingsByAccount.get(accountId);
+        return pending == null ? new TreeMap<>() : new TreeMap<>(pending);
+    }
+}
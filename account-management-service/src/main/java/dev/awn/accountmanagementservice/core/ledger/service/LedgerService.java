@@ -0,0 +1,17 @@
+package dev.awn.accountmanagementservice.core.ledger.service;
+
+import dev.awn.accountmanagementservice.core.ledger.dto.LedgerPostingDTO;
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerPostingReceipt;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NavigableMap;
+
+public interface LedgerService {
+    LedgerPostingReceipt post(long fromAccountId, long toAccountId, BigDecimal amount, LocalDateTime postingTime);
+
+    NavigableMap<Long, BigDecimal> pendingPostings(long accountId);
+
+    List<LedgerPostingDTO> getPostings(long accountId, long afterSequence, int limit);
+}
@@ -0,0 +1,126 @@
+package dev.awn.accountmanagementservice.core.ledger.service.impl;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.core.ledger.applier.LedgerApplier;
+import dev.awn.accountmanagementservice.core.ledger.dto.LedgerPostingDTO;
+import dev.awn.accountmanagementservice.core.ledger.journal.LedgerJournal;
+import dev.awn.accountmanagementservice.core.ledger.mapper.LedgerPostingMapper;
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerPosting;
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerPostingReceipt;
+import dev.awn.accountmanagementservice.core.ledger.repository.LedgerPostingRepository;
+import dev.awn.accountmanagementservice.core.ledger.service.LedgerPendingPostings;
+import dev.awn.accountmanagementservice.core.ledger.service.LedgerService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+@RequiredArgsConstructor
+public class LedgerServiceImpl implements LedgerService {
+    private final static Logger logger = LoggerFactory.getLogger(LedgerServiceImpl.class);
+    private final int MAXIMUM_POSTINGS_LIMIT = 1_000;
+
+    private final LedgerJournal journal;
+    private final LedgerApplier applier;
+    private final LedgerPendingPostings pendingPostings;
+    private final LedgerPostingRepository postingRepository;
+    private final LedgerPostingMapper postingMapper;
+
+    // A lock rather than a monitor, a virtual thread waiting on it does not pin its carrier
+    private final ReentrantLock sequenceLock = new ReentrantLock();
+    private long lastSequence;
+
+    @PostConstruct
+    public void start() {
+        long appliedSequence = postingRepository.findMaxSequence();
+        logger.info("will be replaying the ledger journal after applied sequence {}", appliedSequence);
+
+        List<LedgerPosting> unapplied = new ArrayList<>();
+        long journaledSequence;
+        try {
+            journaledSequence = journal.open(posting -> {
+                if(posting.getSequence() > appliedSequence) {
+                    unapplied.add(posting);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not open the ledger journal", e);
+        }
+
+        unapplied.forEach(pendingPostings::add);
+        applier.submit(unapplied);
+        applier.start(appliedSequence);
+
+        lastSequence = Math.max(journaledSequence, appliedSequence);
+        logger.info("replayed {} unapplied posting/s, next sequence is {}", unapplied.size(), lastSequence + 1);
+    }
+
+    @Override
+    public LedgerPostingReceipt post(long fromAccountId, long toAccountId, BigDecimal amount, LocalDateTime postingTime) {
+        // Sequences are handed out, journaled and submitted to the applier in the same order. The callback is
+        // attached under the lock too: if the journal already completed, it runs right here, before any later
+        // sequence exists, rather than after a later batch that would move the applied watermark past it.
+        sequenceLock.lock();
+        try {
+            List<LedgerPosting> postings = List.of(
+                    posting(++lastSequence, fromAccountId, toAccountId, amount.negate(), postingTime),
+                    posting(++lastSequence, toAccountId, fromAccountId, amount, postingTime)
+            );
+
+            postings.forEach(pendingPostings::add);
+            CompletableFuture<Void> durable = journal.append(postings).whenComplete((ignored, failure) -> {
+                if(failure != null) {
+                    logger.error("could not journal transfer of {} from id - {} to id - {}", amount, fromAccountId, toAccountId, failure);
+                    pendingPostings.remove(postings);
+                } else {
+                    applier.submit(postings);
+                }
+            });
+
+            return new LedgerPostingReceipt(postings.get(0).getSequence(), durable);
+        } finally {
+            sequenceLock.unlock();
+        }
+    }
+
+    @Override
+    public NavigableMap<Long, BigDecimal> pendingPostings(long accountId) {
+        return pendingPostings.copyOf(accountId);
+    }
+
+    @Override
+    public List<LedgerPostingDTO> getPostings(long accountId, long afterSequence, int limit) {
+        if(limit < 1 || limit > MAXIMUM_POSTINGS_LIMIT) {
+            logger.warn("invalid postings limit - {}", limit);
+            throw new BadRequestException("limit must be between 1 and " + MAXIMUM_POSTINGS_LIMIT);
+        }
+
+        logger.info("will be getting up to {} posting/s of account of id - {} after sequence {}", limit, accountId, afterSequence);
+        return postingRepository.findByAccountIdAndSequenceGreaterThanOrderBySequence(accountId, afterSequence, Limit.of(limit))
+                                .stream()
+                                .map(postingMapper::toDto)
+                                .toList();
+    }
+
+    private static LedgerPosting posting(long sequence, long accountId, long counterpartyAccountId,
+                                         BigDecimal amount, LocalDateTime postingTime) {
+        return LedgerPosting.builder()
+                            .sequence(sequence)
+                            .accountId(accountId)
+                            .counterpartyAccountId(counterpartyAccountId)
+                            .amount(amount)
+                            .postingTime(postingTime)
+                            .build();
+    }
+}
@@ -0,0 +1,7 @@
+package dev.awn.accountmanagementservice.core.transfer.constant;
+
+public enum TransferStatus {
+    COMPLETED,
+    // Journaled but not confirmed durable in time, look it up by its ledger sequence before retrying
+    PENDING
+}
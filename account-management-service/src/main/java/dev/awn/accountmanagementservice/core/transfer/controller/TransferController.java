@@ -0,0 +1,29 @@
+package dev.awn.accountmanagementservice.core.transfer.controller;
+
+import dev.awn.accountmanagementservice.core.transfer.constant.TransferStatus;
+import dev.awn.accountmanagementservice.core.transfer.dto.TransferDTO;
+import dev.awn.accountmanagementservice.core.transfer.service.TransferService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/transfers")
+@RequiredArgsConstructor
+public class TransferController {
+    private final TransferService transferService;
+
+    @PostMapping
+    public ResponseEntity<TransferDTO> transfer(@Valid @RequestBody TransferDTO transferDTO) {
+        TransferDTO completedTransfer = transferService.transfer(transferDTO);
+
+        // Accepted rather than OK when the ledger did not confirm it in time, it may still go through
+        HttpStatus status = completedTransfer.getStatus() == TransferStatus.PENDING ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(completedTransfer);
+    }
+}
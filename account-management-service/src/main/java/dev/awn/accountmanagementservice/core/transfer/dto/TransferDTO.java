@@ -0,0 +1,35 @@
+package dev.awn.accountmanagementservice.core.transfer.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.awn.accountmanagementservice.core.transfer.constant.TransferStatus;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class TransferDTO {
+    @NotNull(message = "fromAccountId cannot be empty")
+    private Long fromAccountId;
+    @NotNull(message = "toAccountId cannot be empty")
+    private Long toAccountId;
+    @NotNull(message = "amount cannot be empty")
+    @Positive(message = "amount must be positive")
+    // Bounded by the ledger journal, which records amounts as long cents
+    @Digits(integer = 16, fraction = 2, message = "amount can have at most 16 integer digits and 2 decimal places")
+    private BigDecimal amount;
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime transferTime;
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private TransferStatus status;
+    // Sequence of the debit posting, only set when the transfer went through the ledger
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long ledgerSequence;
+}
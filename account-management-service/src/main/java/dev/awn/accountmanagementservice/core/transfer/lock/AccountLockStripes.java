@@ -0,0 +1,58 @@
+package dev.awn.accountmanagementservice.core.transfer.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Fixed set of locks that account ids are hashed onto, so that transfers between unrelated accounts rarely
+ * contend while memory stays bounded no matter how many accounts exist.
+ * <p>
+ * Two accounts are always locked in stripe order, which rules out deadlocks between opposite transfers.
+ */
+@Component
+public class AccountLockStripes {
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public AccountLockStripes(@Value("${transfer.lock-stripes:1024}") int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+
+        for(int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T callLocked(long firstAccountId, long secondAccountId, Supplier<T> action) {
+        int first = stripeOf(firstAccountId);
+        int second = stripeOf(secondAccountId);
+
+        ReentrantLock outer = locks[Math.min(first, second)];
+        ReentrantLock inner = locks[Math.max(first, second)];
+
+        outer.lock();
+        try {
+            inner.lock();
+            try {
+                return action.get();
+            } finally {
+                inner.unlock();
+            }
+        } finally {
+            outer.unlock();
+        }
+    }
+
+    public int stripes() {
+        return locks.length;
+    }
+
+    int stripeOf(long accountId) {
+        int hash = Long.hashCode(accountId);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
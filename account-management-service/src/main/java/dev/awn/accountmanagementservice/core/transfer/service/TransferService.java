@@ -0,0 +1,7 @@
+package dev.awn.accountmanagementservice.core.transfer.service;
+
+import dev.awn.accountmanagementservice.core.transfer.dto.TransferDTO;
+
+public interface TransferService {
+    TransferDTO transfer(TransferDTO transferDTO);
+}
@@ -0,0 +1,152 @@
+package dev.awn.accountmanagementservice.core.transfer.service.impl;
+
+import dev.awn.accountmanagementservice.common.config.ledger.LedgerProperties;
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.common.exception.InternalServerErrorException;
+import dev.awn.accountmanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.shard.AccountBalanceShards;
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerAccountSnapshot;
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerPostingReceipt;
+import dev.awn.accountmanagementservice.core.ledger.repository.LedgerPostingRepository;
+import dev.awn.accountmanagementservice.core.ledger.service.LedgerService;
+import dev.awn.accountmanagementservice.core.transfer.constant.TransferStatus;
+import dev.awn.accountmanagementservice.core.transfer.dto.TransferDTO;
+import dev.awn.accountmanagementservice.core.transfer.lock.AccountLockStripes;
+import dev.awn.accountmanagementservice.core.transfer.service.TransferService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Transfers that are acknowledged once their postings are durable in the ledger journal.
+ * <p>
+ * The balance check runs under the account locks against the stored balance plus every posting journaled
+ * after it, the database itself is updated later by the ledger applier in batches.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "ledger", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class LedgerTransferServiceImpl implements TransferService {
+    private final static Logger logger = LoggerFactory.getLogger(LedgerTransferServiceImpl.class);
+    private final long MAXIMUM_ACCOUNT_ID_RANGE = 9_999_999_999L;
+    private final long MINIMUM_ACCOUNT_ID_RANGE = 1_000_000_001L;
+
+    private final LedgerService ledgerService;
+    private final LedgerPostingRepository postingRepository;
+    private final AccountLockStripes lockStripes;
+    private final AccountBalanceShards balanceShards;
+    private final LedgerProperties ledgerProperties;
+
+    @Override
+    public TransferDTO transfer(TransferDTO transferDTO) {
+        long fromAccountId = transferDTO.getFromAccountId();
+        long toAccountId = transferDTO.getToAccountId();
+        BigDecimal amount = transferDTO.getAmount();
+
+        logger.info("will be checking if transfer of {} from id - {} to id - {} is valid", amount, fromAccountId, toAccountId);
+        validateId(fromAccountId);
+        validateId(toAccountId);
+        if(fromAccountId == toAccountId) {
+            logger.warn("transfer source and destination are the same account of id - {}", fromAccountId);
+            throw new BadRequestException("cannot transfer to the same account");
+        }
+
+        LocalDateTime transferTime = LocalDateTime.now();
+        long fromLockKey = AccountBalanceShards.lockKey(fromAccountId, AccountBalanceShards.UNSHARDED);
+        long toLockKey = AccountBalanceShards.lockKey(toAccountId, AccountBalanceShards.UNSHARDED);
+
+        // Postings are registered as pending before the locks are released, the fsync is awaited outside them
+        LedgerPostingReceipt receipt = lockStripes.callLocked(fromLockKey, toLockKey, () -> {
+            // Taken before the snapshot, a posting the applier commits in between is then still counted exactly once
+            NavigableMap<Long, BigDecimal> fromPending = ledgerService.pendingPostings(fromAccountId);
+            Map<Long, LedgerAccountSnapshot> snapshots = postingRepository.findSnapshots(List.of(fromAccountId, toAccountId))
+                                                                          .stream()
+                                                                          .collect(Collectors.toMap(LedgerAccountSnapshot::getAccountId, Function.identity()));
+
+            LedgerAccountSnapshot from = activeSnapshot(snapshots, fromAccountId);
+            activeSnapshot(snapshots, toAccountId);
+
+            if(availableBalance(from, fromPending).compareTo(amount) < 0) {
+                logger.warn("account of id - {} has insufficient balance for a debit of {}", fromAccountId, amount);
+                throw new BadRequestException("insufficient balance in account of id - " + fromAccountId);
+            }
+
+            return ledgerService.post(fromAccountId, toAccountId, amount, transferTime);
+        });
+
+        transferDTO.setTransferTime(transferTime);
+        transferDTO.setLedgerSequence(receipt.sequence());
+
+        // Only a failed write removes the postings again, until then the transfer still goes through, so a missed
+        // deadline is reported as pending rather than as a failure the client would retry
+        try {
+            receipt.durable().get(ledgerProperties.getAwaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("interrupted while waiting for transfer at ledger sequence {} to be journaled", receipt.sequence());
+            transferDTO.setStatus(TransferStatus.PENDING);
+            return transferDTO;
+        } catch (TimeoutException e) {
+            logger.warn("transfer at ledger sequence {} was not journaled within {}, reporting it as pending",
+                    receipt.sequence(), ledgerProperties.getAwaitTimeout());
+            transferDTO.setStatus(TransferStatus.PENDING);
+            return transferDTO;
+        } catch (ExecutionException e) {
+            logger.error("transfer of {} from id - {} to id - {} was not journaled", amount, fromAccountId, toAccountId, e);
+            throw new InternalServerErrorException("could not write the transfer to the ledger");
+        }
+
+        logger.info("journaled transfer of {} from id - {} to id - {}", amount, fromAccountId, toAccountId);
+        transferDTO.setStatus(TransferStatus.COMPLETED);
+        return transferDTO;
+    }
+
+    private BigDecimal availableBalance(LedgerAccountSnapshot snapshot, NavigableMap<Long, BigDecimal> pending) {
+        BigDecimal balance = pending.tailMap(snapshot.getAppliedSequence(), false)
+                                    .values()
+                                    .stream()
+                                    .reduce(snapshot.getBalance(), BigDecimal::add);
+
+        return balanceShards.isSharded(snapshot.getAccountId())
+                ? balance.add(balanceShards.shardBalance(snapshot.getAccountId()))
+                : balance;
+    }
+
+    private LedgerAccountSnapshot activeSnapshot(Map<Long, LedgerAccountSnapshot> snapshots, long id) {
+        LedgerAccountSnapshot snapshot = snapshots.get(id);
+        if(snapshot == null) {
+            logger.warn("no account found of id - {}", id);
+            throw new ResourceNotFoundException("no account found of id - " + id);
+        }
+
+        if(snapshot.getStatus() != AccountStatus.ACTIVE) {
+            logger.warn("account of id - {} is not active", id);
+            throw new BadRequestException("account of id - " + id + " is not active");
+        }
+
+        return snapshot;
+    }
+
+    private void validateId(long id) {
+        if(id > MAXIMUM_ACCOUNT_ID_RANGE || id < MINIMUM_ACCOUNT_ID_RANGE) {
+            logger.warn("invalid id - {}", id);
+            throw new BadRequestException("invalid id - " + id);
+        }
+    }
+}
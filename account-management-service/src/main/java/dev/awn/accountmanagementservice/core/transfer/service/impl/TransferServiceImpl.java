@@ -0,0 +1,144 @@
+package dev.awn.accountmanagementservice.core.transfer.service.impl;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.accountmanagementservice.core.account.cache.AccountCache;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import dev.awn.accountmanagementservice.core.account.shard.AccountBalanceShards;
+import dev.awn.accountmanagementservice.core.account.shard.ShardBalanceExhaustedException;
+import dev.awn.accountmanagementservice.core.transfer.constant.TransferStatus;
+import dev.awn.accountmanagementservice.core.transfer.dto.TransferDTO;
+import dev.awn.accountmanagementservice.core.transfer.lock.AccountLockStripes;
+import dev.awn.accountmanagementservice.core.transfer.service.TransferService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class TransferServiceImpl implements TransferService {
+    private final static Logger logger = LoggerFactory.getLogger(TransferServiceImpl.class);
+    private final long MAXIMUM_ACCOUNT_ID_RANGE = 9_999_999_999L;
+    private final long MINIMUM_ACCOUNT_ID_RANGE = 1_000_000_001L;
+
+    private final AccountRepository accountRepository;
+    private final AccountLockStripes lockStripes;
+    private final AccountBalanceShards balanceShards;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountCache accountCache;
+
+    @Override
+    public TransferDTO transfer(TransferDTO transferDTO) {
+        long fromAccountId = transferDTO.getFromAccountId();
+        long toAccountId = transferDTO.getToAccountId();
+        BigDecimal amount = transferDTO.getAmount();
+
+        logger.info("will be checking if transfer of {} from id - {} to id - {} is valid", amount, fromAccountId, toAccountId);
+        validateId(fromAccountId);
+        validateId(toAccountId);
+        if(fromAccountId == toAccountId) {
+            logger.warn("transfer source and destination are the same account of id - {}", fromAccountId);
+            throw new BadRequestException("cannot transfer to the same account");
+        }
+
+        LocalDateTime transferTime = LocalDateTime.now();
+        int fromShard = balanceShards.pickShard(fromAccountId);
+        int toShard = balanceShards.pickShard(toAccountId);
+
+        try {
+            execute(fromAccountId, fromShard, toAccountId, toShard, amount, transferTime, false);
+        } catch (ShardBalanceExhaustedException e) {
+            logger.info("no single shard of account of id - {} covers {}, will be debiting across its shards", fromAccountId, amount);
+            execute(fromAccountId, fromShard, toAccountId, toShard, amount, transferTime, true);
+        }
+
+        accountCache.evictAll(List.of(fromAccountId, toAccountId));
+        logger.info("transferred {} from id - {} to id - {}", amount, fromAccountId, toAccountId);
+        transferDTO.setTransferTime(transferTime);
+        transferDTO.setStatus(TransferStatus.COMPLETED);
+        return transferDTO;
+    }
+
+    private void execute(long fromAccountId, int fromShard, long toAccountId, int toShard,
+                         BigDecimal amount, LocalDateTime transferTime, boolean acrossShards) {
+        long fromLockKey = AccountBalanceShards.lockKey(fromAccountId, acrossShards ? AccountBalanceShards.UNSHARDED : fromShard);
+        long toLockKey = AccountBalanceShards.lockKey(toAccountId, toShard);
+
+        // The transaction commits before the locks are released, so the next transfer on the stripe sees its result
+        lockStripes.callLocked(fromLockKey, toLockKey, () -> transactionTemplate.execute(status -> {
+            // Rows are always updated in id order so the database never sees two transfers lock a pair in opposite order
+            if(fromAccountId < toAccountId) {
+                debit(fromAccountId, fromShard, amount, transferTime, acrossShards);
+                credit(toAccountId, toShard, amount, transferTime);
+            } else {
+                credit(toAccountId, toShard, amount, transferTime);
+                debit(fromAccountId, fromShard, amount, transferTime, acrossShards);
+            }
+            return null;
+        }));
+    }
+
+    private void debit(long id, int shard, BigDecimal amount, LocalDateTime transferTime, boolean acrossShards) {
+        boolean debited;
+        if(shard == AccountBalanceShards.UNSHARDED) {
+            debited = accountRepository.debit(id, amount, AccountStatus.ACTIVE, transferTime) == 1;
+        } else if(acrossShards) {
+            debited = balanceShards.debitAcrossShards(id, amount, transferTime);
+        } else {
+            debited = balanceShards.debit(id, shard, amount);
+        }
+
+        if(debited) {
+            return;
+        }
+
+        Account account = findAccount(id);
+        if(account.getStatus() != AccountStatus.ACTIVE) {
+            logger.warn("account of id - {} is not active, will not be debiting it", id);
+            throw new BadRequestException("account of id - " + id + " is not active");
+        }
+
+        logger.warn("account of id - {} has insufficient balance for a debit of {}", id, amount);
+        throw new BadRequestException("insufficient balance in account of id - " + id);
+    }
+
+    private void credit(long id, int shard, BigDecimal amount, LocalDateTime transferTime) {
+        boolean credited = shard == AccountBalanceShards.UNSHARDED
+                ? accountRepository.credit(id, amount, AccountStatus.ACTIVE, transferTime) == 1
+                : balanceShards.credit(id, shard, amount, transferTime);
+
+        if(credited) {
+            return;
+        }
+
+        findAccount(id);
+        logger.warn("account of id - {} is not active, will not be crediting it", id);
+        throw new BadRequestException("account of id - " + id + " is not active");
+    }
+
+    private Account findAccount(long id) {
+        Optional<Account> account = accountRepository.findById(id);
+        if(account.isEmpty()) {
+            logger.warn("no account found of id - {}", id);
+            throw new ResourceNotFoundException("no account found of id - " + id);
+        }
+
+        return account.get();
+    }
+
+    private void validateId(long id) {
+        if(id > MAXIMUM_ACCOUNT_ID_RANGE || id < MINIMUM_ACCOUNT_ID_RANGE) {
+            logger.warn("invalid id - {}", id);
+            throw new BadRequestException("invalid id - " + id);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+-- Run on startup by the prod profile, dev lets Hibernate create and update the tables instead.
+-- Every statement is idempotent. ACCOUNTS tables created before LEDGER_SEQUENCE and the listing indexes need
+-- ALTER TABLE ACCOUNTS ADD COLUMN LEDGER_SEQUENCE BIGINT and the three CREATE INDEX below applied once by hand.
+
+CREATE TABLE IF NOT EXISTS ACCOUNTS (
+    ID                BIGINT         NOT NULL,
+    CUSTOMER_ID       BIGINT,
+    BALANCE           DECIMAL(38, 2),
+    STATUS            VARCHAR(255),
+    TYPE              VARCHAR(255),
+    CREATION_TIME     DATETIME(6),
+    MODIFICATION_TIME DATETIME(6),
+    LEDGER_SEQUENCE   BIGINT,
+    PRIMARY KEY (ID),
+    INDEX IDX_ACCOUNTS_CUSTOMER_ID (CUSTOMER_ID, ID),
+    INDEX IDX_ACCOUNTS_STATUS (STATUS, ID),
+    INDEX IDX_ACCOUNTS_TYPE (TYPE, ID)
+);
+
+-- Bit (n - 1) of SUFFIXES is set when the account suffix n of the customer is taken
+CREATE TABLE IF NOT EXISTS ACCOUNT_SUFFIX_ALLOCATIONS (
+    CUSTOMER_ID BIGINT NOT NULL,
+    SUFFIXES    INT    NOT NULL,
+    PRIMARY KEY (CUSTOMER_ID)
+);
+
+CREATE TABLE IF NOT EXISTS ACCOUNT_BALANCE_SHARDS (
+    ACCOUNT_ID BIGINT         NOT NULL,
+    SHARD      INT            NOT NULL,
+    BALANCE    DECIMAL(38, 2) NOT NULL,
+    PRIMARY KEY (ACCOUNT_ID, SHARD)
+);
+
+CREATE TABLE IF NOT EXISTS LEDGER_POSTINGS (
+    SEQUENCE                BIGINT         NOT NULL,
+    ACCOUNT_ID              BIGINT         NOT NULL,
+    COUNTERPARTY_ACCOUNT_ID BIGINT         NOT NULL,
+    AMOUNT                  DECIMAL(38, 2) NOT NULL,
+    POSTING_TIME            DATETIME(6)    NOT NULL,
+    PRIMARY KEY (SEQUENCE),
+    INDEX IDX_LEDGER_POSTINGS_ACCOUNT_ID (ACCOUNT_ID, SEQUENCE)
+);
+
+CREATE TABLE IF NOT EXISTS CUSTOMER_REPLICAS (
+    ID           BIGINT       NOT NULL,
+    NAME         VARCHAR(255),
+    TYPE         VARCHAR(255),
+    DELETED      BOOLEAN      NOT NULL,
+    VERSION_TIME DATETIME(6)  NOT NULL,
+    PRIMARY KEY (ID)
+);
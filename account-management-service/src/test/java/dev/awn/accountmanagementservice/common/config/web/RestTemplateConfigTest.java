@@ -0,0 +1,76 @@
+package dev.awn.accountmanagementservice.common.config.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestTemplateConfigTest {
+
+    private final RestTemplateConfig restTemplateConfig = new RestTemplateConfig();
+
+    @Test
+    void testConnectionManager_WhenPropertiesAreSet_AppliesPoolLimits() {
+        // Arrange
+        RestTemplateProperties properties = new RestTemplateProperties();
+        properties.setMaxConnections(50);
+        properties.setMaxConnectionsPerRoute(20);
+
+        // Act
+        PoolingHttpClientConnectionManager connectionManager = restTemplateConfig.connectionManager(properties);
+
+        // Assert
+        assertEquals(50, connectionManager.getMaxTotal());
+        assertEquals(20, connectionManager.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    void testRestTemplate_WhenBuilt_UsesPooledRequestFactory() {
+        // Arrange
+        RestTemplateProperties properties = new RestTemplateProperties();
+        PoolingHttpClientConnectionManager connectionManager = restTemplateConfig.connectionManager(properties);
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("restTemplateBuilder", new RestTemplateBuilder());
+
+        // Act
+        RestTemplate restTemplate = restTemplateConfig.restTemplate(beanFactory.getBeanProvider(RestTemplateBuilder.class),
+                restTemplateConfig.httpClient(connectionManager, properties));
+
+        // Assert
+        assertInstanceOf(HttpComponentsClientHttpRequestFactory.class, restTemplate.getRequestFactory());
+    }
+
+    @Test
+    void testRestTemplate_WhenThereIsNoBuilder_StillUsesPooledRequestFactory() {
+        // Arrange
+        RestTemplateProperties properties = new RestTemplateProperties();
+        PoolingHttpClientConnectionManager connectionManager = restTemplateConfig.connectionManager(properties);
+
+        // Act
+        RestTemplate restTemplate = restTemplateConfig.restTemplate(new DefaultListableBeanFactory().getBeanProvider(RestTemplateBuilder.class),
+                restTemplateConfig.httpClient(connectionManager, properties));
+
+        // Assert
+        assertInstanceOf(HttpComponentsClientHttpRequestFactory.class, restTemplate.getRequestFactory());
+    }
+
+    @Test
+    void testConnectionPoolMetrics_WhenBound_ExposesPoolGauges() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PoolingHttpClientConnectionManager connectionManager = restTemplateConfig.connectionManager(new RestTemplateProperties());
+
+        // Act
+        restTemplateConfig.connectionPoolMetrics(connectionManager).bindTo(meterRegistry);
+
+        // Assert
+        assertNotNull(meterRegistry.find("httpcomponents.httpclient.pool.total.max").gauge());
+        assertEquals(200, meterRegistry.get("httpcomponents.httpclient.pool.total.max").gauge().value());
+    }
+}
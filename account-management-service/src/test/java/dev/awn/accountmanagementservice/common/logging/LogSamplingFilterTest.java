@@ -0,0 +1,85 @@
+package dev.awn.accountmanagementservice.common.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSamplingFilterTest {
+    private final static String SAMPLED = "dev.awn.sampled";
+    private final static String UNSAMPLED = "dev.awn.unsampled";
+    private final static int EVENTS = 10_000;
+
+    private LoggerContext loggerContext;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+
+        LogSamplingFilter filter = new LogSamplingFilter();
+        filter.setContext(loggerContext);
+        filter.addSample(SAMPLED + "=10");
+        filter.start();
+        loggerContext.addTurboFilter(filter);
+
+        appender = new ListAppender<>();
+        appender.setContext(loggerContext);
+        appender.start();
+        loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(appender);
+    }
+
+    @Test
+    void testDecide_WhenLoggerIsSampled_KeepsAboutOneInRateInfoEvents() {
+        // Act
+        Logger logger = loggerContext.getLogger(SAMPLED);
+        for(int i = 0; i < EVENTS; i++) {
+            logger.info("will be checking if customer exists of customerId - {}", i);
+        }
+
+        // Assert
+        assertTrue(appender.list.size() > EVENTS / 10 / 2, "kept " + appender.list.size());
+        assertTrue(appender.list.size() < EVENTS / 10 * 2, "kept " + appender.list.size());
+    }
+
+    @Test
+    void testDecide_WhenFluentApiIsUsed_SamplesAndKeepsKeyValues() {
+        // Act
+        Logger logger = loggerContext.getLogger(SAMPLED);
+        for(int i = 0; i < EVENTS; i++) {
+            logger.atInfo().addKeyValue("customerId", i).log("will be checking if customer exists");
+        }
+
+        // Assert
+        assertTrue(appender.list.size() < EVENTS / 10 * 2, "kept " + appender.list.size());
+        assertEquals("customerId", appender.list.get(0).getKeyValuePairs().get(0).key);
+    }
+
+    @Test
+    void testDecide_WhenLevelIsWarn_KeepsEveryEvent() {
+        // Act
+        Logger logger = loggerContext.getLogger(SAMPLED);
+        for(int i = 0; i < 100; i++) {
+            logger.warn("no customer found of customerId - {}", i);
+        }
+
+        // Assert
+        assertEquals(100, appender.list.size());
+    }
+
+    @Test
+    void testDecide_WhenLoggerIsNotConfigured_KeepsEveryEvent() {
+        // Act
+        Logger logger = loggerContext.getLogger(UNSAMPLED);
+        for(int i = 0; i < 100; i++) {
+            logger.info("received request");
+        }
+
+        // Assert
+        assertEquals(100, appender.list.size());
+    }
+}
@@ -0,0 +1,171 @@
+package dev.awn.accountmanagementservice.common.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures what logging costs the calling thread per account creation, with the default synchronous pattern
+ * appenders and with the {@code async-logging} setup: the asynchronous JSON appender and 1 in 10 sampling.
+ * <p>
+ * Skipped unless asked for, e.g. {@code mvn test -Dtest=LoggingOverheadBenchmarkTest -Dbenchmark.logging=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark.logging", matches = "true")
+class LoggingOverheadBenchmarkTest {
+    private final static org.slf4j.Logger logger = LoggerFactory.getLogger(LoggingOverheadBenchmarkTest.class);
+    private final static String LOGGER_NAME = "dev.awn.accountmanagementservice.core.account.service.impl.AccountServiceImpl";
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+    private static final int OPERATIONS = Integer.getInteger("benchmark.operations", 200_000);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testLoggingModes_ForTheCreateAccountPath_ReportCallerCost() throws Exception {
+        // Arrange
+        LoggerContext syncContext = synchronousContext();
+        LoggerContext asyncContext = asynchronousContext();
+
+        // Act
+        run(syncContext.getLogger(LOGGER_NAME), OPERATIONS / 10);
+        Cost sync = run(syncContext.getLogger(LOGGER_NAME), OPERATIONS);
+        run(asyncContext.getLogger(LOGGER_NAME), OPERATIONS / 10);
+        Cost async = run(asyncContext.getLogger(LOGGER_NAME), OPERATIONS);
+
+        syncContext.stop();
+        asyncContext.stop();
+
+        // Assert
+        logger.info("synchronous pattern appenders - {} ns and {} bytes allocated per createAccount", sync.nanosPerOperation(), sync.bytesPerOperation());
+        logger.info("async-logging - {} ns and {} bytes allocated per createAccount", async.nanosPerOperation(), async.bytesPerOperation());
+        assertTrue(async.nanosPerOperation() < sync.nanosPerOperation());
+    }
+
+    // The INFO lines a single createAccount writes
+    private static void createAccount(Logger accountLogger, long customerId) {
+        long accountId = customerId * 1000 + 1;
+        accountLogger.atInfo().addKeyValue("customerId", customerId).log("will be checking if customer exists");
+        accountLogger.atInfo().addKeyValue("customerId", customerId).log("will be summarizing the existing accounts");
+        accountLogger.info("will perform account type checking");
+        accountLogger.info("will be allocating a new account id suffix (last 3 digits)");
+        accountLogger.info("allocated suffix {} for customerId - {}", 1, customerId);
+        accountLogger.atInfo().addKeyValue("accountId", accountId).log("calculated new account id");
+        accountLogger.info("will be saving the new account");
+        accountLogger.info("will be hitting the following url to get customer details - {}", "http://localhost:8081/api/v1/customers/" + customerId);
+    }
+
+    private Cost run(Logger accountLogger, int operations) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        List<Future<long[]>> futures = new ArrayList<>();
+        for(int t = 0; t < THREADS; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+                long startTime = System.nanoTime();
+                for(int i = offset; i < operations; i += THREADS) {
+                    createAccount(accountLogger, 1_000_000L + i);
+                }
+                return new long[]{System.nanoTime() - startTime, threads.getCurrentThreadAllocatedBytes() - allocatedBefore};
+            }));
+        }
+
+        long nanos = 0;
+        long bytes = 0;
+        for(Future<long[]> future : futures) {
+            long[] cost = future.get(10, TimeUnit.MINUTES);
+            nanos += cost[0];
+            bytes += cost[1];
+        }
+        executor.shutdown();
+
+        return new Cost(nanos / operations, bytes / operations);
+    }
+
+    // The default configuration, a file and a console appender both resolving the caller class (%C)
+    private LoggerContext synchronousContext() {
+        LoggerContext context = new LoggerContext();
+        FileAppender<ILoggingEvent> file = fileAppender(context, "sync.log", patternEncoder(context, "%d %p %C{1} [%t] %m %kvp%n"));
+        FileAppender<ILoggingEvent> console = fileAppender(context, "console.log",
+                patternEncoder(context, "%d{ISO8601} %-5level [%t] %C{1}: %msg %kvp%n%throwable"));
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.addAppender(file);
+        root.addAppender(console);
+        return context;
+    }
+
+    private LoggerContext asynchronousContext() {
+        LoggerContext context = new LoggerContext();
+
+        LogSamplingFilter filter = new LogSamplingFilter();
+        filter.setContext(context);
+        filter.addSample(LOGGER_NAME + "=10");
+        filter.start();
+        context.addTurboFilter(filter);
+
+        JsonEncoder encoder = new JsonEncoder();
+        encoder.setContext(context);
+        encoder.setWithMessage(false);
+        encoder.setWithArguments(false);
+        encoder.setWithFormattedMessage(true);
+        encoder.setWithContext(false);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = fileAppender(context, "async.json", encoder);
+        file.setImmediateFlush(false);
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(20);
+        async.setNeverBlock(true);
+        async.addAppender(file);
+        async.start();
+
+        context.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(async);
+        return context;
+    }
+
+    private FileAppender<ILoggingEvent> fileAppender(LoggerContext context, String name, Encoder<ILoggingEvent> encoder) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(directory.resolve(name).toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    private static PatternLayoutEncoder patternEncoder(LoggerContext context, String pattern) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(pattern);
+        encoder.start();
+        return encoder;
+    }
+
+    private record Cost(long nanosPerOperation, long bytesPerOperation) {
+    }
+}
@@ -0,0 +1,122 @@
+package dev.awn.accountmanagementservice.common.sql;
+
+import dev.awn.accountmanagementservice.common.config.sql.SqlStatisticsConfig;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({SqlStatisticsConfig.class, SqlStatisticsEndpoint.class})
+class SqlStatisticsEndpointTest {
+
+    @Autowired
+    private SqlStatisticsEndpoint endpoint;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private static final long CUSTOMER_ID = 1_000_000L;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.saveAndFlush(Account.builder()
+                                              .id(CUSTOMER_ID * 1000 + 1)
+                                              .customerId(CUSTOMER_ID)
+                                              .balance(BigDecimal.TEN)
+                                              .status(AccountStatus.ACTIVE)
+                                              .type(AccountType.SAVINGS)
+                                              .creationTime(LocalDateTime.now())
+                                              .build());
+        endpoint.reset();
+    }
+
+    @Test
+    void testReport_WhenStatementsRan_ReportsCountsRowsAndLatencies() {
+        // Arrange
+        for(int i = 0; i < 3; i++) {
+            accountRepository.findIdsByCustomerId(CUSTOMER_ID);
+        }
+
+        // Act
+        SqlStatisticsEndpoint.SqlStatisticsReport report = endpoint.report();
+
+        // Assert
+        assertEquals(1, report.statements().size());
+        SqlStatementStatistics.StatementSummary statement = report.statements().get(0);
+        assertEquals(3, statement.executions());
+        assertEquals(3, statement.rows());
+        assertEquals(3, statement.latencies().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(3, report.slowest().size());
+        assertTrue(report.nPlusOneSuspects().isEmpty());
+    }
+
+    @Test
+    void testReport_WhenOneSessionRepeatsAStatement_ReportsAnNPlusOneSuspect() {
+        // Arrange - the test transaction keeps a single session open
+        for(int i = 0; i < 10; i++) {
+            accountRepository.findByCustomerId(CUSTOMER_ID + i);
+        }
+
+        // Act
+        SqlStatisticsEndpoint.SqlStatisticsReport report = endpoint.report();
+
+        // Assert
+        assertEquals(1, report.nPlusOneSuspects().size());
+        assertEquals("statement", report.nPlusOneSuspects().get(0).kind());
+        assertEquals(1, report.nPlusOneSuspects().get(0).count());
+    }
+
+    @Test
+    void testReset_WhenStatisticsWereRecorded_ClearsThem() {
+        // Arrange
+        accountRepository.findByCustomerId(CUSTOMER_ID);
+
+        // Act
+        endpoint.reset();
+
+        // Assert
+        SqlStatisticsEndpoint.SqlStatisticsReport report = endpoint.report();
+        assertTrue(report.statements().isEmpty());
+        assertTrue(report.slowest().isEmpty());
+        assertEquals(0, report.queryExecutions());
+    }
+
+    @Nested
+    @TestPropertySource(properties = "sql.statistics.slow-statement-count=0")
+    class WhenTheSlowestListIsOff {
+
+        // Injected from this class's own context, the outer fields come from the default one
+        @Autowired
+        private SqlStatisticsEndpoint slowestOffEndpoint;
+
+        @Autowired
+        private AccountRepository slowestOffRepository;
+
+        @Test
+        void testReport_WhenStatementsRan_StillCountsThemButKeepsNoSlowest() {
+            // Arrange
+            slowestOffEndpoint.reset();
+            slowestOffRepository.findIdsByCustomerId(CUSTOMER_ID);
+
+            // Act
+            SqlStatisticsEndpoint.SqlStatisticsReport report = slowestOffEndpoint.report();
+
+            // Assert
+            assertEquals(1, report.statements().size());
+            assertTrue(report.slowest().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package dev.awn.accountmanagementservice.core.account.allocator;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import dev.awn.accountmanagementservice.core.account.repository.AccountSuffixAllocationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(AccountSuffixAllocator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountSuffixAllocatorTest {
+
+    @Autowired
+    private AccountSuffixAllocator suffixAllocator;
+
+    @Autowired
+    private AccountSuffixAllocationRepository allocationRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static final long CUSTOMER_ID = 1_000_000L;
+    private static final int THREADS = 64;
+
+    @AfterEach
+    void tearDown() {
+        allocationRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    void testAllocate_WhenCustomerHasAccounts_SeedsFromExistingSuffixes() {
+        // Arrange
+        accountRepository.saveAll(List.of(account(CUSTOMER_ID * 1000 + 1), account(CUSTOMER_ID * 1000 + 3)));
+
+        // Act
+        List<Integer> suffixes = suffixAllocator.allocate(CUSTOMER_ID, 2);
+
+        // Assert
+        assertEquals(List.of(2, 4), suffixes);
+        assertEquals(0b1111, allocationRepository.findSuffixesByCustomerId(CUSTOMER_ID).orElseThrow());
+    }
+
+    @Test
+    void testAllocate_WhenAllSuffixesAreTaken_ThrowsBadRequestException() {
+        // Arrange
+        suffixAllocator.allocate(CUSTOMER_ID, 10);
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> suffixAllocator.allocate(CUSTOMER_ID));
+
+        assertEquals("customerId of - " + CUSTOMER_ID + " already has maximum number of accounts allowed", exception.getMessage());
+    }
+
+    @Test
+    void testRelease_WhenSuffixIsReleased_HandsItOutAgain() {
+        // Arrange
+        suffixAllocator.allocate(CUSTOMER_ID, 3);
+
+        // Act
+        suffixAllocator.release(CUSTOMER_ID * 1000 + 2);
+
+        // Assert
+        assertEquals(2, suffixAllocator.allocate(CUSTOMER_ID));
+    }
+
+    @Test
+    void testAllocate_WhenCalledConcurrently_NeverHandsOutTheSameSuffixTwice() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Integer> handedOut = ConcurrentHashMap.newKeySet();
+        AtomicInteger collisions = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    if (!handedOut.add(suffixAllocator.allocate(CUSTOMER_ID))) {
+                        collisions.incrementAndGet();
+                    }
+                } catch (BadRequestException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(0, collisions.get());
+        assertEquals(Set.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), handedOut);
+        assertEquals(THREADS - 10, rejected.get());
+    }
+
+    @Test
+    void testAllocateAndRelease_WhenChurningConcurrently_NeverHandsOutAHeldSuffix() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        Set<Integer> held = ConcurrentHashMap.newKeySet();
+        AtomicInteger collisions = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 20; j++) {
+                    int suffix;
+                    try {
+                        suffix = suffixAllocator.allocate(CUSTOMER_ID);
+                    } catch (BadRequestException e) {
+                        continue;
+                    }
+
+                    if (!held.add(suffix)) {
+                        collisions.incrementAndGet();
+                    }
+                    held.remove(suffix);
+                    suffixAllocator.release(CUSTOMER_ID * 1000 + suffix);
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(0, collisions.get());
+        assertEquals(0, allocationRepository.findSuffixesByCustomerId(CUSTOMER_ID).orElseThrow());
+    }
+
+    @Test
+    void testReleaseAfterCommit_WhenTransactionRollsBack_KeepsTheSuffixHeld() {
+        // Arrange
+        int suffix = suffixAllocator.allocate(CUSTOMER_ID);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act
+        transaction.executeWithoutResult(status -> {
+            suffixAllocator.releaseAfterCommit(CUSTOMER_ID * 1000 + suffix);
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertEquals(0b1, allocationRepository.findSuffixesByCustomerId(CUSTOMER_ID).orElseThrow());
+    }
+
+    @Test
+    void testReleaseAfterCommit_WhenTransactionCommits_ReleasesTheSuffixOnlyAfterwards() {
+        // Arrange
+        int suffix = suffixAllocator.allocate(CUSTOMER_ID);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act
+        int beforeCommit = transaction.execute(status -> {
+            suffixAllocator.releaseAfterCommit(CUSTOMER_ID * 1000 + suffix);
+            return allocationRepository.findSuffixesByCustomerId(CUSTOMER_ID).orElseThrow();
+        });
+
+        // Assert
+        assertEquals(0b1, beforeCommit);
+        assertEquals(0, allocationRepository.findSuffixesByCustomerId(CUSTOMER_ID).orElseThrow());
+    }
+
+    private Account account(long id) {
+        return Account.builder()
+                      .id(id)
+                      .customerId(CUSTOMER_ID)
+                      .balance(BigDecimal.ZERO)
+                      .status(AccountStatus.ACTIVE)
+                      .type(AccountType.SAVINGS)
+                      .creationTime(LocalDateTime.now())
+                      .build();
+    }
+}
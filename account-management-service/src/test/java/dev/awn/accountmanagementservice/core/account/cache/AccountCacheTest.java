@@ -0,0 +1,107 @@
+package dev.awn.accountmanagementservice.core.account.cache;
+
+import dev.awn.accountmanagementservice.common.config.cache.AccountCacheProperties;
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountCache accountCache;
+    private AtomicInteger loads;
+    private Function<Long, AccountDTO> loader;
+
+    private static final long CUSTOMER_ID = 1_000_000L;
+    private static final long ACCOUNT_ID = CUSTOMER_ID * 1000 + 1;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accountCache = new AccountCache(new AccountCacheProperties(), meterRegistry);
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return AccountDTO.builder().id(id).customerId(id / 1000).build();
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testGet_WhenCalledTwice_LoadsOnceAndRecordsHitRatio() {
+        // Act
+        AccountDTO first = accountCache.get(ACCOUNT_ID, loader);
+        AccountDTO second = accountCache.get(ACCOUNT_ID, loader);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(0.5, meterRegistry.get("cache.hit.ratio").tag("cache", "accounts").gauge().value());
+        assertEquals(0, meterRegistry.get("cache.evictions").tag("cache", "accounts").functionCounter().count());
+    }
+
+    @Test
+    void testEvict_WhenNoTransactionIsActive_EvictsRightAway() {
+        // Arrange
+        accountCache.get(ACCOUNT_ID, loader);
+
+        // Act
+        accountCache.evict(ACCOUNT_ID);
+        accountCache.get(ACCOUNT_ID, loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testEvict_WhenTransactionIsActive_EvictsAfterCommit() {
+        // Arrange
+        accountCache.get(ACCOUNT_ID, loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        accountCache.evict(ACCOUNT_ID);
+        accountCache.get(ACCOUNT_ID, loader);
+        int loadsBeforeCommit = loads.get();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        accountCache.get(ACCOUNT_ID, loader);
+
+        // Assert
+        assertEquals(1, loadsBeforeCommit);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testEvictAllOf_WhenCustomersAreDeleted_EvictsOnlyTheirAccounts() {
+        // Arrange
+        long otherAccountId = (CUSTOMER_ID + 1) * 1000 + 1;
+        accountCache.get(ACCOUNT_ID, loader);
+        accountCache.get(ACCOUNT_ID + 1, loader);
+        accountCache.get(otherAccountId, loader);
+
+        // Act
+        accountCache.evictAllOf(Set.of(CUSTOMER_ID));
+        accountCache.get(ACCOUNT_ID, loader);
+        accountCache.get(ACCOUNT_ID + 1, loader);
+        accountCache.get(otherAccountId, loader);
+
+        // Assert
+        assertEquals(5, loads.get());
+    }
+}
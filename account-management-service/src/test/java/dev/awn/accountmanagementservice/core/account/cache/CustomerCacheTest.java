@@ -0,0 +1,76 @@
+package dev.awn.accountmanagementservice.core.account.cache;
+
+import dev.awn.accountmanagementservice.common.config.cache.CustomerCacheProperties;
+import dev.awn.accountmanagementservice.core.account.client.CustomerClient;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerCacheTest {
+
+    @Mock
+    private CustomerClient customerClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerCache customerCache;
+
+    private static final long CUSTOMER_ID = 1_000_000L;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        customerCache = new CustomerCache(customerClient, new CustomerCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void testGet_WhenCalledTwice_HitsCustomerServiceOnce() {
+        // Arrange
+        CustomerDTO customerDTO = CustomerDTO.builder().id(CUSTOMER_ID).build();
+        when(customerClient.getCustomer(CUSTOMER_ID)).thenReturn(customerDTO);
+
+        // Act
+        CustomerDTO first = customerCache.get(CUSTOMER_ID);
+        CustomerDTO second = customerCache.get(CUSTOMER_ID);
+
+        // Assert
+        assertSame(first, second);
+        verify(customerClient, times(1)).getCustomer(CUSTOMER_ID);
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testGet_WhenCustomerDoesntExist_IsNotCached() {
+        // Arrange
+        when(customerClient.getCustomer(CUSTOMER_ID)).thenReturn(null);
+
+        // Act
+        customerCache.get(CUSTOMER_ID);
+        customerCache.get(CUSTOMER_ID);
+
+        // Assert
+        verify(customerClient, times(2)).getCustomer(CUSTOMER_ID);
+    }
+
+    @Test
+    void testEvict_WhenCustomerIsCached_ReloadsOnNextGet() {
+        // Arrange
+        when(customerClient.getCustomer(CUSTOMER_ID)).thenReturn(CustomerDTO.builder().id(CUSTOMER_ID).build());
+        customerCache.get(CUSTOMER_ID);
+
+        // Act
+        customerCache.evict(CUSTOMER_ID);
+        customerCache.get(CUSTOMER_ID);
+
+        // Assert
+        verify(customerClient, times(2)).getCustomer(CUSTOMER_ID);
+    }
+}
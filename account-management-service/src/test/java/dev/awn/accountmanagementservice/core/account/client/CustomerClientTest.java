@@ -0,0 +1,75 @@
+package dev.awn.accountmanagementservice.core.account.client;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerDTO;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class CustomerClientTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MockRestServiceServer server;
+    private CustomerClient customerClient;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setObservationRegistry(observationRegistry);
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        customerClient = new CustomerClient(restTemplate);
+    }
+
+    @Test
+    void testGetCustomer_WhenCalledForDifferentCustomers_TimesThemUnderOneUriTag() {
+        // Arrange
+        for(long id = 1; id <= 3; id++) {
+            server.expect(requestTo("http://localhost:8081/api/v1/customers/" + id))
+                  .andExpect(method(HttpMethod.GET))
+                  .andRespond(withSuccess("{\"id\":" + id + "}", MediaType.APPLICATION_JSON));
+        }
+
+        // Act
+        for(long id = 1; id <= 3; id++) {
+            CustomerDTO customer = customerClient.getCustomer(id);
+            assertEquals(Long.valueOf(id), customer.getId());
+        }
+
+        // Assert
+        server.verify();
+        Timer timer = meterRegistry.get("http.client.requests").timer();
+        assertEquals("/api/v1/customers/{id}", timer.getId().getTag("uri"));
+        assertEquals("SUCCESS", timer.getId().getTag("outcome"));
+        assertEquals(3, timer.count());
+    }
+
+    @Test
+    void testGetCustomer_WhenCustomerServiceFails_TimesTheFailure() {
+        // Arrange
+        server.expect(requestTo("http://localhost:8081/api/v1/customers/1"))
+              .andRespond(withServerError());
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> customerClient.getCustomer(1));
+
+        Timer timer = meterRegistry.get("http.client.requests").tag("outcome", "SERVER_ERROR").timer();
+        assertEquals(1, timer.count());
+    }
+}
@@ -1,8 +1,13 @@
 package dev.awn.accountmanagementservice.core.account.controller;
 
+import dev.awn.accountmanagementservice.common.exception.ServiceUnavailableException;
 import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
 import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.dto.AccountBatchItemDTO;
+import dev.awn.accountmanagementservice.core.account.dto.AccountBatchResponseDTO;
 import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import dev.awn.accountmanagementservice.core.account.dto.AccountPageDTO;
+import dev.awn.accountmanagementservice.core.account.export.AccountExporter;
 import dev.awn.accountmanagementservice.core.account.service.AccountService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,15 +15,34 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AccountController.class)
@@ -30,8 +54,12 @@ class AccountControllerTest {
     @MockBean
     private AccountService accountService;
 
+    @MockBean
+    private AccountExporter accountExporter;
+
     private static final long ACCOUNT_ID = 1_000_000_001L;
     private static final long CUSTOMER_ID = 1_000_000L;
+    private static final LocalDateTime LAST_MODIFIED = LocalDateTime.of(2024, 9, 1, 10, 15, 30, 123_456_000);
 
     @Test
     void testGetAccount_WhenAccountExists_ReturnsAccountDTO() throws Exception {
@@ -59,6 +87,138 @@ class AccountControllerTest {
         verify(accountService).getAccount(ACCOUNT_ID);
     }
 
+    @Test
+    void testGetAccount_WhenAccountHasAModificationTime_ReturnsValidators() throws Exception {
+        // arrange
+        AccountDTO accountDTO = AccountDTO.builder()
+                                          .id(ACCOUNT_ID)
+                                          .lastModified(LAST_MODIFIED)
+                                          .build();
+
+        when(accountService.getAccount(ACCOUNT_ID)).thenReturn(accountDTO);
+
+        // act
+        mockMvc.perform(get("/accounts/{id}", ACCOUNT_ID))
+               .andExpect(status().isOk())
+               .andExpect(header().exists("ETag"))
+               .andExpect(header().dateValue("Last-Modified", LAST_MODIFIED.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / 1000 * 1000))
+               .andExpect(jsonPath("$.lastModified").doesNotExist());
+
+        // assert
+        verify(accountService, never()).getLastModified(ACCOUNT_ID);
+    }
+
+    @Test
+    void testGetAccount_WhenETagStillMatches_ReturnsNotModifiedWithoutLoadingTheAccount() throws Exception {
+        // arrange
+        when(accountService.getAccount(ACCOUNT_ID)).thenReturn(AccountDTO.builder().id(ACCOUNT_ID).lastModified(LAST_MODIFIED).build());
+        when(accountService.getLastModified(ACCOUNT_ID)).thenReturn(Optional.of(LAST_MODIFIED));
+        String eTag = mockMvc.perform(get("/accounts/{id}", ACCOUNT_ID))
+                             .andReturn()
+                             .getResponse()
+                             .getHeader("ETag");
+
+        // act
+        mockMvc.perform(get("/accounts/{id}", ACCOUNT_ID).header("If-None-Match", eTag))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string("ETag", eTag))
+               .andExpect(content().string(""));
+
+        // assert
+        verify(accountService, times(1)).getAccount(ACCOUNT_ID);
+    }
+
+    @Test
+    void testGetAccount_WhenModifiedSinceTheETag_ReturnsTheAccount() throws Exception {
+        // arrange
+        when(accountService.getAccount(ACCOUNT_ID)).thenReturn(AccountDTO.builder().id(ACCOUNT_ID).lastModified(LAST_MODIFIED).build());
+        when(accountService.getLastModified(ACCOUNT_ID)).thenReturn(Optional.of(LAST_MODIFIED.plusNanos(1_000)));
+
+        // act
+        mockMvc.perform(get("/accounts/{id}", ACCOUNT_ID).header("If-None-Match", "\"0\""))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.id").value(ACCOUNT_ID));
+
+        // assert
+        verify(accountService).getAccount(ACCOUNT_ID);
+    }
+
+    @Test
+    void testGetAccount_WhenNotModifiedSinceTheGivenDate_ReturnsNotModified() throws Exception {
+        // arrange
+        when(accountService.getLastModified(ACCOUNT_ID)).thenReturn(Optional.of(LAST_MODIFIED));
+
+        // act
+        mockMvc.perform(get("/accounts/{id}", ACCOUNT_ID).header("If-Modified-Since", "Sun, 01 Sep 2024 23:59:59 GMT"))
+               .andExpect(status().isNotModified());
+
+        // assert
+        verify(accountService, never()).getAccount(ACCOUNT_ID);
+    }
+
+    @Test
+    void testGetAccounts_WhenFiltersAreGiven_ReturnsThePage() throws Exception {
+        // arrange
+        AccountPageDTO accountPageDTO = AccountPageDTO.builder()
+                                                      .accounts(List.of(AccountDTO.builder().id(ACCOUNT_ID).build()))
+                                                      .nextAfterId(ACCOUNT_ID)
+                                                      .build();
+        when(accountService.getAccounts(CUSTOMER_ID, AccountType.SAVINGS, AccountStatus.ACTIVE, 0, 1)).thenReturn(accountPageDTO);
+
+        // act
+        mockMvc.perform(get("/accounts").param("customerId", String.valueOf(CUSTOMER_ID))
+                                        .param("type", "SAVINGS")
+                                        .param("status", "ACTIVE")
+                                        .param("limit", "1"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.accounts[0].id").value(ACCOUNT_ID))
+               .andExpect(jsonPath("$.nextAfterId").value(ACCOUNT_ID));
+
+        // assert
+        verify(accountService).getAccounts(CUSTOMER_ID, AccountType.SAVINGS, AccountStatus.ACTIVE, 0, 1);
+    }
+
+    @Test
+    void testExportAccounts_WhenModifiedSinceIsGiven_StreamsNdjson() throws Exception {
+        // arrange
+        when(accountExporter.export(eq(LAST_MODIFIED), any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("{\"id\":1000000001}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // act
+        mockMvc.perform(get("/accounts/export").param("modifiedSince", LAST_MODIFIED.toString()))
+               .andExpect(status().isOk())
+               .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+               .andExpect(header().doesNotExist("Content-Encoding"))
+               .andExpect(content().string("{\"id\":1000000001}\n"));
+
+        // assert
+        verify(accountExporter).export(eq(LAST_MODIFIED), any(OutputStream.class));
+    }
+
+    @Test
+    void testExportAccounts_WhenGzipIsAccepted_CompressesTheStream() throws Exception {
+        // arrange
+        when(accountExporter.export(isNull(), any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("{\"id\":1000000001}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // act
+        byte[] body = mockMvc.perform(get("/accounts/export").header("Accept-Encoding", "gzip, deflate"))
+                             .andExpect(status().isOk())
+                             .andExpect(header().string("Content-Encoding", "gzip"))
+                             .andReturn()
+                             .getResponse()
+                             .getContentAsByteArray();
+
+        // assert
+        try(GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals("{\"id\":1000000001}\n", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
     @Test
     void testCreateAccount_WhenAccountIsValid_ReturnsCreatedAccountDTO() throws Exception {
         // arrange
@@ -70,12 +230,16 @@ class AccountControllerTest {
                                           .type(AccountType.SAVINGS)
                                           .build();
 
-        when(accountService.createAccount(any(AccountDTO.class))).thenReturn(accountDTO);
+        when(accountService.createAccountAsync(any(AccountDTO.class))).thenReturn(CompletableFuture.completedFuture(accountDTO));
 
         // act
-        mockMvc.perform(post("/accounts")
-                       .contentType(MediaType.APPLICATION_JSON)
-                       .content("{\"id\":null,\"customerId\":1000000,\"balance\":2000,\"status\":\"ACTIVE\",\"type\":\"SAVINGS\"}"))
+        MvcResult asyncResult = mockMvc.perform(post("/accounts")
+                                               .contentType(MediaType.APPLICATION_JSON)
+                                               .content("{\"id\":null,\"customerId\":1000000,\"balance\":2000,\"status\":\"ACTIVE\",\"type\":\"SAVINGS\"}"))
+                                       .andExpect(request().asyncStarted())
+                                       .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                .andExpect(status().isCreated())
                .andExpect(jsonPath("$.id").value(ACCOUNT_ID))
                .andExpect(jsonPath("$.customerId").value(CUSTOMER_ID))
@@ -84,7 +248,61 @@ class AccountControllerTest {
                .andExpect(jsonPath("$.type").value(AccountType.SAVINGS.toString()));
 
         // assert
-        verify(accountService).createAccount(any(AccountDTO.class));
+        verify(accountService).createAccountAsync(any(AccountDTO.class));
+    }
+
+    @Test
+    void testCreateAccount_WhenLookupsAreFull_ReturnsServiceUnavailable() throws Exception {
+        // arrange
+        when(accountService.createAccountAsync(any(AccountDTO.class)))
+                .thenReturn(CompletableFuture.failedFuture(new ServiceUnavailableException("too many accounts are being created, try again later")));
+
+        // act
+        MvcResult asyncResult = mockMvc.perform(post("/accounts")
+                                               .contentType(MediaType.APPLICATION_JSON)
+                                               .content("{\"id\":null,\"customerId\":1000000,\"balance\":2000,\"status\":\"ACTIVE\",\"type\":\"SAVINGS\"}"))
+                                       .andExpect(request().asyncStarted())
+                                       .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+               .andExpect(status().isServiceUnavailable())
+               .andExpect(jsonPath("$.message").value("too many accounts are being created, try again later"));
+
+        // assert
+        verify(accountService).createAccountAsync(any(AccountDTO.class));
+    }
+
+    @Test
+    void testCreateAccounts_WhenBatchIsGiven_ReturnsPerItemResults() throws Exception {
+        // arrange
+        AccountBatchResponseDTO batchResponseDTO = AccountBatchResponseDTO.builder()
+                                                                          .created(1)
+                                                                          .failed(1)
+                                                                          .results(List.of(
+                                                                                  AccountBatchItemDTO.builder()
+                                                                                                     .index(0)
+                                                                                                     .account(AccountDTO.builder().id(ACCOUNT_ID).build())
+                                                                                                     .build(),
+                                                                                  AccountBatchItemDTO.builder()
+                                                                                                     .index(1)
+                                                                                                     .error("type cannot be empty")
+                                                                                                     .build()))
+                                                                          .build();
+
+        when(accountService.createAccounts(anyList())).thenReturn(batchResponseDTO);
+
+        // act
+        mockMvc.perform(post("/accounts/batch")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content("{\"accounts\":[{\"customerId\":1000000,\"balance\":0,\"status\":\"ACTIVE\",\"type\":\"SAVINGS\"},{\"customerId\":1000000}]}"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.created").value(1))
+               .andExpect(jsonPath("$.failed").value(1))
+               .andExpect(jsonPath("$.results[0].account.id").value(ACCOUNT_ID))
+               .andExpect(jsonPath("$.results[1].error").value("type cannot be empty"));
+
+        // assert
+        verify(accountService).createAccounts(anyList());
     }
 
     @Test
@@ -115,6 +333,29 @@ class AccountControllerTest {
         verify(accountService).modifyAccount(any(AccountDTO.class));
     }
 
+    @Test
+    void testShardAccount_WhenAccountExists_ReturnsAccountDTO() throws Exception {
+        // arrange
+        AccountDTO accountDTO = AccountDTO.builder()
+                                          .id(ACCOUNT_ID)
+                                          .customerId(CUSTOMER_ID)
+                                          .balance(BigDecimal.valueOf(5000))
+                                          .status(AccountStatus.ACTIVE)
+                                          .type(AccountType.INVESTMENT)
+                                          .build();
+
+        when(accountService.shardAccount(ACCOUNT_ID, 8)).thenReturn(accountDTO);
+
+        // act
+        mockMvc.perform(post("/accounts/{id}/shards", ACCOUNT_ID).param("count", "8"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.id").value(ACCOUNT_ID))
+               .andExpect(jsonPath("$.balance").value(5000));
+
+        // assert
+        verify(accountService).shardAccount(ACCOUNT_ID, 8);
+    }
+
     @Test
     void testRemoveAccount_WhenAccountExists_ReturnsOk() throws Exception {
         // act
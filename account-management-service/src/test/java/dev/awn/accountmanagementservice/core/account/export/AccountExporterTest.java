@@ -0,0 +1,140 @@
+package dev.awn.accountmanagementservice.core.account.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.model.AccountBalanceShard;
+import dev.awn.accountmanagementservice.core.account.repository.AccountBalanceShardRepository;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+        "account.export.fetch-size=2",
+        "account.export.flush-every=2"})
+@Import(AccountExporter.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class AccountExporterTest {
+
+    @Autowired
+    private AccountExporter accountExporter;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountBalanceShardRepository shardRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final long CUSTOMER_ID = 1_000_000L;
+    private static final LocalDateTime CREATION_TIME = LocalDateTime.of(2024, 9, 1, 10, 0);
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.insertAll(List.of(
+                account(CUSTOMER_ID * 1000 + 1, null),
+                account(CUSTOMER_ID * 1000 + 2, CREATION_TIME.plusDays(2)),
+                account(CUSTOMER_ID * 1000 + 3, null)));
+
+        shardRepository.saveAndFlush(new AccountBalanceShard(CUSTOMER_ID * 1000 + 3, 0, new BigDecimal("25.00")));
+    }
+
+    @Test
+    void testExport_WhenNoFilterIsGiven_WritesEveryAccountAsALineWithoutLoadingEntities() throws Exception {
+        // Arrange
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        long exported = accountExporter.export(null, outputStream);
+
+        // Assert
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, exported);
+        assertEquals(3, lines.size());
+        assertTrue(outputStream.toString(StandardCharsets.UTF_8).endsWith("\n"));
+        assertEquals(CUSTOMER_ID * 1000 + 1, objectMapper.readTree(lines.get(0)).get("id").asLong());
+        assertEquals(0, new BigDecimal("125.00").compareTo(objectMapper.readTree(lines.get(2)).get("balance").decimalValue()));
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testExport_WhenModifiedSinceIsGiven_WritesModifiedAndShardedAccountsOnly() throws Exception {
+        // Arrange
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        long exported = accountExporter.export(CREATION_TIME.plusDays(1), outputStream);
+
+        // Assert
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, exported);
+        assertEquals(CUSTOMER_ID * 1000 + 2, objectMapper.readTree(lines.get(0)).get("id").asLong());
+        assertEquals(CUSTOMER_ID * 1000 + 3, objectMapper.readTree(lines.get(1)).get("id").asLong());
+    }
+
+    @Test
+    void testExport_WhenAccountsAreWritten_FlushesOnlyEveryFlushEveryLinesAndOnClose() throws Exception {
+        // Arrange
+        CountingFlushes outputStream = new CountingFlushes(new ByteArrayOutputStream());
+
+        // Act
+        long exported = accountExporter.export(null, outputStream);
+
+        // Assert - once after the second line, once when the export completes
+        assertEquals(3, exported);
+        assertEquals(2, outputStream.flushes);
+    }
+
+    private static class CountingFlushes extends FilterOutputStream {
+        private int flushes;
+
+        private CountingFlushes(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushes++;
+            super.flush();
+        }
+    }
+
+    private Account account(long id, LocalDateTime modificationTime) {
+        return Account.builder()
+                      .id(id)
+                      .customerId(CUSTOMER_ID)
+                      .balance(new BigDecimal("100.00"))
+                      .status(AccountStatus.ACTIVE)
+                      .type(AccountType.SAVINGS)
+                      .creationTime(CREATION_TIME)
+                      .modificationTime(modificationTime)
+                      .build();
+    }
+}
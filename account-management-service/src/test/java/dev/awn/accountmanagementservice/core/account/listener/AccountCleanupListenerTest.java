@@ -0,0 +1,57 @@
+package dev.awn.accountmanagementservice.core.account.listener;
+
+import dev.awn.accountmanagementservice.core.account.service.AccountService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountCleanupListenerTest {
+
+    @Mock
+    private AccountService accountService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountCleanupListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new AccountCleanupListener(accountService, meterRegistry);
+    }
+
+    @Test
+    void testRemoveAccountsBy_WhenBatchIsPolled_RemovesEveryCustomerInOneCall() {
+        // Arrange
+        when(accountService.removeAccountsBy(Set.of(1_000_000L, 1_000_001L))).thenReturn(4);
+
+        // Act
+        listener.removeAccountsBy(List.of("1000000", "1000001", "1000000"));
+
+        // Assert
+        verify(accountService, times(1)).removeAccountsBy(anyCollection());
+        assertEquals(3, meterRegistry.get("account.cleanup.records").counter().count());
+        assertEquals(4, meterRegistry.get("account.cleanup.accounts").counter().count());
+        assertEquals(1, meterRegistry.get("account.cleanup.batch").timer().count());
+    }
+
+    @Test
+    void testRemoveAccountsBy_WhenIdsAreInvalid_SkipsThem() {
+        // Act
+        listener.removeAccountsBy(List.of("not-an-id"));
+
+        // Assert
+        verifyNoInteractions(accountService);
+        assertEquals(1, meterRegistry.get("account.cleanup.records").counter().count());
+    }
+}
@@ -0,0 +1,72 @@
+package dev.awn.accountmanagementservice.core.account.lookup;
+
+import dev.awn.accountmanagementservice.common.config.lookup.CustomerLookupProperties;
+import dev.awn.accountmanagementservice.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerLookupExecutorTest {
+
+    private CustomerLookupExecutor lookupExecutor;
+
+    @BeforeEach
+    void setUp() {
+        CustomerLookupProperties properties = new CustomerLookupProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        lookupExecutor = new CustomerLookupExecutor(properties, new SimpleMeterRegistry(), new MockEnvironment());
+    }
+
+    @AfterEach
+    void tearDown() {
+        lookupExecutor.destroy();
+    }
+
+    @Test
+    void testSupplyAsync_RunsTheLookup() {
+        // Act
+        CompletableFuture<String> lookup = lookupExecutor.supplyAsync(() -> "customer");
+
+        // Assert
+        assertEquals("customer", lookup.join());
+    }
+
+    @Test
+    void testSupplyAsync_WhenThreadsAndQueueAreFull_FailsRightAway() throws InterruptedException {
+        // Arrange
+        CountDownLatch released = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = lookupExecutor.supplyAsync(() -> await(released));
+        CompletableFuture<Boolean> queued = lookupExecutor.supplyAsync(() -> await(released));
+
+        // Act
+        CompletableFuture<Boolean> refused = lookupExecutor.supplyAsync(() -> await(released));
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, refused::join);
+        assertInstanceOf(ServiceUnavailableException.class, exception.getCause());
+        assertEquals("too many accounts are being created, try again later", exception.getCause().getMessage());
+
+        released.countDown();
+        assertTrue(running.join());
+        assertTrue(queued.join());
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
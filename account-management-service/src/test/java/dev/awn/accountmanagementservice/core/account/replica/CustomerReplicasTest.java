@@ -0,0 +1,109 @@
+package dev.awn.accountmanagementservice.core.account.replica;
+
+import dev.awn.accountmanagementservice.core.account.constant.CustomerEventType;
+import dev.awn.accountmanagementservice.core.account.constant.CustomerType;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerDTO;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerEventDTO;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerSnapshotDTO;
+import dev.awn.accountmanagementservice.core.account.model.CustomerReplica;
+import dev.awn.accountmanagementservice.core.account.repository.CustomerReplicaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(CustomerReplicas.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CustomerReplicasTest {
+
+    @Autowired
+    private CustomerReplicas customerReplicas;
+
+    @Autowired
+    private CustomerReplicaRepository replicaRepository;
+
+    private static final long CUSTOMER_ID = 1_000_000L;
+    private static final LocalDateTime EVENT_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @AfterEach
+    void tearDown() {
+        replicaRepository.deleteAll();
+    }
+
+    @Test
+    void testApply_WhenEventsArrive_KeepsTheLatestCustomer() {
+        // Arrange
+        customerReplicas.apply(event(CustomerEventType.CREATED, "first", EVENT_TIME));
+
+        // Act
+        customerReplicas.apply(event(CustomerEventType.MODIFIED, "second", EVENT_TIME.plusSeconds(1)));
+
+        // Assert
+        CustomerReplica replica = customerReplicas.find(CUSTOMER_ID).orElseThrow();
+        assertEquals("second", replica.getName());
+        assertFalse(replica.isDeleted());
+    }
+
+    @Test
+    void testApply_WhenSnapshotIsOlderThanEvent_KeepsTheEvent() {
+        // Arrange
+        customerReplicas.apply(event(CustomerEventType.MODIFIED, "from event", EVENT_TIME));
+
+        // Act
+        customerReplicas.apply(CustomerSnapshotDTO.builder()
+                                                  .customers(List.of(customer("from snapshot"), customer(CUSTOMER_ID + 1, "other")))
+                                                  .snapshotTime(EVENT_TIME.minusSeconds(1))
+                                                  .build());
+
+        // Assert
+        assertEquals("from event", customerReplicas.find(CUSTOMER_ID).orElseThrow().getName());
+        assertEquals("other", customerReplicas.find(CUSTOMER_ID + 1).orElseThrow().getName());
+    }
+
+    @Test
+    void testApply_WhenCustomerWasDeleted_OlderSnapshotDoesNotResurrectIt() {
+        // Arrange
+        customerReplicas.apply(event(CustomerEventType.DELETED, null, EVENT_TIME));
+
+        // Act
+        customerReplicas.apply(CustomerSnapshotDTO.builder()
+                                                  .customers(List.of(customer("deleted meanwhile")))
+                                                  .snapshotTime(EVENT_TIME.minusSeconds(1))
+                                                  .build());
+
+        // Assert
+        assertTrue(customerReplicas.find(CUSTOMER_ID).orElseThrow().isDeleted());
+    }
+
+    private CustomerEventDTO event(CustomerEventType type, String name, LocalDateTime eventTime) {
+        return CustomerEventDTO.builder()
+                               .type(type)
+                               .customerId(CUSTOMER_ID)
+                               .customer(type == CustomerEventType.DELETED ? null : customer(name))
+                               .eventTime(eventTime)
+                               .build();
+    }
+
+    private CustomerDTO customer(String name) {
+        return customer(CUSTOMER_ID, name);
+    }
+
+    private CustomerDTO customer(long id, String name) {
+        return CustomerDTO.builder()
+                          .id(id)
+                          .name(name)
+                          .legalId("legal-" + id)
+                          .address("address")
+                          .type(CustomerType.RETAIL)
+                          .build();
+    }
+}
@@ -0,0 +1,205 @@
+package dev.awn.accountmanagementservice.core.account.service.impl;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.core.account.allocator.AccountSuffixAllocator;
+import dev.awn.accountmanagementservice.core.account.cache.AccountCache;
+import dev.awn.accountmanagementservice.core.account.cache.CustomerCache;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import dev.awn.accountmanagementservice.core.account.dto.AccountPageDTO;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerDTO;
+import dev.awn.accountmanagementservice.core.account.lookup.CustomerLookupExecutor;
+import dev.awn.accountmanagementservice.core.account.mapper.AccountMapper;
+import dev.awn.accountmanagementservice.core.account.replica.CustomerReplicas;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import dev.awn.accountmanagementservice.core.account.repository.AccountSuffixAllocationRepository;
+import dev.awn.accountmanagementservice.core.account.shard.AccountBalanceShards;
+import dev.awn.accountmanagementservice.core.transfer.lock.AccountLockStripes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+// Guards the number of statements account creation and reads cost against the database
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({AccountServiceImpl.class, AccountSuffixAllocator.class, AccountBalanceShards.class, AccountMapper.class,
+        AccountCache.class, CustomerLookupExecutor.class, AccountLockStripes.class, SimpleMeterRegistry.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountServiceImplQueryCountTest {
+
+    @Autowired
+    private AccountServiceImpl accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountSuffixAllocationRepository allocationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AccountCache accountCache;
+
+    @MockBean
+    private CustomerCache customerCache;
+
+    @MockBean
+    private CustomerReplicas customerReplicas;
+
+    private static final long CUSTOMER_ID = 1_000_000L;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        when(customerCache.get(CUSTOMER_ID)).thenReturn(new CustomerDTO());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // The first create for a customer seeds its suffix allocation
+        accountService.createAccount(account(AccountType.SALARY));
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        allocationRepository.deleteAll();
+        accountRepository.deleteAll();
+        accountCache.evictAllOf(Set.of(CUSTOMER_ID));
+    }
+
+    @Test
+    void testCreateAccount_WhenAllocationIsSeeded_UsesThreeStatements() {
+        // Act
+        AccountDTO result = accountService.createAccount(account(AccountType.SAVINGS));
+
+        // Assert
+        assertEquals(CUSTOMER_ID * 1000 + 2, result.getId());
+
+        // summary read, suffix compare-and-set, insert
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testCreateAccount_WhenSalaryAccountExists_RejectsAfterOneStatement() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> accountService.createAccount(account(AccountType.SALARY)));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testRemoveAccountsBy_WhenCustomersAreDeleted_UsesOneStatementPerTable() {
+        // Act
+        int removed = accountService.removeAccountsBy(Set.of(CUSTOMER_ID, CUSTOMER_ID + 1));
+
+        // Assert
+        assertEquals(1, removed);
+        assertEquals(0, accountRepository.count());
+        assertTrue(allocationRepository.findAll().isEmpty());
+
+        // shards, accounts, suffix allocations - plus the two verifying reads above
+        assertEquals(5, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetAccount_WhenReadRepeatedly_UsesOneStatementUntilModified() {
+        // Arrange
+        long id = CUSTOMER_ID * 1000 + 1;
+
+        // Act
+        for(int i = 0; i < 100; i++) {
+            accountService.getAccount(id);
+        }
+        long cachedReadStatements = statistics.getPrepareStatementCount();
+
+        AccountDTO modified = account(AccountType.SALARY);
+        modified.setId(id);
+        modified.setBalance(BigDecimal.TEN);
+        accountService.modifyAccount(modified);
+        statistics.clear();
+        AccountDTO result = accountService.getAccount(id);
+
+        // Assert
+        assertEquals(1, cachedReadStatements);
+        assertEquals(0, BigDecimal.TEN.compareTo(result.getBalance()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetLastModified_WhenAccountIsNotCached_ReadsOneColumnWithoutLoadingTheAccount() {
+        // Act
+        Optional<LocalDateTime> lastModified = accountService.getLastModified(CUSTOMER_ID * 1000 + 1);
+
+        // Assert
+        assertTrue(lastModified.isPresent());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testGetAccounts_WhenPaging_UsesOneStatementPerPage() {
+        // Arrange
+        accountService.createAccount(account(AccountType.SAVINGS));
+        accountService.createAccount(account(AccountType.INVESTMENT));
+        statistics.clear();
+
+        // Act
+        AccountPageDTO firstPage = accountService.getAccounts(CUSTOMER_ID, null, AccountStatus.ACTIVE, 0, 2);
+        AccountPageDTO lastPage = accountService.getAccounts(CUSTOMER_ID, null, AccountStatus.ACTIVE, firstPage.getNextAfterId(), 2);
+
+        // Assert
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(List.of(CUSTOMER_ID * 1000 + 1, CUSTOMER_ID * 1000 + 2),
+                firstPage.getAccounts().stream().map(AccountDTO::getId).toList());
+        assertEquals(CUSTOMER_ID * 1000 + 2, firstPage.getNextAfterId());
+        assertEquals(List.of(CUSTOMER_ID * 1000 + 3), lastPage.getAccounts().stream().map(AccountDTO::getId).toList());
+        assertNull(lastPage.getNextAfterId());
+    }
+
+    @Test
+    void testGetAccounts_WhenFilteredByType_ReturnsOnlyThatType() {
+        // Arrange
+        accountService.createAccount(account(AccountType.SAVINGS));
+
+        // Act
+        AccountPageDTO page = accountService.getAccounts(null, AccountType.SAVINGS, null, 0, 10);
+
+        // Assert
+        assertEquals(List.of(CUSTOMER_ID * 1000 + 2), page.getAccounts().stream().map(AccountDTO::getId).toList());
+        assertNull(page.getNextAfterId());
+    }
+
+    private AccountDTO account(AccountType type) {
+        return AccountDTO.builder()
+                         .customerId(CUSTOMER_ID)
+                         .balance(BigDecimal.ZERO)
+                         .status(AccountStatus.ACTIVE)
+                         .type(type)
+                         .build();
+    }
+}
@@ -1,24 +1,54 @@
 package dev.awn.accountmanagementservice.core.account.service.impl;
 
+import dev.awn.accountmanagementservice.common.config.cache.AccountCacheProperties;
+import dev.awn.accountmanagementservice.common.config.lookup.CustomerLookupProperties;
 import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.common.exception.InternalServerErrorException;
 import dev.awn.accountmanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.accountmanagementservice.common.exception.ServiceUnavailableException;
+import dev.awn.accountmanagementservice.core.account.allocator.AccountSuffixAllocator;
+import dev.awn.accountmanagementservice.core.account.cache.AccountCache;
+import dev.awn.accountmanagementservice.core.account.cache.CustomerCache;
 import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.dto.AccountBatchResponseDTO;
 import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import dev.awn.accountmanagementservice.core.account.dto.AccountPageDTO;
 import dev.awn.accountmanagementservice.core.account.dto.CustomerDTO;
+import dev.awn.accountmanagementservice.core.account.lookup.CustomerLookupExecutor;
 import dev.awn.accountmanagementservice.core.account.mapper.AccountMapper;
 import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.model.CustomerAccountSummary;
+import dev.awn.accountmanagementservice.core.account.model.CustomerReplica;
+import dev.awn.accountmanagementservice.core.account.replica.CustomerReplicas;
 import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import dev.awn.accountmanagementservice.core.account.shard.AccountBalanceShards;
+import dev.awn.accountmanagementservice.core.transfer.lock.AccountLockStripes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,8 +62,33 @@ class AccountServiceImplTest {
     @Mock
     private AccountMapper accountMapper;
 
+    @Spy
+    private AccountCache accountCache = new AccountCache(new AccountCacheProperties(), new SimpleMeterRegistry());
+
+    @Mock
+    private CustomerCache customerCache;
+
     @Mock
-    private RestTemplate restTemplate;
+    private CustomerReplicas customerReplicas;
+
+    @Mock
+    private AccountSuffixAllocator suffixAllocator;
+
+    @Mock
+    private AccountBalanceShards balanceShards;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private CustomerLookupExecutor lookupExecutor = new CustomerLookupExecutor(new CustomerLookupProperties(), new SimpleMeterRegistry(),
+            new MockEnvironment());
+
+    @Spy
+    private CustomerLookupProperties lookupProperties = new CustomerLookupProperties();
+
+    @Spy
+    private AccountLockStripes lockStripes = new AccountLockStripes(16);
 
     @InjectMocks
     private AccountServiceImpl accountService;
@@ -60,6 +115,11 @@ class AccountServiceImplTest {
         customerDTO.setId(CUSTOMER_ID);
     }
 
+    @AfterEach
+    void tearDown() {
+        lookupExecutor.destroy();
+    }
+
     @Test
     void testGetAccount_WhenValidId_ReturnsAccount() {
         // Arrange
@@ -75,6 +135,23 @@ class AccountServiceImplTest {
         verify(accountRepository, times(1)).findById(VALID_ACCOUNT_ID);
     }
 
+    @Test
+    void testGetAccount_WhenAccountIsSharded_ReturnsTotalBalance() {
+        // Arrange
+        account.setBalance(BigDecimal.ZERO);
+        when(accountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(account));
+        when(balanceShards.isSharded(VALID_ACCOUNT_ID)).thenReturn(true);
+        when(balanceShards.totalBalance(account)).thenReturn(BigDecimal.valueOf(500));
+        when(accountMapper.toDto(account)).thenAnswer(invocation -> new AccountMapper().toDto(invocation.getArgument(0)));
+
+        // Act
+        AccountDTO result = accountService.getAccount(VALID_ACCOUNT_ID);
+
+        // Assert
+        assertEquals(BigDecimal.valueOf(500), result.getBalance());
+        assertNull(result.getLastModified());
+    }
+
     @Test
     void testGetAccount_WhenInvalidId_ThrowsBadRequestException() {
         // Arrange
@@ -100,12 +177,120 @@ class AccountServiceImplTest {
         assertEquals("no account was found of id - " + VALID_ACCOUNT_ID, exception.getMessage());
     }
 
+    @Test
+    void testGetAccount_WhenReadAgain_IsServedFromTheCache() {
+        // Arrange
+        when(accountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(account));
+        when(accountMapper.toDto(account)).thenReturn(accountDTO);
+        accountService.getAccount(VALID_ACCOUNT_ID);
+
+        // Act
+        AccountDTO result = accountService.getAccount(VALID_ACCOUNT_ID);
+
+        // Assert
+        assertSame(accountDTO, result);
+        verify(accountRepository, times(1)).findById(VALID_ACCOUNT_ID);
+    }
+
+    @Test
+    void testGetAccount_WhenAccountWasMissing_DoesNotCacheIt() {
+        // Arrange
+        when(accountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.empty(), Optional.of(account));
+        when(accountMapper.toDto(account)).thenReturn(accountDTO);
+        assertThrows(ResourceNotFoundException.class, () -> accountService.getAccount(VALID_ACCOUNT_ID));
+
+        // Act
+        AccountDTO result = accountService.getAccount(VALID_ACCOUNT_ID);
+
+        // Assert
+        assertSame(accountDTO, result);
+    }
+
+    @Test
+    void testGetLastModified_WhenAccountIsCached_DoesNotQueryTheDatabase() {
+        // Arrange
+        LocalDateTime lastModified = LocalDateTime.now();
+        accountDTO.setLastModified(lastModified);
+        when(accountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(account));
+        when(accountMapper.toDto(account)).thenReturn(accountDTO);
+        accountService.getAccount(VALID_ACCOUNT_ID);
+
+        // Act
+        Optional<LocalDateTime> result = accountService.getLastModified(VALID_ACCOUNT_ID);
+
+        // Assert
+        assertEquals(Optional.of(lastModified), result);
+        verify(accountRepository, never()).findLastModifiedById(anyLong());
+    }
+
+    @Test
+    void testGetLastModified_WhenAccountIsNotCached_ReadsTheProjection() {
+        // Arrange
+        LocalDateTime lastModified = LocalDateTime.now();
+        when(accountRepository.findLastModifiedById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(lastModified));
+
+        // Act
+        Optional<LocalDateTime> result = accountService.getLastModified(VALID_ACCOUNT_ID);
+
+        // Assert
+        assertEquals(Optional.of(lastModified), result);
+        verify(accountRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testGetLastModified_WhenAccountIsSharded_HasNoValidator() {
+        // Arrange
+        when(balanceShards.isSharded(VALID_ACCOUNT_ID)).thenReturn(true);
+
+        // Act
+        Optional<LocalDateTime> result = accountService.getLastModified(VALID_ACCOUNT_ID);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void testGetAccounts_WhenPageIsFull_ReturnsNextAfterId() {
+        // Arrange
+        when(accountRepository.findPage(CUSTOMER_ID, null, null, 0, 1)).thenReturn(List.of(account));
+        when(accountMapper.toDto(account)).thenReturn(accountDTO);
+
+        // Act
+        AccountPageDTO result = accountService.getAccounts(CUSTOMER_ID, null, null, 0, 1);
+
+        // Assert
+        assertEquals(List.of(accountDTO), result.getAccounts());
+        assertEquals(VALID_ACCOUNT_ID, result.getNextAfterId());
+    }
+
+    @Test
+    void testGetAccounts_WhenPageIsNotFull_ReturnsNoNextAfterId() {
+        // Arrange
+        when(accountRepository.findPage(null, AccountType.SAVINGS, AccountStatus.ACTIVE, VALID_ACCOUNT_ID, 10)).thenReturn(List.of());
+
+        // Act
+        AccountPageDTO result = accountService.getAccounts(null, AccountType.SAVINGS, AccountStatus.ACTIVE, VALID_ACCOUNT_ID, 10);
+
+        // Assert
+        assertTrue(result.getAccounts().isEmpty());
+        assertNull(result.getNextAfterId());
+    }
+
+    @Test
+    void testGetAccounts_WhenLimitIsTooLarge_ThrowsBadRequestException() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> accountService.getAccounts(CUSTOMER_ID, null, null, 0, 1_001));
+        verifyNoInteractions(accountRepository);
+    }
+
     @Test
     void testCreateAccount_WhenValidCustomer_ReturnsAccount() {
         // Arrange
-        when(restTemplate.getForObject(anyString(), eq(CustomerDTO.class))).thenReturn(customerDTO);
-        when(accountRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(new ArrayList<>());
-        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(customerCache.get(CUSTOMER_ID)).thenReturn(customerDTO);
+        when(accountRepository.summarizeByCustomerId(CUSTOMER_ID, AccountType.SALARY)).thenReturn(new CustomerAccountSummary(0, 0, null));
+        when(suffixAllocator.allocate(CUSTOMER_ID)).thenReturn(1);
+        when(accountRepository.insert(any(Account.class))).thenReturn(account);
         when(accountMapper.toModel(any(AccountDTO.class))).thenReturn(account);
         when(accountMapper.toDto(any(Account.class))).thenReturn(accountDTO);
         accountDTO.setType(AccountType.SAVINGS);
@@ -116,13 +301,34 @@ class AccountServiceImplTest {
         // Assert
         assertNotNull(result);
         assertEquals(VALID_ACCOUNT_ID, result.getId());
-        verify(accountRepository, times(1)).save(any(Account.class));
+        verify(accountRepository, times(1)).insert(any(Account.class));
+    }
+
+    @Test
+    void testCreateAccount_WhenSuffixesAreKnown_AllocatesFromThem() {
+        // Arrange
+        when(customerCache.get(CUSTOMER_ID)).thenReturn(customerDTO);
+        when(accountRepository.summarizeByCustomerId(CUSTOMER_ID, AccountType.SALARY)).thenReturn(new CustomerAccountSummary(1, 0, 0b1));
+        when(suffixAllocator.allocateFrom(CUSTOMER_ID, 0b1)).thenReturn(2);
+        when(accountRepository.insert(any(Account.class))).thenReturn(account);
+        when(accountMapper.toModel(any(AccountDTO.class))).thenReturn(account);
+        when(accountMapper.toDto(any(Account.class))).thenReturn(accountDTO);
+        accountDTO.setType(AccountType.SAVINGS);
+
+        // Act
+        accountService.createAccount(accountDTO);
+
+        // Assert
+        assertEquals(CUSTOMER_ID * 1000 + 2, accountDTO.getId());
+        verify(suffixAllocator, never()).allocate(anyLong());
+        verify(accountRepository, never()).findByCustomerId(anyLong());
+        verify(accountRepository, never()).findByCustomerIdAndType(anyLong(), any(AccountType.class));
     }
 
     @Test
     void testCreateAccount_WhenCustomerNotFound_ThrowsBadRequestException() {
         // Arrange
-        when(restTemplate.getForObject(anyString(), eq(CustomerDTO.class))).thenReturn(null);
+        when(customerCache.get(CUSTOMER_ID)).thenReturn(null);
 
         // Act & Assert
         Exception exception = assertThrows(BadRequestException.class, () -> {
@@ -132,15 +338,65 @@ class AccountServiceImplTest {
         assertEquals("no customer found of customerId - " + CUSTOMER_ID, exception.getMessage());
     }
 
+    @Test
+    void testCreateAccount_WhenCustomerIsReplicated_DoesNotAskCustomerService() {
+        // Arrange
+        CustomerReplica replica = CustomerReplica.builder().id(CUSTOMER_ID).build();
+        when(customerReplicas.find(CUSTOMER_ID)).thenReturn(Optional.of(replica));
+        when(customerReplicas.toDto(replica)).thenReturn(customerDTO);
+        when(accountRepository.summarizeByCustomerId(CUSTOMER_ID, AccountType.SALARY))
+                .thenReturn(new CustomerAccountSummary(0, 0, null));
+        when(suffixAllocator.allocate(CUSTOMER_ID)).thenReturn(1);
+        when(accountMapper.toModel(accountDTO)).thenReturn(account);
+        when(accountRepository.insert(account)).thenReturn(account);
+        when(accountMapper.toDto(account)).thenReturn(accountDTO);
+        accountDTO.setType(AccountType.SAVINGS);
+
+        // Act
+        accountService.createAccount(accountDTO);
+
+        // Assert
+        verifyNoInteractions(customerCache);
+    }
+
+    @Test
+    void testCreateAccount_WhenReplicatedCustomerWasDeleted_ThrowsBadRequestException() {
+        // Arrange
+        CustomerReplica tombstone = CustomerReplica.builder().id(CUSTOMER_ID).deleted(true).build();
+        when(customerReplicas.find(CUSTOMER_ID)).thenReturn(Optional.of(tombstone));
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> {
+            accountService.createAccount(accountDTO);
+        });
+
+        assertEquals("no customer found of customerId - " + CUSTOMER_ID, exception.getMessage());
+        verifyNoInteractions(customerCache);
+    }
+
     @Test
     void testCreateAccount_WhenMaximumAccountsExceeded_ThrowsBadRequestException() {
         // Arrange
-        when(restTemplate.getForObject(anyString(), eq(CustomerDTO.class))).thenReturn(customerDTO);
-        List<Account> existingAccounts = new ArrayList<>();
-        for (int i = 0; i < 10; i++) {
-            existingAccounts.add(new Account());
-        }
-        when(accountRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(existingAccounts);
+        when(customerCache.get(CUSTOMER_ID)).thenReturn(customerDTO);
+        when(accountRepository.summarizeByCustomerId(CUSTOMER_ID, AccountType.SALARY)).thenReturn(new CustomerAccountSummary(10, 0, 0b1111111111));
+        accountDTO.setType(AccountType.SAVINGS);
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> {
+            accountService.createAccount(accountDTO);
+        });
+
+        assertEquals("customerId of - " + CUSTOMER_ID + " already has maximum number of accounts allowed", exception.getMessage());
+        verify(suffixAllocator, never()).allocateFrom(anyLong(), anyInt());
+        verify(accountRepository, never()).insert(any(Account.class));
+    }
+
+    @Test
+    void testCreateAccount_WhenMaximumAccountsIncludeASalaryOne_ReportsTheMaximumFirst() {
+        // Arrange
+        when(customerCache.get(CUSTOMER_ID)).thenReturn(customerDTO);
+        when(accountRepository.summarizeByCustomerId(CUSTOMER_ID, AccountType.SALARY)).thenReturn(new CustomerAccountSummary(10, 1, 0b1111111111));
+        accountDTO.setType(AccountType.SALARY);
 
         // Act & Assert
         Exception exception = assertThrows(BadRequestException.class, () -> {
@@ -153,10 +409,9 @@ class AccountServiceImplTest {
     @Test
     void testCreateAccount_WhenSalaryAccountExists_ThrowsBadRequestException() {
         // Arrange
-        when(restTemplate.getForObject(anyString(), eq(CustomerDTO.class))).thenReturn(customerDTO);
+        when(customerCache.get(CUSTOMER_ID)).thenReturn(customerDTO);
         accountDTO.setType(AccountType.SALARY);
-        when(accountRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(new ArrayList<>());
-        when(accountRepository.findByCustomerIdAndType(CUSTOMER_ID, AccountType.SALARY)).thenReturn(Optional.of(account));
+        when(accountRepository.summarizeByCustomerId(CUSTOMER_ID, AccountType.SALARY)).thenReturn(new CustomerAccountSummary(1, 1, 0b1));
 
         // Act & Assert
         Exception exception = assertThrows(BadRequestException.class, () -> {
@@ -164,6 +419,239 @@ class AccountServiceImplTest {
         });
 
         assertEquals("customer of customerId " + CUSTOMER_ID + " already has a salary account", exception.getMessage());
+        verify(suffixAllocator, never()).allocateFrom(anyLong(), anyInt());
+    }
+
+    @Test
+    void testCreateAccount_WhenSaveFails_ReleasesAllocatedSuffix() {
+        // Arrange
+        accountDTO.setType(AccountType.SAVINGS);
+        when(customerCache.get(CUSTOMER_ID)).thenReturn(customerDTO);
+        when(accountRepository.summarizeByCustomerId(CUSTOMER_ID, AccountType.SALARY)).thenReturn(new CustomerAccountSummary(0, 0, null));
+        when(suffixAllocator.allocate(CUSTOMER_ID)).thenReturn(1);
+        when(accountMapper.toModel(any(AccountDTO.class))).thenReturn(account);
+        when(accountRepository.insert(any(Account.class))).thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+        // Act & Assert
+        assertThrows(DataAccessResourceFailureException.class, () -> {
+            accountService.createAccount(accountDTO);
+        });
+
+        verify(suffixAllocator, times(1)).release(VALID_ACCOUNT_ID);
+    }
+
+    @Test
+    void testCreateAccount_WhenAccountIdAlreadyExists_KeepsItsSuffixHeld() {
+        // Arrange
+        accountDTO.setType(AccountType.SAVINGS);
+        when(customerCache.get(CUSTOMER_ID)).thenReturn(customerDTO);
+        when(accountRepository.summarizeByCustomerId(CUSTOMER_ID, AccountType.SALARY)).thenReturn(new CustomerAccountSummary(0, 0, null));
+        when(suffixAllocator.allocate(CUSTOMER_ID)).thenReturn(1);
+        when(accountMapper.toModel(any(AccountDTO.class))).thenReturn(account);
+        when(accountRepository.insert(any(Account.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> {
+            accountService.createAccount(accountDTO);
+        });
+
+        verify(suffixAllocator, never()).release(anyLong());
+    }
+
+    @Test
+    void testCreateAccount_WhenCustomerLookupMissesItsDeadline_ThrowsBadRequestException() {
+        // Arrange
+        lookupProperties.setTimeout(Duration.ofMillis(100));
+        when(customerCache.get(CUSTOMER_ID)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return customerDTO;
+        });
+        accountDTO.setType(AccountType.SAVINGS);
+
+        // Act & Assert
+        long startTime = System.nanoTime();
+        Exception exception = assertThrows(BadRequestException.class, () -> {
+            accountService.createAccount(accountDTO);
+        });
+
+        assertEquals("customer service is unavailable or customer does not exist.", exception.getMessage());
+        assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(2));
+        verify(suffixAllocator, never()).allocate(anyLong());
+        verify(accountRepository, never()).insert(any(Account.class));
+    }
+
+    @Test
+    void testCreateAccount_WhenAccountSummaryMissesItsDeadline_ThrowsInternalServerErrorException() {
+        // Arrange
+        lookupProperties.setTimeout(Duration.ofMillis(100));
+        when(customerCache.get(CUSTOMER_ID)).thenReturn(customerDTO);
+        when(accountRepository.summarizeByCustomerId(CUSTOMER_ID, AccountType.SALARY)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return new CustomerAccountSummary(0, 0, null);
+        });
+        accountDTO.setType(AccountType.SAVINGS);
+
+        // Act & Assert
+        long startTime = System.nanoTime();
+        Exception exception = assertThrows(InternalServerErrorException.class, () -> {
+            accountService.createAccount(accountDTO);
+        });
+
+        assertEquals("could not read the existing accounts of customerId - " + CUSTOMER_ID, exception.getMessage());
+        assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(2));
+        verify(suffixAllocator, never()).allocate(anyLong());
+        verify(accountRepository, never()).insert(any(Account.class));
+    }
+
+    @Test
+    void testCreateAccount_WhenLookupExecutorIsFull_ThrowsServiceUnavailableException() {
+        // Arrange
+        doReturn(CompletableFuture.failedFuture(new ServiceUnavailableException("too many accounts are being created, try again later")))
+                .when(lookupExecutor).supplyAsync(any());
+        accountDTO.setType(AccountType.SAVINGS);
+
+        // Act & Assert
+        Exception exception = assertThrows(ServiceUnavailableException.class, () -> {
+            accountService.createAccount(accountDTO);
+        });
+
+        assertEquals("too many accounts are being created, try again later", exception.getMessage());
+        verify(suffixAllocator, never()).allocate(anyLong());
+        verify(accountRepository, never()).insert(any(Account.class));
+    }
+
+    @Test
+    void testCreateAccount_WhenAccountReadFails_DoesNotWaitForTheCustomerLookup() {
+        // Arrange, the read only fails once the lookup is running, so it is always in flight when the create fails
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch lookupReleased = new CountDownLatch(1);
+        when(customerCache.get(CUSTOMER_ID)).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            lookupReleased.await(5, TimeUnit.SECONDS);
+            return customerDTO;
+        });
+        when(accountRepository.summarizeByCustomerId(CUSTOMER_ID, AccountType.SALARY)).thenAnswer(invocation -> {
+            lookupStarted.await(5, TimeUnit.SECONDS);
+            throw new DataAccessResourceFailureException("database is down");
+        });
+
+        // Act & Assert
+        CompletableFuture<AccountDTO> result = accountService.createAccountAsync(accountDTO);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(DataAccessResourceFailureException.class, exception.getCause());
+        assertEquals(1, lookupReleased.getCount());
+        lookupReleased.countDown();
+        verify(suffixAllocator, never()).allocate(anyLong());
+    }
+
+    @Test
+    void testCreateAccount_WhenLookupsOverlap_TakesTheSlowerOneNotTheirSum() {
+        // Arrange
+        when(customerCache.get(CUSTOMER_ID)).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return customerDTO;
+        });
+        when(accountRepository.summarizeByCustomerId(CUSTOMER_ID, AccountType.SALARY)).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return new CustomerAccountSummary(0, 0, null);
+        });
+        when(suffixAllocator.allocate(CUSTOMER_ID)).thenReturn(1);
+        when(accountMapper.toModel(any(AccountDTO.class))).thenReturn(account);
+        when(accountRepository.insert(any(Account.class))).thenReturn(account);
+        when(accountMapper.toDto(any(Account.class))).thenReturn(accountDTO);
+        accountDTO.setType(AccountType.SAVINGS);
+
+        // Act
+        long startTime = System.nanoTime();
+        accountService.createAccount(accountDTO);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        // Assert
+        assertTrue(elapsedMillis < 900, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testCreateAccounts_WhenBatchIsMixed_ReturnsPerItemResults() {
+        // Arrange
+        AccountDTO savings = validAccount(CUSTOMER_ID, AccountType.SAVINGS);
+        AccountDTO firstSalary = validAccount(CUSTOMER_ID, AccountType.SALARY);
+        AccountDTO secondSalary = validAccount(CUSTOMER_ID, AccountType.SALARY);
+        AccountDTO unknownCustomer = validAccount(CUSTOMER_ID + 1, AccountType.SAVINGS);
+        AccountDTO invalid = AccountDTO.builder().customerId(CUSTOMER_ID).build();
+
+        when(customerCache.getAll(Set.of(CUSTOMER_ID, CUSTOMER_ID + 1))).thenReturn(Map.of(CUSTOMER_ID, customerDTO));
+        when(accountRepository.findCustomerIdsByCustomerIdInAndType(Set.of(CUSTOMER_ID), AccountType.SALARY)).thenReturn(List.of());
+        when(suffixAllocator.allocate(CUSTOMER_ID, 2)).thenReturn(List.of(2, 3));
+        when(accountMapper.toModel(any(AccountDTO.class))).thenAnswer(invocation -> new AccountMapper().toModel(invocation.getArgument(0)));
+        when(accountMapper.toDto(any(Account.class))).thenAnswer(invocation -> new AccountMapper().toDto(invocation.getArgument(0)));
+
+        // Act
+        AccountBatchResponseDTO result = accountService.createAccounts(List.of(savings, firstSalary, secondSalary, unknownCustomer, invalid));
+
+        // Assert
+        assertEquals(2, result.getCreated());
+        assertEquals(3, result.getFailed());
+        assertEquals(CUSTOMER_ID * 1000 + 2, result.getResults().get(0).getAccount().getId());
+        assertEquals(CUSTOMER_ID * 1000 + 3, result.getResults().get(1).getAccount().getId());
+        assertEquals("customer of customerId " + CUSTOMER_ID + " already has a salary account", result.getResults().get(2).getError());
+        assertEquals("no customer found of customerId - " + (CUSTOMER_ID + 1), result.getResults().get(3).getError());
+        assertEquals("balance cannot be empty, status cannot be empty, type cannot be empty", result.getResults().get(4).getError());
+        verify(customerCache, times(1)).getAll(anyCollection());
+        verify(accountRepository, times(1)).insertAll(argThat(accounts -> accounts.size() == 2));
+    }
+
+    @Test
+    void testCreateAccounts_WhenCustomerReachesMaximum_RejectsRemainingItems() {
+        // Arrange
+        when(customerCache.getAll(Set.of(CUSTOMER_ID))).thenReturn(Map.of(CUSTOMER_ID, customerDTO));
+        when(accountRepository.findCustomerIdsByCustomerIdInAndType(Set.of(CUSTOMER_ID), AccountType.SALARY)).thenReturn(List.of());
+        when(suffixAllocator.allocate(CUSTOMER_ID, 2)).thenReturn(List.of(10));
+        when(accountMapper.toModel(any(AccountDTO.class))).thenAnswer(invocation -> new AccountMapper().toModel(invocation.getArgument(0)));
+        when(accountMapper.toDto(any(Account.class))).thenAnswer(invocation -> new AccountMapper().toDto(invocation.getArgument(0)));
+
+        // Act
+        AccountBatchResponseDTO result = accountService.createAccounts(List.of(validAccount(CUSTOMER_ID, AccountType.SAVINGS),
+                validAccount(CUSTOMER_ID, AccountType.SAVINGS)));
+
+        // Assert
+        assertEquals(1, result.getCreated());
+        assertEquals(CUSTOMER_ID * 1000 + 10, result.getResults().get(0).getAccount().getId());
+        assertEquals("customerId of - " + CUSTOMER_ID + " already has maximum number of accounts allowed", result.getResults().get(1).getError());
+    }
+
+    @Test
+    void testCreateAccounts_WhenInsertFails_ReleasesAllocatedSuffixes() {
+        // Arrange
+        when(customerCache.getAll(Set.of(CUSTOMER_ID))).thenReturn(Map.of(CUSTOMER_ID, customerDTO));
+        when(accountRepository.findCustomerIdsByCustomerIdInAndType(Set.of(CUSTOMER_ID), AccountType.SALARY)).thenReturn(List.of());
+        when(suffixAllocator.allocate(CUSTOMER_ID, 1)).thenReturn(List.of(4));
+        when(accountMapper.toModel(any(AccountDTO.class))).thenAnswer(invocation -> new AccountMapper().toModel(invocation.getArgument(0)));
+        when(accountMapper.toDto(any(Account.class))).thenAnswer(invocation -> new AccountMapper().toDto(invocation.getArgument(0)));
+        doThrow(new DataIntegrityViolationException("duplicate")).when(accountRepository).insertAll(anyList());
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> {
+            accountService.createAccounts(List.of(validAccount(CUSTOMER_ID, AccountType.SAVINGS)));
+        });
+
+        verify(suffixAllocator, times(1)).release(CUSTOMER_ID, List.of(4));
+    }
+
+    @Test
+    void testCreateAccounts_WhenBatchIsTooLarge_ThrowsBadRequestException() {
+        // Arrange
+        List<AccountDTO> accountDTOs = new ArrayList<>();
+        for (int i = 0; i < 1_001; i++) {
+            accountDTOs.add(accountDTO);
+        }
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> {
+            accountService.createAccounts(accountDTOs);
+        });
+
+        assertEquals("a maximum of 1000 accounts can be created at once", exception.getMessage());
     }
 
     @Test
@@ -182,6 +670,58 @@ class AccountServiceImplTest {
         assertNotNull(result);
         assertEquals(VALID_ACCOUNT_ID, result.getId());
         verify(accountRepository, times(1)).save(any(Account.class));
+        verify(accountCache, times(1)).evict(VALID_ACCOUNT_ID);
+    }
+
+    @Test
+    void testModifyAccount_WhenATransferHoldsTheAccount_WaitsForItBeforeSaving() throws Exception {
+        // Arrange
+        accountDTO.setType(AccountType.SAVINGS);
+        when(accountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(account));
+        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(accountMapper.toModel(any(AccountDTO.class))).thenReturn(account);
+        when(accountMapper.toDto(any(Account.class))).thenReturn(accountDTO);
+
+        CountDownLatch transferStarted = new CountDownLatch(1);
+        CountDownLatch transferReleased = new CountDownLatch(1);
+        Thread transfer = new Thread(() -> lockStripes.callLocked(VALID_ACCOUNT_ID, VALID_ACCOUNT_ID + 1, () -> {
+            transferStarted.countDown();
+            try {
+                return transferReleased.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }));
+        transfer.start();
+        transferStarted.await(5, TimeUnit.SECONDS);
+
+        // Act
+        CompletableFuture<AccountDTO> modification = CompletableFuture.supplyAsync(() -> accountService.modifyAccount(accountDTO));
+
+        // Assert
+        verify(accountRepository, after(200).never()).save(any(Account.class));
+        transferReleased.countDown();
+        assertNotNull(modification.get(5, TimeUnit.SECONDS));
+        verify(accountRepository, times(1)).save(any(Account.class));
+        transfer.join();
+    }
+
+    @Test
+    void testModifyAccount_WhenAccountIsCached_ReadsTheModifiedAccountNext() {
+        // Arrange
+        accountDTO.setType(AccountType.SAVINGS);
+        AccountDTO modifiedDTO = new AccountDTO();
+        when(accountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(account));
+        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(accountMapper.toModel(any(AccountDTO.class))).thenReturn(account);
+        when(accountMapper.toDto(any(Account.class))).thenReturn(accountDTO, modifiedDTO, modifiedDTO);
+        accountService.getAccount(VALID_ACCOUNT_ID);
+
+        // Act
+        accountService.modifyAccount(accountDTO);
+
+        // Assert
+        assertSame(modifiedDTO, accountService.getAccount(VALID_ACCOUNT_ID));
     }
 
     @Test
@@ -197,6 +737,78 @@ class AccountServiceImplTest {
         assertEquals("invalid id - " + INVALID_ACCOUNT_ID, exception.getMessage());
     }
 
+    @Test
+    void testModifyAccount_WhenBalanceDoesNotFitInLongCents_ThrowsBadRequestException() {
+        // Arrange
+        accountDTO.setBalance(new BigDecimal("100000000000000000"));
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> {
+            accountService.modifyAccount(accountDTO);
+        });
+
+        assertEquals("balance can have at most 16 integer digits and 2 decimal places", exception.getMessage());
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void testModifyAccount_WhenShardedAccountIsGivenNoBalance_ThrowsBadRequestException() {
+        // Arrange
+        accountDTO.setType(AccountType.SAVINGS);
+        accountDTO.setStatus(AccountStatus.ACTIVE);
+        when(accountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(account));
+        when(accountMapper.toModel(any(AccountDTO.class))).thenReturn(account);
+        when(balanceShards.isSharded(VALID_ACCOUNT_ID)).thenReturn(true);
+        when(balanceShards.shardBalance(VALID_ACCOUNT_ID)).thenReturn(BigDecimal.valueOf(300));
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> {
+            accountService.modifyAccount(accountDTO);
+        });
+
+        assertEquals("the balance of a sharded account must be given and cannot be below 300", exception.getMessage());
+        verify(accountRepository, never()).save(any(Account.class));
+    }
+
+    @Test
+    void testModifyAccount_WhenBalanceIsBelowTheShards_ThrowsBadRequestException() {
+        // Arrange
+        accountDTO.setType(AccountType.SAVINGS);
+        accountDTO.setStatus(AccountStatus.ACTIVE);
+        accountDTO.setBalance(BigDecimal.valueOf(200));
+        when(accountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(account));
+        when(accountMapper.toModel(any(AccountDTO.class))).thenReturn(account);
+        when(balanceShards.isSharded(VALID_ACCOUNT_ID)).thenReturn(true);
+        when(balanceShards.shardBalance(VALID_ACCOUNT_ID)).thenReturn(BigDecimal.valueOf(300));
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> {
+            accountService.modifyAccount(accountDTO);
+        });
+
+        assertEquals("the balance of a sharded account must be given and cannot be below 300", exception.getMessage());
+        verify(accountRepository, never()).save(any(Account.class));
+    }
+
+    @Test
+    void testModifyAccount_WhenShardedAccountIsGivenBalance_KeepsTheShardsPart() {
+        // Arrange
+        accountDTO.setType(AccountType.SAVINGS);
+        accountDTO.setStatus(AccountStatus.ACTIVE);
+        accountDTO.setBalance(BigDecimal.valueOf(500));
+        when(accountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(account));
+        when(accountMapper.toModel(any(AccountDTO.class))).thenAnswer(invocation -> new AccountMapper().toModel(invocation.getArgument(0)));
+        when(balanceShards.isSharded(VALID_ACCOUNT_ID)).thenReturn(true);
+        when(balanceShards.shardBalance(VALID_ACCOUNT_ID)).thenReturn(BigDecimal.valueOf(300));
+        when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        accountService.modifyAccount(accountDTO);
+
+        // Assert
+        verify(accountRepository, times(1)).save(argThat(saved -> BigDecimal.valueOf(200).compareTo(saved.getBalance()) == 0));
+    }
+
     @Test
     void testModifyAccount_WhenSalaryAccountAlreadyExists_ThrowsBadRequestException() {
         // Arrange
@@ -220,13 +832,32 @@ class AccountServiceImplTest {
     @Test
     void testRemoveAccount_WhenValidId_RemovesAccount() {
         // Arrange
+        when(accountRepository.deleteAccountById(VALID_ACCOUNT_ID)).thenReturn(1);
 
         // Act
         boolean result = accountService.removeAccount(VALID_ACCOUNT_ID);
 
         // Assert
         assertTrue(result);
-        verify(accountRepository, times(1)).deleteById(VALID_ACCOUNT_ID);
+        verify(accountRepository, times(1)).deleteAccountById(VALID_ACCOUNT_ID);
+        verify(balanceShards, times(1)).remove(VALID_ACCOUNT_ID);
+        verify(suffixAllocator, times(1)).releaseAfterCommit(VALID_ACCOUNT_ID);
+        verify(accountCache, times(1)).evict(VALID_ACCOUNT_ID);
+    }
+
+    @Test
+    void testRemoveAccount_WhenAccountDoesNotExist_DoesNotReleaseItsSuffix() {
+        // Arrange
+        when(accountRepository.deleteAccountById(VALID_ACCOUNT_ID)).thenReturn(0);
+
+        // Act
+        boolean result = accountService.removeAccount(VALID_ACCOUNT_ID);
+
+        // Assert
+        assertFalse(result);
+        verify(balanceShards, never()).remove(anyLong());
+        verify(suffixAllocator, never()).releaseAfterCommit(anyLong());
+        verify(accountCache, times(1)).evict(VALID_ACCOUNT_ID);
     }
 
     @Test
@@ -241,5 +872,31 @@ class AccountServiceImplTest {
         assertEquals("invalid id - " + INVALID_ACCOUNT_ID, exception.getMessage());
     }
 
-}
+    @Test
+    void testRemoveAccountsBy_WhenCustomersDeleted_RemovesThemWithSetBasedDeletes() {
+        // Arrange
+        Set<Long> customerIds = Set.of(CUSTOMER_ID, CUSTOMER_ID + 1);
+        when(accountRepository.deleteAllByCustomerIdIn(customerIds)).thenReturn(3);
+
+        // Act
+        int removed = accountService.removeAccountsBy(customerIds);
+
+        // Assert
+        assertEquals(3, removed);
+        verify(balanceShards, times(1)).removeAll(customerIds);
+        verify(accountRepository, times(1)).deleteAllByCustomerIdIn(customerIds);
+        verify(suffixAllocator, times(1)).releaseAll(customerIds);
+        verify(customerCache, times(1)).evictAll(customerIds);
+        verify(accountCache, times(1)).evictAllOf(customerIds);
+    }
 
+    private AccountDTO validAccount(long customerId, AccountType type) {
+        return AccountDTO.builder()
+                         .customerId(customerId)
+                         .balance(BigDecimal.ZERO)
+                         .status(AccountStatus.ACTIVE)
+                         .type(type)
+                         .build();
+    }
+
+}
@@ -0,0 +1,256 @@
+package dev.awn.accountmanagementservice.core.account.service.impl;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.accountmanagementservice.core.account.allocator.ReactiveAccountSuffixAllocator;
+import dev.awn.accountmanagementservice.core.account.client.ReactiveCustomerClient;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import dev.awn.accountmanagementservice.core.account.dto.CustomerDTO;
+import dev.awn.accountmanagementservice.core.account.mapper.AccountMapper;
+import dev.awn.accountmanagementservice.core.account.repository.ReactiveAccountRepository;
+import dev.awn.accountmanagementservice.core.account.repository.ReactiveAccountSuffixAllocationRepository;
+import dev.awn.accountmanagementservice.core.account.repository.ReactiveCustomerReplicaRepository;
+import dev.awn.accountmanagementservice.core.account.service.AccountService;
+import dev.awn.accountmanagementservice.core.account.shard.AccountBalanceShards;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Runs the reactive account API against an in-memory database over R2DBC, with the remote customer lookup mocked
+class ReactiveAccountServiceImplTest {
+
+    private ReactiveAccountServiceImpl accountService;
+    private ReactiveAccountRepository accountRepository;
+    private ReactiveAccountSuffixAllocator suffixAllocator;
+    private ReactiveAccountSuffixAllocationRepository allocationRepository;
+    private AccountBalanceShards balanceShards;
+    private DatabaseClient databaseClient;
+
+    private final long CUSTOMER_ID = 1_000_000L;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get("r2dbc:h2:mem:///" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        databaseClient = DatabaseClient.create(connectionFactory);
+
+        Flux.just("CREATE TABLE ACCOUNTS (ID BIGINT PRIMARY KEY, CUSTOMER_ID BIGINT, BALANCE DECIMAL(38, 2), " +
+                          "STATUS VARCHAR(255), TYPE VARCHAR(255), CREATION_TIME TIMESTAMP, MODIFICATION_TIME TIMESTAMP, " +
+                          "LEDGER_SEQUENCE BIGINT)",
+                  "CREATE TABLE ACCOUNT_SUFFIX_ALLOCATIONS (CUSTOMER_ID BIGINT PRIMARY KEY, SUFFIXES INT NOT NULL)",
+                  "CREATE TABLE ACCOUNT_BALANCE_SHARDS (ACCOUNT_ID BIGINT, SHARD INT, BALANCE DECIMAL(38, 2) NOT NULL, " +
+                          "PRIMARY KEY (ACCOUNT_ID, SHARD))",
+                  "CREATE TABLE CUSTOMER_REPLICAS (ID BIGINT PRIMARY KEY, NAME VARCHAR(255), TYPE VARCHAR(255), " +
+                          "DELETED BOOLEAN NOT NULL, VERSION_TIME TIMESTAMP NOT NULL)")
+            .concatMap(ddl -> databaseClient.sql(ddl).then())
+            .blockLast();
+
+        accountRepository = new ReactiveAccountRepository(databaseClient);
+        allocationRepository = new ReactiveAccountSuffixAllocationRepository(databaseClient);
+        suffixAllocator = new ReactiveAccountSuffixAllocator(allocationRepository, accountRepository);
+
+        balanceShards = mock(AccountBalanceShards.class);
+        ReactiveCustomerClient customerClient = mock(ReactiveCustomerClient.class);
+        when(customerClient.getCustomer(anyLong())).thenReturn(Mono.just(new CustomerDTO()));
+
+        accountService = new ReactiveAccountServiceImpl(accountRepository,
+                                                        new ReactiveCustomerReplicaRepository(databaseClient),
+                                                        suffixAllocator,
+                                                        customerClient,
+                                                        balanceShards,
+                                                        new AccountMapper(),
+                                                        mock(AccountService.class),
+                                                        Validation.buildDefaultValidatorFactory().getValidator(),
+                                                        TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)));
+    }
+
+    @Test
+    void testCreateAccount_WhenFirstAccount_AllocatesFirstSuffix() {
+        // Act
+        AccountDTO result = accountService.createAccount(account(AccountType.SALARY)).block();
+
+        // Assert
+        assertNotNull(result);
+        assertEquals(CUSTOMER_ID * 1000 + 1, result.getId());
+        assertNotNull(accountRepository.findById(result.getId()).block());
+    }
+
+    @Test
+    void testCreateAccount_WhenSalaryAccountExists_ThrowsBadRequestException() {
+        // Arrange
+        accountService.createAccount(account(AccountType.SALARY)).block();
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> accountService.createAccount(account(AccountType.SALARY)).block());
+    }
+
+    @Test
+    void testCreateAccount_WhenMaximumAccountsReached_ThrowsBadRequestException() {
+        // Arrange
+        for(int i = 0; i < 10; i++) {
+            accountService.createAccount(account(AccountType.SAVINGS)).block();
+        }
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> accountService.createAccount(account(AccountType.SAVINGS)).block());
+        assertEquals(10, accountRepository.findIdsByCustomerId(CUSTOMER_ID).count().block());
+    }
+
+    @Test
+    void testCreateAccount_WhenAccountIdAlreadyExists_KeepsItsSuffixHeld() {
+        // Arrange, an allocation that lost track of a stored account
+        AccountDTO created = accountService.createAccount(account(AccountType.SAVINGS)).block();
+        allocationRepository.compareAndSet(CUSTOMER_ID, 0b1, 0).block();
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> accountService.createAccount(account(AccountType.SAVINGS)).block());
+        assertEquals(0b1, allocationRepository.findSuffixesByCustomerId(CUSTOMER_ID).block());
+        assertNotNull(accountRepository.findById(created.getId()).block());
+    }
+
+    @Test
+    void testCreateAccount_WhenBalanceDoesNotFitInLongCents_ThrowsBadRequestException() {
+        // Arrange
+        AccountDTO accountDTO = account(AccountType.SAVINGS);
+        accountDTO.setBalance(new BigDecimal("100000000000000000"));
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> accountService.createAccount(accountDTO).block());
+        assertEquals("balance can have at most 16 integer digits and 2 decimal places", exception.getMessage());
+        assertEquals(0, accountRepository.findIdsByCustomerId(CUSTOMER_ID).count().block());
+    }
+
+    @Test
+    void testModifyAccount_WhenBalanceDoesNotFitInLongCents_ThrowsBadRequestException() {
+        // Arrange
+        AccountDTO created = accountService.createAccount(account(AccountType.SAVINGS)).block();
+        created.setBalance(new BigDecimal("0.001"));
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> accountService.modifyAccount(created).block());
+        assertEquals("balance can have at most 16 integer digits and 2 decimal places", exception.getMessage());
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountRepository.findById(created.getId()).block().getBalance()));
+    }
+
+    @Test
+    void testGetAccount_WhenInvalidId_ThrowsBadRequestException() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> accountService.getAccount(999L).block());
+    }
+
+    @Test
+    void testGetAccount_WhenAccountDoesNotExist_ThrowsResourceNotFoundException() {
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> accountService.getAccount(CUSTOMER_ID * 1000 + 1).block());
+    }
+
+    @Test
+    void testModifyAccount_WhenAnotherSalaryAccountExists_ThrowsBadRequestException() {
+        // Arrange
+        accountService.createAccount(account(AccountType.SALARY)).block();
+        AccountDTO savings = accountService.createAccount(account(AccountType.SAVINGS)).block();
+        savings.setType(AccountType.SALARY);
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> accountService.modifyAccount(savings).block());
+        assertEquals(AccountType.SAVINGS, accountRepository.findById(savings.getId()).block().getType());
+    }
+
+    @Test
+    void testModifyAccount_WhenShardedAccountIsGivenNoBalance_ThrowsBadRequestException() {
+        // Arrange
+        AccountDTO created = accountService.createAccount(account(AccountType.SAVINGS)).block();
+        shard(created.getId(), BigDecimal.valueOf(300));
+        created.setBalance(null);
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> accountService.modifyAccount(created).block());
+        assertEquals("the balance of a sharded account must be given and cannot be below 300.00", exception.getMessage());
+    }
+
+    @Test
+    void testModifyAccount_WhenBalanceIsBelowTheShards_ThrowsBadRequestException() {
+        // Arrange
+        AccountDTO created = accountService.createAccount(account(AccountType.SAVINGS)).block();
+        shard(created.getId(), BigDecimal.valueOf(300));
+        created.setBalance(BigDecimal.valueOf(200));
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> accountService.modifyAccount(created).block());
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountRepository.findById(created.getId()).block().getBalance()));
+    }
+
+    @Test
+    void testRemoveAccount_WhenAccountExists_ReleasesItsSuffix() {
+        // Arrange
+        AccountDTO created = accountService.createAccount(account(AccountType.SAVINGS)).block();
+
+        // Act
+        accountService.removeAccount(created.getId()).block();
+
+        // Assert
+        assertNull(accountRepository.findById(created.getId()).block());
+        assertEquals(created.getId(), accountService.createAccount(account(AccountType.SAVINGS)).block().getId());
+    }
+
+    @Test
+    void testRemoveAccount_WhenItsShardsCannotBeDeleted_KeepsTheAccountAndItsSuffix() {
+        // Arrange
+        AccountDTO created = accountService.createAccount(account(AccountType.SAVINGS)).block();
+        databaseClient.sql("DROP TABLE ACCOUNT_BALANCE_SHARDS").then().block();
+
+        // Act & Assert
+        assertThrows(DataAccessException.class, () -> accountService.removeAccount(created.getId()).block());
+        assertNotNull(accountRepository.findById(created.getId()).block());
+        assertEquals(0b1, allocationRepository.findSuffixesByCustomerId(CUSTOMER_ID).block());
+    }
+
+    @Test
+    void testRemoveAccount_WhenAccountDoesNotExist_DoesNotReleaseItsSuffix() {
+        // Arrange, a suffix allocated by a create that has not inserted its account yet
+        int suffix = suffixAllocator.allocate(CUSTOMER_ID, null).block();
+
+        // Act
+        Boolean removed = accountService.removeAccount(CUSTOMER_ID * 1000 + suffix).block();
+
+        // Assert
+        assertFalse(removed);
+        assertEquals(CUSTOMER_ID * 1000 + suffix + 1, accountService.createAccount(account(AccountType.SAVINGS)).block().getId());
+    }
+
+    private void shard(long accountId, BigDecimal balance) {
+        databaseClient.sql("INSERT INTO ACCOUNT_BALANCE_SHARDS (ACCOUNT_ID, SHARD, BALANCE) VALUES (:accountId, 1, :balance)")
+                      .bind("accountId", accountId)
+                      .bind("balance", balance)
+                      .then()
+                      .block();
+        when(balanceShards.isSharded(accountId)).thenReturn(true);
+    }
+
+    private AccountDTO account(AccountType type) {
+        return AccountDTO.builder()
+                         .customerId(CUSTOMER_ID)
+                         .balance(BigDecimal.ZERO)
+                         .status(AccountStatus.ACTIVE)
+                         .type(type)
+                         .build();
+    }
+}
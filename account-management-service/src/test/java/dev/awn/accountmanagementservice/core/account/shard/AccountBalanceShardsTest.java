@@ -0,0 +1,172 @@
+package dev.awn.accountmanagementservice.core.account.shard;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.model.AccountBalanceShard;
+import dev.awn.accountmanagementservice.core.account.repository.AccountBalanceShardRepository;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(AccountBalanceShards.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountBalanceShardsTest {
+
+    @Autowired
+    private AccountBalanceShards balanceShards;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountBalanceShardRepository shardRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private static final long ACCOUNT_ID = 1_000_000_001L;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.save(Account.builder()
+                                      .id(ACCOUNT_ID)
+                                      .customerId(ACCOUNT_ID / 1000)
+                                      .balance(new BigDecimal("100.03"))
+                                      .status(AccountStatus.ACTIVE)
+                                      .type(AccountType.SALARY)
+                                      .creationTime(LocalDateTime.now())
+                                      .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        balanceShards.remove(ACCOUNT_ID);
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    void testConfigureTasks_WhenIntervalsAreDurations_SchedulesRebalanceAndRefresh() {
+        // Arrange
+        ScheduledTaskRegistrar taskRegistrar = new ScheduledTaskRegistrar();
+
+        // Act
+        balanceShards.configureTasks(taskRegistrar);
+
+        // Assert
+        assertEquals(List.of(Duration.ofSeconds(30), Duration.ofSeconds(10)),
+                taskRegistrar.getFixedDelayTaskList().stream().map(IntervalTask::getIntervalDuration).toList());
+    }
+
+    @Test
+    void testEnable_WhenAccountIsActive_SpreadsBalanceToTheCent() {
+        // Act
+        balanceShards.enable(ACCOUNT_ID, 4);
+
+        // Assert
+        assertTrue(balanceShards.isSharded(ACCOUNT_ID));
+        assertEquals(List.of(new BigDecimal("25.01"), new BigDecimal("25.01"), new BigDecimal("25.01"), new BigDecimal("25.00")),
+                shards().stream().map(AccountBalanceShard::getBalance).toList());
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountRepository.findById(ACCOUNT_ID).orElseThrow().getBalance()));
+        assertEquals(0, new BigDecimal("100.03").compareTo(total()));
+    }
+
+    @Test
+    void testEnable_WhenAlreadySharded_ThrowsBadRequestException() {
+        // Arrange
+        balanceShards.enable(ACCOUNT_ID, 4);
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> balanceShards.enable(ACCOUNT_ID, 2));
+
+        assertEquals("account of id - " + ACCOUNT_ID + " is already sharded", exception.getMessage());
+    }
+
+    @Test
+    void testDebit_WhenShardCannotCoverButAccountCan_ThrowsShardBalanceExhaustedException() {
+        // Arrange
+        balanceShards.enable(ACCOUNT_ID, 4);
+
+        // Act & Assert
+        assertThrows(ShardBalanceExhaustedException.class,
+                () -> transactionTemplate.execute(status -> balanceShards.debit(ACCOUNT_ID, 0, BigDecimal.valueOf(50))));
+        Boolean debited = transactionTemplate.execute(status -> balanceShards.debit(ACCOUNT_ID, 0, BigDecimal.valueOf(500)));
+        assertEquals(Boolean.FALSE, debited);
+    }
+
+    @Test
+    void testDebitAcrossShards_WhenTotalCoversDebit_TakesFromShardsInOrder() {
+        // Arrange
+        balanceShards.enable(ACCOUNT_ID, 4);
+
+        // Act
+        Boolean debited = transactionTemplate.execute(status ->
+                balanceShards.debitAcrossShards(ACCOUNT_ID, BigDecimal.valueOf(60), LocalDateTime.now()));
+
+        // Assert
+        assertEquals(Boolean.TRUE, debited);
+        assertEquals(List.of(new BigDecimal("0.00"), new BigDecimal("0.00"), new BigDecimal("15.03"), new BigDecimal("25.00")),
+                shards().stream().map(AccountBalanceShard::getBalance).toList());
+    }
+
+    @Test
+    void testRebalance_WhenRowAndShardsDrifted_SpreadsTotalEvenly() {
+        // Arrange
+        balanceShards.enable(ACCOUNT_ID, 2);
+        transactionTemplate.executeWithoutResult(status -> {
+            balanceShards.debit(ACCOUNT_ID, 0, new BigDecimal("50.02"));
+            accountRepository.credit(ACCOUNT_ID, BigDecimal.TEN, AccountStatus.ACTIVE, LocalDateTime.now());
+        });
+
+        // Act
+        balanceShards.rebalance(ACCOUNT_ID);
+
+        // Assert
+        assertEquals(List.of(new BigDecimal("30.01"), new BigDecimal("30.00")),
+                shards().stream().map(AccountBalanceShard::getBalance).toList());
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountRepository.findById(ACCOUNT_ID).orElseThrow().getBalance()));
+    }
+
+    @Test
+    void testRefresh_WhenShardsWereRemovedElsewhere_ForgetsTheAccount() {
+        // Arrange
+        balanceShards.enable(ACCOUNT_ID, 2);
+        shardRepository.deleteByAccountId(ACCOUNT_ID);
+
+        // Act
+        balanceShards.refresh();
+
+        // Assert
+        assertFalse(balanceShards.isSharded(ACCOUNT_ID));
+        assertEquals(AccountBalanceShards.UNSHARDED, balanceShards.pickShard(ACCOUNT_ID));
+    }
+
+    private List<AccountBalanceShard> shards() {
+        return shardRepository.findAll()
+                              .stream()
+                              .sorted((first, second) -> first.getShard().compareTo(second.getShard()))
+                              .toList();
+    }
+
+    private BigDecimal total() {
+        return balanceShards.totalBalance(accountRepository.findById(ACCOUNT_ID).orElseThrow());
+    }
+}
@@ -0,0 +1,197 @@
+package dev.awn.accountmanagementservice.core.ledger.journal;
+
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerPosting;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LedgerJournalTest {
+    private final static Logger logger = LoggerFactory.getLogger(LedgerJournalTest.class);
+
+    private static final long SEGMENT_SIZE = 10L * LedgerJournal.RECORD_SIZE;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testOpen_WhenPostingsWereAppended_ReplaysThemInOrder() throws Exception {
+        // Arrange
+        LedgerJournal journal = new LedgerJournal(directory, SEGMENT_SIZE, 100);
+        journal.open(posting -> fail("an empty journal has nothing to replay"));
+        List<LedgerPosting> appended = postings(1, 25);
+        for(int i = 0; i < appended.size(); i += 2) {
+            journal.append(appended.subList(i, Math.min(i + 2, appended.size()))).get(5, TimeUnit.SECONDS);
+        }
+        journal.close();
+
+        // Act
+        List<LedgerPosting> replayed = new ArrayList<>();
+        LedgerJournal reopened = new LedgerJournal(directory, SEGMENT_SIZE, 100);
+        long lastSequence = reopened.open(replayed::add);
+        reopened.close();
+
+        // Assert
+        assertEquals(25, lastSequence);
+        assertEquals(3, segments().size());
+        assertEquals(appended.size(), replayed.size());
+        for(int i = 0; i < appended.size(); i++) {
+            assertEquals(appended.get(i).getSequence(), replayed.get(i).getSequence());
+            assertEquals(appended.get(i).getAccountId(), replayed.get(i).getAccountId());
+            assertEquals(appended.get(i).getCounterpartyAccountId(), replayed.get(i).getCounterpartyAccountId());
+            assertEquals(0, appended.get(i).getAmount().compareTo(replayed.get(i).getAmount()));
+            assertEquals(appended.get(i).getPostingTime(), replayed.get(i).getPostingTime());
+        }
+    }
+
+    @Test
+    void testOpen_WhenLastRecordIsTorn_TruncatesTheJournalBeforeIt() throws Exception {
+        // Arrange
+        LedgerJournal journal = new LedgerJournal(directory, SEGMENT_SIZE, 100);
+        journal.open(posting -> { });
+        journal.append(postings(1, 4)).get(5, TimeUnit.SECONDS);
+        journal.close();
+
+        try(RandomAccessFile segment = new RandomAccessFile(segments().get(0).toFile(), "rw")) {
+            segment.seek(3L * LedgerJournal.RECORD_SIZE + 24);
+            segment.writeLong(999);
+        }
+
+        // Act
+        List<LedgerPosting> replayed = new ArrayList<>();
+        LedgerJournal reopened = new LedgerJournal(directory, SEGMENT_SIZE, 100);
+        long lastSequence = reopened.open(replayed::add);
+        reopened.append(postings(4, 1)).get(5, TimeUnit.SECONDS);
+        reopened.close();
+
+        List<LedgerPosting> replayedAgain = new ArrayList<>();
+        LedgerJournal again = new LedgerJournal(directory, SEGMENT_SIZE, 100);
+        again.open(replayedAgain::add);
+        again.close();
+
+        // Assert
+        assertEquals(3, lastSequence);
+        assertEquals(3, replayed.size());
+        assertEquals(4, replayedAgain.size());
+        assertEquals(0, BigDecimal.valueOf(4).compareTo(replayedAgain.get(3).getAmount()));
+    }
+
+    @Test
+    void testDeleteSegmentsUpTo_WhenSegmentsAreApplied_KeepsTheRest() throws Exception {
+        // Arrange
+        LedgerJournal journal = new LedgerJournal(directory, SEGMENT_SIZE, 100);
+        journal.open(posting -> { });
+        journal.append(postings(1, 25)).get(5, TimeUnit.SECONDS);
+
+        // Act
+        journal.deleteSegmentsUpTo(15);
+        List<Path> remaining = segments();
+        journal.deleteSegmentsUpTo(25);
+        journal.close();
+
+        // Assert
+        assertEquals(2, remaining.size());
+        assertEquals(1, segments().size());
+    }
+
+    @Test
+    void testAppend_WhenManyWritersAppendConcurrently_GroupsThemIntoFewFsyncs() throws Exception {
+        // Arrange
+        int threads = 16;
+        int appendsPerThread = 500;
+        LedgerJournal journal = new LedgerJournal(directory, 64L * 1024 * 1024, 4096);
+        journal.open(posting -> { });
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Object sequenceLock = new Object();
+        long[] lastSequence = {0};
+
+        // Act
+        long startTime = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for(int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for(int i = 0; i < appendsPerThread; i++) {
+                    CompletableFuture<Void> durable;
+                    synchronized(sequenceLock) {
+                        durable = journal.append(postings(lastSequence[0] + 1, 2));
+                        lastSequence[0] += 2;
+                    }
+                    durable.get(5, TimeUnit.SECONDS);
+                }
+                return null;
+            }));
+        }
+        for(Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        executor.shutdown();
+        journal.close();
+
+        List<LedgerPosting> replayed = new ArrayList<>();
+        LedgerJournal reopened = new LedgerJournal(directory, 64L * 1024 * 1024, 4096);
+        reopened.open(replayed::add);
+        reopened.close();
+
+        // Assert
+        int transfers = threads * appendsPerThread;
+        logger.info("journaled {} durable transfers from {} threads in {} ms ({} transfers/sec)",
+                transfers, threads, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                transfers * 1_000_000_000L / Math.max(1, elapsedNanos));
+        assertEquals(transfers * 2, replayed.size());
+    }
+
+    private List<Path> segments() throws IOException {
+        try(Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    @Test
+    void testAppend_WhenAmountDoesNotFitInLongCents_RefusesItAndKeepsAccepting() throws Exception {
+        // Arrange
+        LedgerJournal journal = new LedgerJournal(directory, SEGMENT_SIZE, 100);
+        journal.open(posting -> { });
+        List<LedgerPosting> oversized = postings(1, 1);
+        oversized.get(0).setAmount(new BigDecimal("100000000000000000"));
+
+        // Act
+        CompletableFuture<Void> refused = journal.append(oversized);
+        CompletableFuture<Void> accepted = journal.append(postings(1, 2));
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> refused.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ArithmeticException.class, exception.getCause());
+        accepted.get(5, TimeUnit.SECONDS);
+        journal.close();
+    }
+
+    private static List<LedgerPosting> postings(long firstSequence, int count) {
+        LocalDateTime postingTime = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        List<LedgerPosting> postings = new ArrayList<>();
+        for(long sequence = firstSequence; sequence < firstSequence + count; sequence++) {
+            postings.add(LedgerPosting.builder()
+                                      .sequence(sequence)
+                                      .accountId(1_000_000_001L + sequence % 2)
+                                      .counterpartyAccountId(1_000_000_001L + (sequence + 1) % 2)
+                                      .amount(BigDecimal.valueOf(sequence))
+                                      .postingTime(postingTime)
+                                      .build());
+        }
+        return postings;
+    }
+}
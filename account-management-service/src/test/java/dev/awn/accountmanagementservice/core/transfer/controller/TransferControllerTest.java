@@ -0,0 +1,107 @@
+package dev.awn.accountmanagementservice.core.transfer.controller;
+
+import dev.awn.accountmanagementservice.core.transfer.constant.TransferStatus;
+import dev.awn.accountmanagementservice.core.transfer.dto.TransferDTO;
+import dev.awn.accountmanagementservice.core.transfer.service.TransferService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TransferController.class)
+class TransferControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TransferService transferService;
+
+    @Test
+    void testTransfer_WhenTransferIsValid_ReturnsCompletedTransfer() throws Exception {
+        // arrange
+        TransferDTO transferDTO = TransferDTO.builder()
+                                             .fromAccountId(1_000_000_001L)
+                                             .toAccountId(1_000_001_001L)
+                                             .amount(BigDecimal.valueOf(250))
+                                             .transferTime(LocalDateTime.now())
+                                             .build();
+
+        when(transferService.transfer(any(TransferDTO.class))).thenReturn(transferDTO);
+
+        // act
+        mockMvc.perform(post("/transfers")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content("{\"fromAccountId\":1000000001,\"toAccountId\":1000001001,\"amount\":250}"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.fromAccountId").value(1_000_000_001L))
+               .andExpect(jsonPath("$.amount").value(250))
+               .andExpect(jsonPath("$.transferTime").exists());
+
+        // assert
+        verify(transferService).transfer(any(TransferDTO.class));
+    }
+
+    @Test
+    void testTransfer_WhenLedgerHasNotConfirmedIt_ReturnsAcceptedWithItsSequence() throws Exception {
+        // arrange
+        TransferDTO transferDTO = TransferDTO.builder()
+                                             .fromAccountId(1_000_000_001L)
+                                             .toAccountId(1_000_001_001L)
+                                             .amount(BigDecimal.valueOf(250))
+                                             .transferTime(LocalDateTime.now())
+                                             .status(TransferStatus.PENDING)
+                                             .ledgerSequence(41L)
+                                             .build();
+
+        when(transferService.transfer(any(TransferDTO.class))).thenReturn(transferDTO);
+
+        // act
+        mockMvc.perform(post("/transfers")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content("{\"fromAccountId\":1000000001,\"toAccountId\":1000001001,\"amount\":250}"))
+               .andExpect(status().isAccepted())
+               .andExpect(jsonPath("$.status").value("PENDING"))
+               .andExpect(jsonPath("$.ledgerSequence").value(41));
+
+        // assert
+        verify(transferService).transfer(any(TransferDTO.class));
+    }
+
+    @Test
+    void testTransfer_WhenAmountIsNotPositive_ReturnsBadRequest() throws Exception {
+        // act
+        mockMvc.perform(post("/transfers")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content("{\"fromAccountId\":1000000001,\"toAccountId\":1000001001,\"amount\":-5}"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("amount must be positive"));
+
+        // assert
+        verifyNoInteractions(transferService);
+    }
+
+    @Test
+    void testTransfer_WhenAmountDoesNotFitInLongCents_ReturnsBadRequest() throws Exception {
+        // act
+        mockMvc.perform(post("/transfers")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content("{\"fromAccountId\":1000000001,\"toAccountId\":1000001001,\"amount\":100000000000000000}"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("amount can have at most 16 integer digits and 2 decimal places"));
+
+        // assert
+        verifyNoInteractions(transferService);
+    }
+}
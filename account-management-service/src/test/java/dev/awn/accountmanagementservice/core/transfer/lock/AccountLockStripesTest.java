@@ -0,0 +1,68 @@
+package dev.awn.accountmanagementservice.core.transfer.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountLockStripesTest {
+
+    @Test
+    void testConstructor_WhenStripesIsNotAPowerOfTwo_RoundsUp() {
+        // Act
+        AccountLockStripes lockStripes = new AccountLockStripes(1000);
+
+        // Assert
+        assertEquals(1024, lockStripes.stripes());
+    }
+
+    @Test
+    void testCallLocked_WhenBothAccountsShareAStripe_DoesNotDeadlockOnItself() {
+        // Arrange
+        AccountLockStripes lockStripes = new AccountLockStripes(1);
+
+        // Act
+        String result = lockStripes.callLocked(1_000_000_001L, 1_000_000_002L, () -> "done");
+
+        // Assert
+        assertEquals("done", result);
+    }
+
+    @Test
+    void testCallLocked_WhenOppositeTransfersRunConcurrently_NeverDeadlocks() throws Exception {
+        // Arrange
+        AccountLockStripes lockStripes = new AccountLockStripes(16);
+        long first = 1_000_000_001L;
+        long second = first + 1;
+        while(lockStripes.stripeOf(second) == lockStripes.stripeOf(first)) {
+            second++;
+        }
+        long other = second;
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        int[] counter = new int[1];
+
+        // Act
+        Future<?> forward = executor.submit(() -> {
+            for(int i = 0; i < 10_000; i++) {
+                lockStripes.callLocked(first, other, () -> counter[0]++);
+            }
+            return barrier.await();
+        });
+        Future<?> backward = executor.submit(() -> {
+            for(int i = 0; i < 10_000; i++) {
+                lockStripes.callLocked(other, first, () -> counter[0]++);
+            }
+            return barrier.await();
+        });
+
+        forward.get(10, TimeUnit.SECONDS);
+        backward.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Assert
+        assertEquals(20_000, counter[0]);
+    }
+}
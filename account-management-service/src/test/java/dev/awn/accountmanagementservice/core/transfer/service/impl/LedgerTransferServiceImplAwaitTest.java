@@ -0,0 +1,102 @@
+package dev.awn.accountmanagementservice.core.transfer.service.impl;
+
+import dev.awn.accountmanagementservice.common.config.ledger.LedgerProperties;
+import dev.awn.accountmanagementservice.common.exception.InternalServerErrorException;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.shard.AccountBalanceShards;
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerAccountSnapshot;
+import dev.awn.accountmanagementservice.core.ledger.model.LedgerPostingReceipt;
+import dev.awn.accountmanagementservice.core.ledger.repository.LedgerPostingRepository;
+import dev.awn.accountmanagementservice.core.ledger.service.LedgerService;
+import dev.awn.accountmanagementservice.core.transfer.constant.TransferStatus;
+import dev.awn.accountmanagementservice.core.transfer.dto.TransferDTO;
+import dev.awn.accountmanagementservice.core.transfer.lock.AccountLockStripes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+// How a transfer reports the journal write it waits on, the write itself is covered by LedgerTransferServiceImplTest
+@ExtendWith(MockitoExtension.class)
+class LedgerTransferServiceImplAwaitTest {
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private LedgerPostingRepository postingRepository;
+
+    @Spy
+    private AccountLockStripes lockStripes = new AccountLockStripes(16);
+
+    @Mock
+    private AccountBalanceShards balanceShards;
+
+    @Spy
+    private LedgerProperties ledgerProperties = new LedgerProperties();
+
+    @InjectMocks
+    private LedgerTransferServiceImpl transferService;
+
+    private static final long FROM_ACCOUNT_ID = 1_000_000_001L;
+    private static final long TO_ACCOUNT_ID = 1_000_001_001L;
+    private static final long SEQUENCE = 41L;
+
+    @BeforeEach
+    void setUp() {
+        ledgerProperties.setAwaitTimeout(Duration.ofMillis(50));
+        when(ledgerService.pendingPostings(FROM_ACCOUNT_ID)).thenReturn(new TreeMap<>());
+        when(postingRepository.findSnapshots(anyCollection())).thenReturn(List.of(
+                new LedgerAccountSnapshot(FROM_ACCOUNT_ID, AccountStatus.ACTIVE, BigDecimal.TEN, 0),
+                new LedgerAccountSnapshot(TO_ACCOUNT_ID, AccountStatus.ACTIVE, BigDecimal.ZERO, 0)));
+    }
+
+    @Test
+    void testTransfer_WhenJournalMissesTheDeadline_ReturnsItAsPendingWithItsSequence() {
+        // Arrange
+        when(ledgerService.post(eq(FROM_ACCOUNT_ID), eq(TO_ACCOUNT_ID), any(BigDecimal.class), any(LocalDateTime.class)))
+                .thenReturn(new LedgerPostingReceipt(SEQUENCE, new CompletableFuture<>()));
+
+        // Act
+        TransferDTO result = transferService.transfer(transfer());
+
+        // Assert
+        assertEquals(TransferStatus.PENDING, result.getStatus());
+        assertEquals(SEQUENCE, result.getLedgerSequence());
+        assertNotNull(result.getTransferTime());
+    }
+
+    @Test
+    void testTransfer_WhenJournalWriteFails_ThrowsInternalServerErrorException() {
+        // Arrange
+        when(ledgerService.post(eq(FROM_ACCOUNT_ID), eq(TO_ACCOUNT_ID), any(BigDecimal.class), any(LocalDateTime.class)))
+                .thenReturn(new LedgerPostingReceipt(SEQUENCE, CompletableFuture.failedFuture(new IOException("disk is full"))));
+
+        // Act & Assert
+        Exception exception = assertThrows(InternalServerErrorException.class, () -> transferService.transfer(transfer()));
+        assertEquals("could not write the transfer to the ledger", exception.getMessage());
+    }
+
+    private TransferDTO transfer() {
+        return TransferDTO.builder()
+                          .fromAccountId(FROM_ACCOUNT_ID)
+                          .toAccountId(TO_ACCOUNT_ID)
+                          .amount(BigDecimal.ONE)
+                          .build();
+    }
+}
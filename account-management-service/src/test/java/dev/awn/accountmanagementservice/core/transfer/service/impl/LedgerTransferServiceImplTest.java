@@ -0,0 +1,179 @@
+package dev.awn.accountmanagementservice.core.transfer.service.impl;
+
+import dev.awn.accountmanagementservice.common.config.ledger.LedgerConfig;
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.accountmanagementservice.core.account.cache.AccountCache;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import dev.awn.accountmanagementservice.core.account.shard.AccountBalanceShards;
+import dev.awn.accountmanagementservice.core.ledger.dto.LedgerPostingDTO;
+import dev.awn.accountmanagementservice.core.ledger.mapper.LedgerPostingMapper;
+import dev.awn.accountmanagementservice.core.ledger.repository.LedgerPostingRepository;
+import dev.awn.accountmanagementservice.core.ledger.service.LedgerService;
+import dev.awn.accountmanagementservice.core.transfer.constant.TransferStatus;
+import dev.awn.accountmanagementservice.core.transfer.dto.TransferDTO;
+import dev.awn.accountmanagementservice.core.transfer.lock.AccountLockStripes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({LedgerConfig.class, LedgerPostingMapper.class, LedgerTransferServiceImpl.class,
+        AccountLockStripes.class, AccountBalanceShards.class, AccountCache.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LedgerTransferServiceImplTest {
+
+    @TempDir
+    private static Path ledgerDirectory;
+
+    @DynamicPropertySource
+    static void ledgerProperties(DynamicPropertyRegistry registry) {
+        registry.add("ledger.enabled", () -> "true");
+        registry.add("ledger.directory", () -> ledgerDirectory.toString());
+        registry.add("ledger.segment-size", () -> "1MB");
+    }
+
+    @Autowired
+    private LedgerTransferServiceImpl transferService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private LedgerPostingRepository postingRepository;
+
+    private static final long FROM_ACCOUNT_ID = 1_000_000_001L;
+    private static final long TO_ACCOUNT_ID = 1_000_001_001L;
+    private static final int THREADS = 16;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.saveAll(List.of(account(FROM_ACCOUNT_ID, BigDecimal.TEN), account(TO_ACCOUNT_ID, BigDecimal.ZERO)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        awaitApplied();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    void testTransfer_WhenBalanceRunsOut_NeverOverdrawsBeforeOrAfterApplying() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // Act
+        List<Future<?>> futures = new ArrayList<>();
+        for(int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                try {
+                    transferService.transfer(TransferDTO.builder()
+                                                        .fromAccountId(FROM_ACCOUNT_ID)
+                                                        .toAccountId(TO_ACCOUNT_ID)
+                                                        .amount(BigDecimal.ONE)
+                                                        .build());
+                    succeeded.incrementAndGet();
+                } catch (BadRequestException e) {
+                    // insufficient balance
+                }
+                return null;
+            }));
+        }
+        for(Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        awaitApplied();
+
+        // Assert
+        assertEquals(10, succeeded.get());
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountRepository.findById(FROM_ACCOUNT_ID).orElseThrow().getBalance()));
+        assertEquals(0, BigDecimal.TEN.compareTo(accountRepository.findById(TO_ACCOUNT_ID).orElseThrow().getBalance()));
+    }
+
+    @Test
+    void testTransfer_WhenApplied_RecordsBothPostings() throws Exception {
+        // Arrange
+        long afterSequence = postingRepository.findMaxSequence();
+
+        // Act
+        TransferDTO result = transferService.transfer(TransferDTO.builder()
+                                                                 .fromAccountId(FROM_ACCOUNT_ID)
+                                                                 .toAccountId(TO_ACCOUNT_ID)
+                                                                 .amount(BigDecimal.valueOf(4))
+                                                                 .build());
+        awaitApplied();
+        List<LedgerPostingDTO> debits = ledgerService.getPostings(FROM_ACCOUNT_ID, afterSequence, 10);
+        List<LedgerPostingDTO> credits = ledgerService.getPostings(TO_ACCOUNT_ID, afterSequence, 10);
+
+        // Assert
+        assertEquals(1, debits.size());
+        assertEquals(0, BigDecimal.valueOf(-4).compareTo(debits.get(0).getAmount()));
+        assertEquals(TO_ACCOUNT_ID, debits.get(0).getCounterpartyAccountId());
+        assertEquals(1, credits.size());
+        assertEquals(0, BigDecimal.valueOf(4).compareTo(credits.get(0).getAmount()));
+        assertEquals(debits.get(0).getSequence() + 1, credits.get(0).getSequence());
+        assertEquals(TransferStatus.COMPLETED, result.getStatus());
+        assertEquals(debits.get(0).getSequence(), result.getLedgerSequence());
+    }
+
+    @Test
+    void testTransfer_WhenAccountDoesNotExist_ThrowsResourceNotFoundException() {
+        // Arrange
+        TransferDTO transferDTO = TransferDTO.builder()
+                                             .fromAccountId(FROM_ACCOUNT_ID)
+                                             .toAccountId(1_000_002_001L)
+                                             .amount(BigDecimal.ONE)
+                                             .build();
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> transferService.transfer(transferDTO));
+    }
+
+    // Postings stop being pending only once the applier has committed them
+    private void awaitApplied() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while((!ledgerService.pendingPostings(FROM_ACCOUNT_ID).isEmpty()
+                || !ledgerService.pendingPostings(TO_ACCOUNT_ID).isEmpty())
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private Account account(long id, BigDecimal balance) {
+        return Account.builder()
+                      .id(id)
+                      .customerId(id / 1000)
+                      .balance(balance)
+                      .status(AccountStatus.ACTIVE)
+                      .type(AccountType.SAVINGS)
+                      .creationTime(LocalDateTime.now())
+                      .build();
+    }
+}
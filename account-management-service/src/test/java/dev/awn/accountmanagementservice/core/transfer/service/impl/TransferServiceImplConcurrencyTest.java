@@ -0,0 +1,194 @@
+package dev.awn.accountmanagementservice.core.transfer.service.impl;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.core.account.cache.AccountCache;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import dev.awn.accountmanagementservice.core.account.shard.AccountBalanceShards;
+import dev.awn.accountmanagementservice.core.transfer.dto.TransferDTO;
+import dev.awn.accountmanagementservice.core.transfer.lock.AccountLockStripes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Payroll style load: every transfer touches the same employer account, with refunds running in the opposite direction
+@DataJpaTest
+@Import({TransferServiceImpl.class, AccountLockStripes.class, AccountBalanceShards.class, AccountCache.class,
+        SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransferServiceImplConcurrencyTest {
+    private final static Logger logger = LoggerFactory.getLogger(TransferServiceImplConcurrencyTest.class);
+
+    @Autowired
+    private TransferServiceImpl transferService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountBalanceShards balanceShards;
+
+    private static final long EMPLOYER_ACCOUNT_ID = 1_000_000_001L;
+    private static final int EMPLOYEES = 100;
+    private static final int THREADS = 16;
+    private static final int TRANSFERS_PER_THREAD = 250;
+    private static final BigDecimal EMPLOYER_BALANCE = BigDecimal.valueOf(1_000_000);
+
+    @BeforeEach
+    void setUp() {
+        List<Account> accounts = new ArrayList<>();
+        accounts.add(account(EMPLOYER_ACCOUNT_ID, EMPLOYER_BALANCE));
+        for(int i = 1; i <= EMPLOYEES; i++) {
+            accounts.add(account(employee(i), BigDecimal.ZERO));
+        }
+        accountRepository.saveAll(accounts);
+    }
+
+    @AfterEach
+    void tearDown() {
+        balanceShards.remove(EMPLOYER_ACCOUNT_ID);
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    void testTransfer_WhenHotAccountIsHitConcurrently_ConservesMoneyWithoutDeadlocking() throws Exception {
+        runPayroll("unsharded");
+    }
+
+    @Test
+    void testTransfer_WhenShardedHotAccountIsHitConcurrently_ConservesMoneyWithoutDeadlocking() throws Exception {
+        // Arrange
+        balanceShards.enable(EMPLOYER_ACCOUNT_ID, 8);
+
+        // Act & Assert
+        runPayroll("8 shard");
+        balanceShards.rebalance(EMPLOYER_ACCOUNT_ID);
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountRepository.findById(EMPLOYER_ACCOUNT_ID).orElseThrow().getBalance()));
+    }
+
+    private void runPayroll(String mode) throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for(int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for(int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    long employee = employee(random.nextInt(1, EMPLOYEES + 1));
+                    boolean refund = i % 5 == 4;
+                    try {
+                        transferService.transfer(TransferDTO.builder()
+                                                            .fromAccountId(refund ? employee : EMPLOYER_ACCOUNT_ID)
+                                                            .toAccountId(refund ? EMPLOYER_ACCOUNT_ID : employee)
+                                                            .amount(BigDecimal.ONE)
+                                                            .build());
+                        completed.incrementAndGet();
+                    } catch (BadRequestException e) {
+                        // a refund from an employee that has not been paid yet
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        long startTime = System.nanoTime();
+        start.countDown();
+        for(Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        executor.shutdown();
+
+        logger.info("completed {} transfers on a single {} hot account in {} ms ({} transfers/sec)",
+                completed.get(),
+                mode,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                completed.get() * 1_000_000_000L / Math.max(1, elapsedNanos));
+
+        // Assert
+        List<Account> accounts = accountRepository.findAll();
+        BigDecimal total = accounts.stream().map(balanceShards::totalBalance).reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, EMPLOYER_BALANCE.compareTo(total));
+        assertTrue(accounts.stream().allMatch(account -> account.getBalance().signum() >= 0));
+        assertTrue(completed.get() >= THREADS * TRANSFERS_PER_THREAD * 4 / 5);
+    }
+
+    @Test
+    void testTransfer_WhenBalanceRunsOut_NeverOverdraws() throws Exception {
+        // Arrange
+        long poorEmployee = employee(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        transferService.transfer(TransferDTO.builder()
+                                            .fromAccountId(EMPLOYER_ACCOUNT_ID)
+                                            .toAccountId(poorEmployee)
+                                            .amount(BigDecimal.TEN)
+                                            .build());
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // Act
+        List<Future<?>> futures = new ArrayList<>();
+        for(int t = 0; t < THREADS; t++) {
+            int target = t % (EMPLOYEES - 1) + 2;
+            futures.add(executor.submit(() -> {
+                try {
+                    transferService.transfer(TransferDTO.builder()
+                                                        .fromAccountId(poorEmployee)
+                                                        .toAccountId(employee(target))
+                                                        .amount(BigDecimal.ONE)
+                                                        .build());
+                    succeeded.incrementAndGet();
+                } catch (BadRequestException e) {
+                    // insufficient balance
+                }
+                return null;
+            }));
+        }
+        for(Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(10, succeeded.get());
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountRepository.findById(poorEmployee).orElseThrow().getBalance()));
+    }
+
+    private static long employee(int index) {
+        return (1_000_000L + index) * 1000 + 1;
+    }
+
+    private Account account(long id, BigDecimal balance) {
+        return Account.builder()
+                      .id(id)
+                      .customerId(id / 1000)
+                      .balance(balance)
+                      .status(AccountStatus.ACTIVE)
+                      .type(AccountType.SAVINGS)
+                      .creationTime(LocalDateTime.now())
+                      .build();
+    }
+}
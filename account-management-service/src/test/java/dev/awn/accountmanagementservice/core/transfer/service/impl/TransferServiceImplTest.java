@@ -0,0 +1,192 @@
+package dev.awn.accountmanagementservice.core.transfer.service.impl;
+
+import dev.awn.accountmanagementservice.common.exception.BadRequestException;
+import dev.awn.accountmanagementservice.common.config.cache.AccountCacheProperties;
+import dev.awn.accountmanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.accountmanagementservice.core.account.cache.AccountCache;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.model.Account;
+import dev.awn.accountmanagementservice.core.account.repository.AccountRepository;
+import dev.awn.accountmanagementservice.core.account.shard.AccountBalanceShards;
+import dev.awn.accountmanagementservice.core.account.shard.ShardBalanceExhaustedException;
+import dev.awn.accountmanagementservice.core.transfer.dto.TransferDTO;
+import dev.awn.accountmanagementservice.core.transfer.lock.AccountLockStripes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferServiceImplTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private AccountBalanceShards balanceShards;
+
+    @Spy
+    private AccountCache accountCache = new AccountCache(new AccountCacheProperties(), new SimpleMeterRegistry());
+
+    private TransferServiceImpl transferService;
+
+    private static final long LOWER_ACCOUNT_ID = 1_000_000_001L;
+    private static final long HIGHER_ACCOUNT_ID = 1_000_001_001L;
+    private static final BigDecimal AMOUNT = BigDecimal.valueOf(100);
+
+    @BeforeEach
+    void setUp() {
+        transferService = new TransferServiceImpl(accountRepository,
+                new AccountLockStripes(16),
+                balanceShards,
+                new TransactionTemplate(transactionManager),
+                accountCache);
+
+        lenient().when(balanceShards.pickShard(anyLong())).thenReturn(AccountBalanceShards.UNSHARDED);
+    }
+
+    @Test
+    void testTransfer_WhenFromIsLower_DebitsThenCredits() {
+        // Arrange
+        when(accountRepository.debit(eq(LOWER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class))).thenReturn(1);
+        when(accountRepository.credit(eq(HIGHER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        TransferDTO result = transferService.transfer(transfer(LOWER_ACCOUNT_ID, HIGHER_ACCOUNT_ID));
+
+        // Assert
+        assertNotNull(result.getTransferTime());
+        InOrder inOrder = inOrder(accountRepository, transactionManager);
+        inOrder.verify(accountRepository).debit(eq(LOWER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class));
+        inOrder.verify(accountRepository).credit(eq(HIGHER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class));
+        inOrder.verify(transactionManager).commit(any());
+        verify(accountCache, times(1)).evictAll(List.of(LOWER_ACCOUNT_ID, HIGHER_ACCOUNT_ID));
+    }
+
+    @Test
+    void testTransfer_WhenFromIsHigher_CreditsThenDebits() {
+        // Arrange
+        when(accountRepository.credit(eq(LOWER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class))).thenReturn(1);
+        when(accountRepository.debit(eq(HIGHER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        transferService.transfer(transfer(HIGHER_ACCOUNT_ID, LOWER_ACCOUNT_ID));
+
+        // Assert
+        InOrder inOrder = inOrder(accountRepository);
+        inOrder.verify(accountRepository).credit(eq(LOWER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class));
+        inOrder.verify(accountRepository).debit(eq(HIGHER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testTransfer_WhenBalanceIsInsufficient_ThrowsBadRequestExceptionAndRollsBack() {
+        // Arrange
+        Account account = Account.builder().id(LOWER_ACCOUNT_ID).status(AccountStatus.ACTIVE).balance(BigDecimal.TEN).build();
+        when(accountRepository.debit(eq(LOWER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class))).thenReturn(0);
+        when(accountRepository.findById(LOWER_ACCOUNT_ID)).thenReturn(Optional.of(account));
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> {
+            transferService.transfer(transfer(LOWER_ACCOUNT_ID, HIGHER_ACCOUNT_ID));
+        });
+
+        assertEquals("insufficient balance in account of id - " + LOWER_ACCOUNT_ID, exception.getMessage());
+        verify(accountRepository, never()).credit(anyLong(), any(BigDecimal.class), any(AccountStatus.class), any(LocalDateTime.class));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void testTransfer_WhenDestinationDoesntExist_ThrowsResourceNotFoundExceptionAndRollsBack() {
+        // Arrange
+        when(accountRepository.debit(eq(LOWER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class))).thenReturn(1);
+        when(accountRepository.credit(eq(HIGHER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class))).thenReturn(0);
+        when(accountRepository.findById(HIGHER_ACCOUNT_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        Exception exception = assertThrows(ResourceNotFoundException.class, () -> {
+            transferService.transfer(transfer(LOWER_ACCOUNT_ID, HIGHER_ACCOUNT_ID));
+        });
+
+        assertEquals("no account found of id - " + HIGHER_ACCOUNT_ID, exception.getMessage());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void testTransfer_WhenFromIsSharded_DebitsOneShard() {
+        // Arrange
+        when(balanceShards.pickShard(LOWER_ACCOUNT_ID)).thenReturn(3);
+        when(balanceShards.debit(LOWER_ACCOUNT_ID, 3, AMOUNT)).thenReturn(true);
+        when(accountRepository.credit(eq(HIGHER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        transferService.transfer(transfer(LOWER_ACCOUNT_ID, HIGHER_ACCOUNT_ID));
+
+        // Assert
+        verify(accountRepository, never()).debit(anyLong(), any(BigDecimal.class), any(AccountStatus.class), any(LocalDateTime.class));
+        verify(balanceShards, never()).debitAcrossShards(anyLong(), any(BigDecimal.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testTransfer_WhenNoSingleShardCoversTheDebit_RetriesAcrossShards() {
+        // Arrange
+        when(balanceShards.pickShard(LOWER_ACCOUNT_ID)).thenReturn(3);
+        when(balanceShards.debit(LOWER_ACCOUNT_ID, 3, AMOUNT)).thenThrow(new ShardBalanceExhaustedException(LOWER_ACCOUNT_ID));
+        when(balanceShards.debitAcrossShards(eq(LOWER_ACCOUNT_ID), eq(AMOUNT), any(LocalDateTime.class))).thenReturn(true);
+        when(accountRepository.credit(eq(HIGHER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        transferService.transfer(transfer(LOWER_ACCOUNT_ID, HIGHER_ACCOUNT_ID));
+
+        // Assert
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(accountRepository, times(1)).credit(eq(HIGHER_ACCOUNT_ID), eq(AMOUNT), eq(AccountStatus.ACTIVE), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testTransfer_WhenSameAccount_ThrowsBadRequestException() {
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> {
+            transferService.transfer(transfer(LOWER_ACCOUNT_ID, LOWER_ACCOUNT_ID));
+        });
+
+        assertEquals("cannot transfer to the same account", exception.getMessage());
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void testTransfer_WhenInvalidId_ThrowsBadRequestException() {
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> {
+            transferService.transfer(transfer(1L, LOWER_ACCOUNT_ID));
+        });
+
+        assertEquals("invalid id - 1", exception.getMessage());
+    }
+
+    private TransferDTO transfer(long fromAccountId, long toAccountId) {
+        return TransferDTO.builder()
+                          .fromAccountId(fromAccountId)
+                          .toAccountId(toAccountId)
+                          .amount(AMOUNT)
+                          .build();
+    }
+}
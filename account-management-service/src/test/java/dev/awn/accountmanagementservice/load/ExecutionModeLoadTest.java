@@ -0,0 +1,188 @@
+package dev.awn.accountmanagementservice.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares a platform thread instance of the service with a virtual thread and a reactive one under the same load.
+ * <p>
+ * Runs against instances that are already up, one started normally, one with the {@code virtual-threads} and one
+ * with the {@code reactive} profile, and is skipped unless they are given, e.g.
+ * {@code mvn test -Dtest=ExecutionModeLoadTest -Dload.platform-url=http://localhost:8082 -Dload.virtual-url=http://localhost:8083 -Dload.reactive-url=http://localhost:8084 -Dload.account-ids=1000000001,1000001001}.
+ * Every request reads an account, the concurrency is kept well above Tomcat's 200 platform threads. While a run
+ * is going the instance's actuator metrics are sampled, so the peak live threads and database connections it
+ * needed are reported next to its throughput and latency.
+ */
+@EnabledIfSystemProperty(named = "load.platform-url", matches = ".+")
+class ExecutionModeLoadTest {
+    private final static Logger logger = LoggerFactory.getLogger(ExecutionModeLoadTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 1_000);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 50_000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("load.warmup-requests", 5_000);
+    private static final long SAMPLE_INTERVAL_MILLIS = 100;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+                                                    .connectTimeout(Duration.ofSeconds(5))
+                                                    .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testExecutionModes_UnderTheSameLoad_ReportThroughputLatencyAndResources() throws Exception {
+        // Arrange
+        long[] accountIds = Arrays.stream(System.getProperty("load.account-ids", "").split(","))
+                                  .filter(id -> !id.isBlank())
+                                  .mapToLong(Long::parseLong)
+                                  .toArray();
+        assertTrue(accountIds.length > 0, "load.account-ids must name at least one existing account");
+
+        // Act
+        Result platform = run("platform", System.getProperty("load.platform-url"), accountIds);
+        Result virtual = System.getProperty("load.virtual-url") == null
+                ? null
+                : run("virtual", System.getProperty("load.virtual-url"), accountIds);
+        Result reactive = System.getProperty("load.reactive-url") == null
+                ? null
+                : run("reactive", System.getProperty("load.reactive-url"), accountIds);
+
+        // Assert
+        assertEquals(0, platform.failures());
+        if(virtual != null) {
+            assertEquals(0, virtual.failures());
+            compare("virtual", virtual, platform);
+        }
+        if(reactive != null) {
+            assertEquals(0, reactive.failures());
+            compare("reactive", reactive, platform);
+        }
+    }
+
+    private void compare(String mode, Result result, Result platform) {
+        logger.info("{} - {}x the throughput and {}x the p99 of platform threads, with {} instead of {} peak live threads and {} instead of {} peak database connections",
+                mode,
+                String.format("%.2f", result.throughput() / platform.throughput()),
+                String.format("%.2f", (double) result.p99Micros() / platform.p99Micros()),
+                result.peakThreads(), platform.peakThreads(),
+                result.peakConnections(), platform.peakConnections());
+    }
+
+    private Result run(String mode, String baseUrl, long[] accountIds) throws Exception {
+        fire(baseUrl, accountIds, WARMUP_REQUESTS);
+
+        AtomicLong peakThreads = new AtomicLong();
+        AtomicLong peakConnections = new AtomicLong();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            peakThreads.accumulateAndGet(metric(baseUrl, "jvm.threads.live"), Math::max);
+            // Only one of the two pools exists, depending on the mode the instance runs in
+            peakConnections.accumulateAndGet(metric(baseUrl, "hikaricp.connections.active")
+                    + metric(baseUrl, "r2dbc.pool.acquired"), Math::max);
+        }, 0, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+        long startTime = System.nanoTime();
+        long[] latencies;
+        try {
+            latencies = fire(baseUrl, accountIds, REQUESTS);
+        } finally {
+            sampler.shutdownNow();
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        int failures = (int) Arrays.stream(latencies).filter(latency -> latency < 0).count();
+        long[] succeeded = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+
+        Result result = new Result(
+                succeeded.length * 1_000_000_000d / elapsedNanos,
+                percentile(succeeded, 0.50),
+                percentile(succeeded, 0.99),
+                failures,
+                peakThreads.get(),
+                peakConnections.get()
+        );
+
+        logger.info("{} - {} requests at concurrency {}: {} requests/sec, p50 {} us, p99 {} us, {} failure/s, {} peak live threads, {} peak database connections",
+                mode, REQUESTS, CONCURRENCY, String.format("%.0f", result.throughput()),
+                result.p50Micros(), result.p99Micros(), result.failures(),
+                result.peakThreads(), result.peakConnections());
+        return result;
+    }
+
+    // Current value of an actuator gauge, 0 when the instance does not have it
+    private long metric(String baseUrl, String name) {
+        try {
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/actuator/metrics/" + name))
+                                                                       .timeout(Duration.ofSeconds(5))
+                                                                       .GET()
+                                                                       .build(),
+                                                            HttpResponse.BodyHandlers.ofString());
+            if(response.statusCode() != 200) {
+                return 0;
+            }
+
+            JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+            return measurements.isEmpty() ? 0 : measurements.get(0).path("value").asLong();
+        } catch (Exception e) {
+            logger.warn("could not sample metric - {} from {}", name, baseUrl, e);
+            return 0;
+        }
+    }
+
+    // Keeps CONCURRENCY requests in flight, a failed request is recorded as a negative latency
+    private long[] fire(String baseUrl, long[] accountIds, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        AtomicInteger next = new AtomicInteger();
+        List<CompletableFuture<?>> sends = new ArrayList<>(requests);
+
+        while(next.get() < requests) {
+            inFlight.acquire();
+            int index = next.getAndIncrement();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/accounts/" + accountIds[index % accountIds.length]))
+                                             .timeout(Duration.ofSeconds(30))
+                                             .GET()
+                                             .build();
+
+            long sentAt = System.nanoTime();
+            sends.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                                .whenComplete((response, failure) -> {
+                                    long latency = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAt);
+                                    latencies[index] = failure == null && response.statusCode() == 200 ? latency : -1;
+                                    inFlight.release();
+                                }));
+        }
+
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                         .exceptionally(failure -> null)
+                         .get(10, TimeUnit.MINUTES);
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private record Result(double throughput, long p50Micros, long p99Micros, int failures, long peakThreads, long peakConnections) {
+    }
+}
@@ -0,0 +1,73 @@
+package dev.awn.customermanagementservice.common.handler;
+
+import dev.awn.customermanagementservice.common.exception.BadRequestException;
+import dev.awn.customermanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.customermanagementservice.common.handler.response.ErrorResponse;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+
+    private BadRequestException badRequestException;
+    private ResourceNotFoundException resourceNotFoundException;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        badRequestException = new BadRequestException("invalid id - 0");
+        resourceNotFoundException = new ResourceNotFoundException("no customer found of id - 1000000");
+
+        // An empty customer body, every field of it fails validation
+        BindingResult bindingResult = new BeanPropertyBindingResult(new CustomerDTO(), "customerDTO");
+        bindingResult.addError(new FieldError("customerDTO", "name", "name cannot be empty"));
+        bindingResult.addError(new FieldError("customerDTO", "legalId", "legalId cannot be empty"));
+        bindingResult.addError(new FieldError("customerDTO", "address", "address cannot be empty"));
+        bindingResult.addError(new FieldError("customerDTO", "type", "type cannot be empty"));
+        MethodParameter parameter = new MethodParameter(GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("customerBody", CustomerDTO.class), 0);
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleBadRequest() {
+        return exceptionHandler.handle(badRequestException);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleResourceNotFound() {
+        return exceptionHandler.handle(resourceNotFoundException);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleValidationErrors() {
+        return exceptionHandler.handle(validationException);
+    }
+
+    // Includes filling in the stack trace, which a service pays on every rejected request
+    @Benchmark
+    public ResponseEntity<ErrorResponse> throwAndHandleBadRequest() {
+        try {
+            throw new BadRequestException("invalid id - 0");
+        } catch (BadRequestException e) {
+            return exceptionHandler.handle(e);
+        }
+    }
+
+    private void customerBody(CustomerDTO customerDTO) {
+    }
+}
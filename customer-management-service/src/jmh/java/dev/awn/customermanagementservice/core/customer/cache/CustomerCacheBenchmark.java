@@ -0,0 +1,143 @@
+package dev.awn.customermanagementservice.core.customer.cache;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.awn.customermanagementservice.common.config.cache.CustomerCacheProperties;
+import dev.awn.customermanagementservice.core.customer.constant.CustomerType;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerDTO;
+import dev.awn.customermanagementservice.core.customer.event.CustomerEventOutbox;
+import dev.awn.customermanagementservice.core.customer.mapper.CustomerMapper;
+import dev.awn.customermanagementservice.core.customer.model.Customer;
+import dev.awn.customermanagementservice.core.customer.repository.CustomerRepository;
+import dev.awn.customermanagementservice.core.customer.service.impl.CustomerServiceImpl;
+import dev.awn.customermanagementservice.core.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Database load of getCustomer with the customer cache off ({@code maximumSize} 0) and on, under the traffic the
+ * cache is meant for: nine reads to one modification, nine out of ten requests for a few thousand hot customers.
+ * <p>
+ * The repositories are in memory, {@code databaseReads} counts the findById calls that would have gone to MySQL,
+ * reported next to the operations so the two can be divided.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerCacheBenchmark {
+    private final static long FIRST_CUSTOMER_ID = 1_000_000L;
+    private final static int CUSTOMERS = 100_000;
+    private final static int HOT_CUSTOMERS = 2_000;
+    private final static ThreadLocal<DatabaseLoad> CURRENT_LOAD = new ThreadLocal<>();
+
+    @Param({"0", "10000"})
+    public long maximumSize;
+
+    private final Map<Long, Customer> rows = new ConcurrentHashMap<>();
+    private CustomerServiceImpl customerService;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class DatabaseLoad {
+        public long databaseReads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            databaseReads = 0;
+            CURRENT_LOAD.set(this);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Requests {
+        private final SplittableRandom random = new SplittableRandom(42);
+
+        long nextId() {
+            return FIRST_CUSTOMER_ID + (random.nextInt(10) < 9 ? random.nextInt(HOT_CUSTOMERS) : random.nextInt(CUSTOMERS));
+        }
+
+        boolean isRead() {
+            return random.nextInt(10) < 9;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        for(int i = 0; i < CUSTOMERS; i++) {
+            long id = FIRST_CUSTOMER_ID + i;
+            rows.put(id, Customer.builder()
+                                 .id(id)
+                                 .name("Customer " + i)
+                                 .legalId("LEGAL-" + id)
+                                 .address("Amman, Jordan")
+                                 .type(CustomerType.RETAIL)
+                                 .creationTime(LocalDateTime.now())
+                                 .build());
+        }
+
+        CustomerCacheProperties properties = new CustomerCacheProperties();
+        properties.setMaximumSize(maximumSize);
+
+        customerService = new CustomerServiceImpl(customerRepository(),
+                new CustomerMapper(),
+                new CustomerCache(properties, new SimpleMeterRegistry()),
+                new CustomerEventOutbox(outboxRepository(), Jackson2ObjectMapperBuilder.json()
+                                                                                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                                                                    .build()));
+    }
+
+    @Benchmark
+    public CustomerDTO mixedTraffic(Requests requests, DatabaseLoad load) {
+        long id = requests.nextId();
+        if(requests.isRead()) {
+            return customerService.getCustomer(id);
+        }
+
+        Customer row = rows.get(id);
+        return customerService.modifyCustomer(CustomerDTO.builder()
+                                                         .id(id)
+                                                         .name(row.getName())
+                                                         .legalId(row.getLegalId())
+                                                         .address("Irbid, Jordan")
+                                                         .type(row.getType())
+                                                         .build());
+    }
+
+    private CustomerRepository customerRepository() {
+        return (CustomerRepository) Proxy.newProxyInstance(CustomerRepository.class.getClassLoader(),
+                new Class<?>[]{CustomerRepository.class},
+                (proxy, method, args) -> switch(method.getName()) {
+                    case "findById" -> {
+                        CURRENT_LOAD.get().databaseReads++;
+                        yield Optional.ofNullable(rows.get((Long) args[0]));
+                    }
+                    case "findByLegalId" -> Optional.ofNullable(rows.get(Long.parseLong(((String) args[0]).substring(6))));
+                    case "save" -> {
+                        Customer customer = (Customer) args[0];
+                        rows.put(customer.getId(), customer);
+                        yield customer;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private OutboxEventRepository outboxRepository() {
+        return (OutboxEventRepository) Proxy.newProxyInstance(OutboxEventRepository.class.getClassLoader(),
+                new Class<?>[]{OutboxEventRepository.class},
+                (proxy, method, args) -> switch(method.getName()) {
+                    case "save" -> args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,79 @@
+package dev.awn.customermanagementservice.core.customer.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.awn.customermanagementservice.common.handler.response.ErrorResponse;
+import dev.awn.customermanagementservice.core.customer.constant.CustomerType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Request and response bodies as the message converters handle them, with the object mapper configured the way Boot does
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerJsonBenchmark {
+    private final static int BATCH_SIZE = 100;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                                                                        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                                                        .build();
+
+    private CustomerDTO customerDTO;
+    private byte[] customerJson;
+    private CustomerBatchResponseDTO batchResponse;
+    private ErrorResponse errorResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        customerDTO = customer(1_000_000L);
+        customerJson = objectMapper.writeValueAsBytes(customerDTO);
+
+        // A batch lookup as the account service sends it when creating accounts in bulk
+        List<CustomerDTO> customers = new ArrayList<>(BATCH_SIZE);
+        for(int i = 0; i < BATCH_SIZE; i++) {
+            customers.add(customer(1_000_000L + i));
+        }
+        batchResponse = new CustomerBatchResponseDTO(customers, List.of());
+
+        errorResponse = new ErrorResponse(LocalDateTime.now(), 404, "Not Found", "no customer found of id - 1000000");
+    }
+
+    @Benchmark
+    public byte[] serializeCustomer() throws IOException {
+        return objectMapper.writeValueAsBytes(customerDTO);
+    }
+
+    @Benchmark
+    public CustomerDTO deserializeCustomer() throws IOException {
+        return objectMapper.readValue(customerJson, CustomerDTO.class);
+    }
+
+    @Benchmark
+    public byte[] serializeBatch() throws IOException {
+        return objectMapper.writeValueAsBytes(batchResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeErrorResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+
+    private static CustomerDTO customer(long id) {
+        return CustomerDTO.builder()
+                          .id(id)
+                          .name("ahmad")
+                          .legalId("1234567890")
+                          .address("amman")
+                          .type(CustomerType.RETAIL)
+                          .build();
+    }
+}
@@ -0,0 +1,44 @@
+package dev.awn.customermanagementservice.core.customer.mapper;
+
+import dev.awn.customermanagementservice.core.customer.constant.CustomerType;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerDTO;
+import dev.awn.customermanagementservice.core.customer.model.Customer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerMapperBenchmark {
+
+    private final CustomerMapper customerMapper = new CustomerMapper();
+
+    private CustomerDTO customerDTO;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        customerDTO = CustomerDTO.builder()
+                                 .id(1_000_000L)
+                                 .name("ahmad")
+                                 .legalId("1234567890")
+                                 .address("amman")
+                                 .type(CustomerType.RETAIL)
+                                 .build();
+        customer = customerMapper.toModel(customerDTO);
+    }
+
+    @Benchmark
+    public Customer toModel() {
+        return customerMapper.toModel(customerDTO);
+    }
+
+    @Benchmark
+    public CustomerDTO toDto() {
+        return customerMapper.toDto(customer);
+    }
+}
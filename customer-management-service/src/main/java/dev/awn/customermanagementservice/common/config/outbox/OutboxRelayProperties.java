@@ -0,0 +1,28 @@
+package dev.awn.customermanagementservice.common.config.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "outbox.relay")
+@Getter
+@Setter
+public class OutboxRelayProperties {
+    // Delay between the end of one drain and the start of the next, a drain keeps going while batches are full
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    // Most outbox rows read, sent and deleted at once
+    private int batchSize = 1_000;
+
+    // Independent relay lanes, the rows of one customer always go through the same lane
+    private int parallelism = 4;
+
+    // How long a batch waits for the broker before its unacknowledged rows are left for the next drain, no shorter
+    // than the producer's delivery.timeout.ms or rows the producer still retries are sent again
+    private Duration sendTimeout = Duration.ofMinutes(2);
+
+    // How long an instance holds a lane it drains, has to outlast a batch including its send timeout
+    private Duration leaseDuration = Duration.ofMinutes(5);
+}
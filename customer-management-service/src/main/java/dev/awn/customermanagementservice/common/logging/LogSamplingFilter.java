@@ -0,0 +1,47 @@
+package dev.awn.customermanagementservice.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps one in every N INFO events of the configured loggers, configured in logback as
+ * {@code <sample>fully.qualified.LoggerName=N</sample>}.
+ * <p>
+ * Runs as a turbo filter, so a dropped event is decided on before it is created or formatted. WARN and ERROR
+ * events, and loggers that are not configured, are never sampled.
+ */
+public class LogSamplingFilter extends TurboFilter {
+    private final Map<String, Integer> rates = new HashMap<>();
+
+    public void addSample(String sample) {
+        int separator = sample.lastIndexOf('=');
+        if(separator < 1) {
+            addError("invalid sample - " + sample + ", expected <logger name>=<rate>");
+            return;
+        }
+
+        rates.put(sample.substring(0, separator).trim(), Integer.parseInt(sample.substring(separator + 1).trim()));
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // The fluent API (atInfo()) is only filtered here, through its enabled check with a null format
+        if(level != Level.INFO || !isStarted()) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Integer rate = rates.get(logger.getName());
+        if(rate == null || rate <= 1) {
+            return FilterReply.NEUTRAL;
+        }
+
+        return ThreadLocalRandom.current().nextInt(rate) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
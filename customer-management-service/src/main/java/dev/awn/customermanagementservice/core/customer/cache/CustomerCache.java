@@ -0,0 +1,74 @@
+package dev.awn.customermanagementservice.core.customer.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.awn.customermanagementservice.common.config.cache.CustomerCacheProperties;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of the customers served by getCustomer.
+ * <p>
+ * Customers that do not exist are never cached. Modifications and deletes evict the customer once their
+ * transaction commits, so a read racing the write cannot put the old row back.
+ */
+@Component
+@EnableConfigurationProperties(CustomerCacheProperties.class)
+public class CustomerCache {
+    private final static Logger logger = LoggerFactory.getLogger(CustomerCache.class);
+    private final static String CACHE_NAME = "customers";
+
+    private final Cache<Long, CustomerDTO> cache;
+
+    public CustomerCache(CustomerCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(properties.getMaximumSize())
+                             .expireAfterWrite(properties.getExpireAfterWrite())
+                             .recordStats()
+                             .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+             .tag("cache", CACHE_NAME)
+             .description("The ratio of cache requests which were hits")
+             .register(meterRegistry);
+    }
+
+    public CustomerDTO get(long id, Function<Long, CustomerDTO> loader) {
+        return cache.get(id, loader);
+    }
+
+    public Optional<CustomerDTO> getIfPresent(long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    public void evict(long id) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(id);
+            }
+        });
+    }
+
+    private void invalidate(long id) {
+        logger.info("evicting customer of id - {} from the customer cache", id);
+        cache.invalidate(id);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.awn.customermanagementservice.core.customer.constant;
+
+public enum CustomerEventType {
+    CREATED,
+    MODIFIED,
+    DELETED
+}
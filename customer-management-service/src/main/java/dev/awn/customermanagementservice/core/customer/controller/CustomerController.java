@@ -1,15 +1,25 @@
 package dev.awn.customermanagementservice.core.customer.controller;
 
+import dev.awn.customermanagementservice.core.customer.dto.CustomerBatchRequestDTO;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerBatchResponseDTO;
 import dev.awn.customermanagementservice.core.customer.dto.CustomerDTO;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerSnapshotDTO;
 import dev.awn.customermanagementservice.core.customer.service.CustomerService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,13 +28,44 @@ public class CustomerController {
     private final static Logger logger = LoggerFactory.getLogger(CustomerController.class);
     private final CustomerService customerService;
 
+    // A revalidation is answered from the modification time alone, the customer is neither loaded nor serialized
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerDTO> getCustomer(@PathVariable Long id) {
-        logger.info("received request");
+    public ResponseEntity<CustomerDTO> getCustomer(@PathVariable Long id, WebRequest request) {
+        logger.atInfo().addKeyValue("customerId", id).log("received request");
+
+        if(request.getHeader(HttpHeaders.IF_NONE_MATCH) != null || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            Optional<LocalDateTime> lastModified = customerService.getLastModified(id);
+            if(lastModified.isPresent() && request.checkNotModified(eTag(lastModified.get()), epochMillis(lastModified.get()))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+        }
 
         CustomerDTO customerDTO = customerService.getCustomer(id);
+        if(customerDTO.getLastModified() == null) {
+            return ResponseEntity.status(HttpStatus.OK).body(customerDTO);
+        }
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .eTag(eTag(customerDTO.getLastModified()))
+                             .lastModified(epochMillis(customerDTO.getLastModified()))
+                             .body(customerDTO);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<CustomerBatchResponseDTO> getCustomers(@Valid @RequestBody CustomerBatchRequestDTO batchRequestDTO) {
+        logger.atInfo().addKeyValue("customerCount", batchRequestDTO.getIds().size()).log("received request");
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .body(customerService.getCustomers(batchRequestDTO.getIds()));
+    }
+
+    @GetMapping("/snapshot")
+    public ResponseEntity<CustomerSnapshotDTO> getSnapshot(@RequestParam(defaultValue = "0") long afterId,
+                                                           @RequestParam(defaultValue = "1000") int limit) {
+        logger.atInfo().addKeyValue("afterId", afterId).addKeyValue("limit", limit).log("received request");
 
-        return ResponseEntity.status(HttpStatus.OK).body(customerDTO);
+        return ResponseEntity.status(HttpStatus.OK)
+                             .body(customerService.getSnapshot(afterId, limit));
     }
 
     @PostMapping
@@ -37,7 +78,7 @@ public class CustomerController {
 
     @PutMapping
     public ResponseEntity<CustomerDTO> modifyCustomer(@Valid @RequestBody CustomerDTO customerDTO) {
-        logger.info("received request");
+        logger.atInfo().addKeyValue("customerId", customerDTO.getId()).log("received request");
 
         return ResponseEntity.status(HttpStatus.CREATED)
                              .body(customerService.modifyCustomer(customerDTO));
@@ -45,11 +86,19 @@ public class CustomerController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> removeCustomer(@PathVariable Long id) {
-        logger.info("received request");
+        logger.atInfo().addKeyValue("customerId", id).log("received request");
 
         customerService.removeCustomer(id);
 
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
+    // Microseconds, as stored, so two changes within the same second still get different tags
+    private static String eTag(LocalDateTime lastModified) {
+        return Long.toHexString(lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastModified.getNano() / 1_000);
+    }
+
+    private static long epochMillis(LocalDateTime lastModified) {
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
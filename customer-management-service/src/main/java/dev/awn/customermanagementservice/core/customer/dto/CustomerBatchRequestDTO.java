@@ -0,0 +1,16 @@
+package dev.awn.customermanagementservice.core.customer.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CustomerBatchRequestDTO {
+    @NotEmpty(message = "ids cannot be empty")
+    private List<Long> ids;
+}
@@ -1,5 +1,6 @@
 package dev.awn.customermanagementservice.core.customer.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import dev.awn.customermanagementservice.core.customer.constant.CustomerType;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.AssertTrue;
@@ -7,6 +8,8 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -22,4 +25,8 @@ public class CustomerDTO {
     private String address;
     @NotNull(message = "type cannot be empty")
     private CustomerType type;
+
+    // Validator for conditional GETs, sent as the ETag and Last-Modified headers rather than in the body
+    @JsonIgnore
+    private LocalDateTime lastModified;
 }
@@ -0,0 +1,20 @@
+package dev.awn.customermanagementservice.core.customer.dto;
+
+import dev.awn.customermanagementservice.core.customer.constant.CustomerEventType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CustomerEventDTO {
+    private CustomerEventType type;
+    private Long customerId;
+    // Absent for DELETED events
+    private CustomerDTO customer;
+    // Taken after the change was saved, consumers drop events older than what they already hold
+    private LocalDateTime eventTime;
+}
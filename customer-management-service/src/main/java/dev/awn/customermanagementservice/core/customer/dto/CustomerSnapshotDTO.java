@@ -0,0 +1,19 @@
+package dev.awn.customermanagementservice.core.customer.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CustomerSnapshotDTO {
+    private List<CustomerDTO> customers;
+    // Null on the last page
+    private Long nextAfterId;
+    // Taken before the page was read, so any change the page missed has a later event
+    private LocalDateTime snapshotTime;
+}
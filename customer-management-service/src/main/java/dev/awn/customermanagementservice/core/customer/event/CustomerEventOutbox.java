@@ -0,0 +1,61 @@
+package dev.awn.customermanagementservice.core.customer.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerEventDTO;
+import dev.awn.customermanagementservice.core.outbox.model.OutboxEvent;
+import dev.awn.customermanagementservice.core.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records customer events in the outbox, as part of the transaction that changed the customer.
+ * <p>
+ * Either the change and its events are committed together or neither is; {@code OutboxRelay} sends them later.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerEventOutbox {
+    private final static Logger logger = LoggerFactory.getLogger(CustomerEventOutbox.class);
+    public final static String CUSTOMER_EVENTS_TOPIC = "customer-events-topic";
+    public final static String ACCOUNT_CLEANUP_TOPIC = "account-cleanup-topic";
+
+    private final OutboxEventRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(CustomerEventDTO event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            logger.error("could not serialize {} event of customer of id - {}", event.getType(), event.getCustomerId(), e);
+            throw new IllegalStateException("could not serialize the event of customer of id - " + event.getCustomerId(), e);
+        }
+
+        logger.info("will be recording a {} event of customer of id - {}", event.getType(), event.getCustomerId());
+        save(CUSTOMER_EVENTS_TOPIC, event.getCustomerId(), payload);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCleanup(long customerId) {
+        logger.info("will be recording an event to account service of removed customer of id - {}", customerId);
+        save(ACCOUNT_CLEANUP_TOPIC, customerId, String.valueOf(customerId));
+    }
+
+    private void save(String topic, long customerId, String payload) {
+        outboxRepository.save(OutboxEvent.builder()
+                                         .aggregateId(customerId)
+                                         .topic(topic)
+                                         .messageKey(String.valueOf(customerId))
+                                         .payload(payload)
+                                         .creationTime(LocalDateTime.now())
+                                         .build());
+    }
+}
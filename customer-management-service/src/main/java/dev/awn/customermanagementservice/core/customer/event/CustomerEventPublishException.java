@@ -0,0 +1,7 @@
+package dev.awn.customermanagementservice.core.customer.event;
+
+public class CustomerEventPublishException extends RuntimeException {
+    public CustomerEventPublishException(String topic, String key, Throwable cause) {
+        super("could not publish to " + topic + " the event of key - " + key, cause);
+    }
+}
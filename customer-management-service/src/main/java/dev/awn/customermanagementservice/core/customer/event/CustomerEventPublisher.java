@@ -0,0 +1,49 @@
+package dev.awn.customermanagementservice.core.customer.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Hands already serialized customer events to the producer without blocking the caller.
+ * <p>
+ * Records are keyed by customer id, so all events of a customer land on the same partition in order.
+ * Failures are logged and counted, and the returned future lets the caller wait for the broker when it has to.
+ */
+@Component
+public class CustomerEventPublisher {
+    private final static Logger logger = LoggerFactory.getLogger(CustomerEventPublisher.class);
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final Counter published;
+    private final Counter failed;
+
+    public CustomerEventPublisher(KafkaTemplate<String, String> kafkaTemplate, MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.published = Counter.builder("customer.events.published")
+                                .description("Customer events acknowledged by the broker")
+                                .register(meterRegistry);
+        this.failed = Counter.builder("customer.events.failed")
+                             .description("Customer events the broker did not acknowledge")
+                             .register(meterRegistry);
+    }
+
+    public CompletableFuture<Void> publish(String topic, String key, String payload) {
+        return kafkaTemplate.send(topic, key, payload)
+                            .handle((result, failure) -> {
+                                if(failure != null) {
+                                    failed.increment();
+                                    logger.error("{} did not acknowledge the event of key - {}", topic, key, failure);
+                                    throw new CustomerEventPublishException(topic, key, failure);
+                                }
+
+                                published.increment();
+                                return null;
+                            });
+    }
+}
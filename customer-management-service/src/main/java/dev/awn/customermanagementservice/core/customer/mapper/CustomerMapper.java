@@ -24,6 +24,7 @@ public class CustomerMapper {
                           .legalId(customer.getLegalId())
                           .address(customer.getAddress())
                           .type(customer.getType())
+                          .lastModified(customer.getModificationTime() == null ? customer.getCreationTime() : customer.getModificationTime())
                           .build();
     }
 
@@ -1,12 +1,26 @@
 package dev.awn.customermanagementservice.core.customer.repository;
 
 import dev.awn.customermanagementservice.core.customer.model.Customer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
     Optional<Customer> findByLegalId(String legalId);
+
+    List<Customer> findAllByIdIn(Collection<Long> ids);
+
+    List<Customer> findByIdGreaterThanOrderById(long id, Limit limit);
+
+    // The validator of conditional GETs, read without loading the customer
+    @Query("SELECT COALESCE(c.modificationTime, c.creationTime) FROM Customer c WHERE c.id = :id")
+    Optional<LocalDateTime> findLastModifiedById(@Param("id") long id);
 }
@@ -1,11 +1,23 @@
 package dev.awn.customermanagementservice.core.customer.service;
 
+import dev.awn.customermanagementservice.core.customer.dto.CustomerBatchResponseDTO;
 import dev.awn.customermanagementservice.core.customer.dto.CustomerDTO;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerSnapshotDTO;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 public interface CustomerService {
     CustomerDTO getCustomer(long id);
 
+    Optional<LocalDateTime> getLastModified(long id);
+
+    CustomerBatchResponseDTO getCustomers(List<Long> ids);
+
+    CustomerSnapshotDTO getSnapshot(long afterId, int limit);
+
     CustomerDTO createCustomer(CustomerDTO customerDTO);
 
     CustomerDTO modifyCustomer(CustomerDTO customerDTO);
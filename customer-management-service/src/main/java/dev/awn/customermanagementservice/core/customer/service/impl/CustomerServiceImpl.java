@@ -2,7 +2,13 @@ package dev.awn.customermanagementservice.core.customer.service.impl;
 
 import dev.awn.customermanagementservice.common.exception.BadRequestException;
 import dev.awn.customermanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.customermanagementservice.core.customer.cache.CustomerCache;
+import dev.awn.customermanagementservice.core.customer.constant.CustomerEventType;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerBatchResponseDTO;
 import dev.awn.customermanagementservice.core.customer.dto.CustomerDTO;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerEventDTO;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerSnapshotDTO;
+import dev.awn.customermanagementservice.core.customer.event.CustomerEventOutbox;
 import dev.awn.customermanagementservice.core.customer.mapper.CustomerMapper;
 import dev.awn.customermanagementservice.core.customer.model.Customer;
 import dev.awn.customermanagementservice.core.customer.repository.CustomerRepository;
@@ -10,22 +16,28 @@ import dev.awn.customermanagementservice.core.customer.service.CustomerService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class CustomerServiceImpl implements CustomerService {
     private final long MINIMUM_ID_RANGE = 1_000_000;
     private final long MAXIMUM_ID_RANGE = 9_999_999;
+    private final int MAXIMUM_BATCH_SIZE = 1_000;
     private final static Logger logger = LoggerFactory.getLogger(CustomerServiceImpl.class);
 
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final CustomerCache customerCache;
+    private final CustomerEventOutbox eventOutbox;
 
     @Override
     public CustomerDTO getCustomer(long id) {
@@ -35,7 +47,11 @@ public class CustomerServiceImpl implements CustomerService {
             throw new BadRequestException("invalid id - " + id);
         }
 
-        logger.info("will be getting the customer model of id - {}", id);
+        return customerCache.get(id, this::loadCustomer);
+    }
+
+    private CustomerDTO loadCustomer(long id) {
+        logger.info("customer of id - {} is not cached, will be getting the customer model", id);
         Optional<Customer> customer = customerRepository.findById(id);
 
         if(customer.isEmpty()) {
@@ -48,6 +64,77 @@ public class CustomerServiceImpl implements CustomerService {
     }
 
     @Override
+    public Optional<LocalDateTime> getLastModified(long id) {
+        if(id < MINIMUM_ID_RANGE || id > MAXIMUM_ID_RANGE) {
+            return Optional.empty();
+        }
+
+        Optional<CustomerDTO> cached = customerCache.getIfPresent(id);
+        if(cached.isPresent()) {
+            return Optional.ofNullable(cached.get().getLastModified());
+        }
+
+        logger.info("will be reading the modification time of customer of id - {}", id);
+        return customerRepository.findLastModifiedById(id);
+    }
+
+    @Override
+    public CustomerBatchResponseDTO getCustomers(List<Long> ids) {
+        logger.info("will be checking if the batch of {} id/s is valid", ids.size());
+        if(ids.size() > MAXIMUM_BATCH_SIZE) {
+            logger.warn("batch of {} id/s exceeds the maximum of {}", ids.size(), MAXIMUM_BATCH_SIZE);
+            throw new BadRequestException("a maximum of " + MAXIMUM_BATCH_SIZE + " ids can be requested at once");
+        }
+
+        Set<Long> requestedIds = new LinkedHashSet<>();
+        for(Long id : ids) {
+            if(id == null || id < MINIMUM_ID_RANGE || id > MAXIMUM_ID_RANGE) {
+                logger.warn("invalid id - {}", id);
+                throw new BadRequestException("invalid id - " + id);
+            }
+            requestedIds.add(id);
+        }
+
+        logger.info("will be getting {} customer/s in a single query", requestedIds.size());
+        List<CustomerDTO> customers = customerRepository.findAllByIdIn(requestedIds)
+                                                        .stream()
+                                                        .map(customerMapper::toDto)
+                                                        .toList();
+
+        customers.forEach(customer -> requestedIds.remove(customer.getId()));
+        logger.info("found {} customer/s, {} id/s were missing", customers.size(), requestedIds.size());
+
+        return CustomerBatchResponseDTO.builder()
+                                       .customers(customers)
+                                       .missingIds(List.copyOf(requestedIds))
+                                       .build();
+    }
+
+    @Override
+    public CustomerSnapshotDTO getSnapshot(long afterId, int limit) {
+        logger.info("will be checking if snapshot limit - {} is valid", limit);
+        if(limit < 1 || limit > MAXIMUM_BATCH_SIZE) {
+            logger.warn("invalid snapshot limit - {}", limit);
+            throw new BadRequestException("limit must be between 1 and " + MAXIMUM_BATCH_SIZE);
+        }
+
+        LocalDateTime snapshotTime = LocalDateTime.now();
+
+        logger.info("will be getting up to {} customer/s after id - {}", limit, afterId);
+        List<CustomerDTO> customers = customerRepository.findByIdGreaterThanOrderById(afterId, Limit.of(limit))
+                                                        .stream()
+                                                        .map(customerMapper::toDto)
+                                                        .toList();
+
+        return CustomerSnapshotDTO.builder()
+                                  .customers(customers)
+                                  .nextAfterId(customers.size() < limit ? null : customers.get(customers.size() - 1).getId())
+                                  .snapshotTime(snapshotTime)
+                                  .build();
+    }
+
+    @Override
+    @Transactional
     public CustomerDTO createCustomer(CustomerDTO customerDTO) {
         Customer customer = customerMapper.toModel(customerDTO);
 
@@ -65,10 +152,14 @@ public class CustomerServiceImpl implements CustomerService {
         logger.info("will be saving newly created customer");
         customerRepository.save(customer);
 
-        return customerMapper.toDto(customer);
+        CustomerDTO createdCustomer = customerMapper.toDto(customer);
+        recordEvent(CustomerEventType.CREATED, customer.getId(), createdCustomer);
+
+        return createdCustomer;
     }
 
     @Override
+    @Transactional
     public CustomerDTO modifyCustomer(CustomerDTO customerDTO) {
         Long id = customerDTO.getId();
 
@@ -105,10 +196,15 @@ public class CustomerServiceImpl implements CustomerService {
         logger.info("will be saving new customer");
         Customer savedCustomer = customerRepository.save(customer);
 
-        return customerMapper.toDto(savedCustomer);
+        CustomerDTO modifiedCustomer = customerMapper.toDto(savedCustomer);
+        recordEvent(CustomerEventType.MODIFIED, id, modifiedCustomer);
+        customerCache.evict(id);
+
+        return modifiedCustomer;
     }
 
     @Override
+    @Transactional
     public boolean removeCustomer(long id) {
         logger.info("will be checking if id - {} is valid", id);
         if(id < MINIMUM_ID_RANGE || id > MAXIMUM_ID_RANGE) {
@@ -119,9 +215,20 @@ public class CustomerServiceImpl implements CustomerService {
         logger.info("will be deleting customer of id - {}", id);
         customerRepository.deleteById(id);
 
-        logger.info("will be emitting an event to account service of removed customer of id - {}", id);
-        kafkaTemplate.send("account-cleanup-topic", String.valueOf(id));
+        // Committed with the delete, the relay sends them once it is durable
+        eventOutbox.recordCleanup(id);
+        recordEvent(CustomerEventType.DELETED, id, null);
+        customerCache.evict(id);
 
         return true;
     }
+
+    private void recordEvent(CustomerEventType type, Long id, CustomerDTO customer) {
+        eventOutbox.record(CustomerEventDTO.builder()
+                                           .type(type)
+                                           .customerId(id)
+                                           .customer(customer)
+                                           .eventTime(LocalDateTime.now())
+                                           .build());
+    }
 }
@@ -0,0 +1,36 @@
+package dev.awn.customermanagementservice.core.outbox.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "OUTBOX_EVENTS", indexes = @Index(name = "IDX_OUTBOX_EVENTS_AGGREGATE_ID", columnList = "AGGREGATE_ID"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    // The customer the event is about, decides the relay lane
+    @Column(name = "AGGREGATE_ID", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "TOPIC", nullable = false)
+    private String topic;
+
+    @Column(name = "MESSAGE_KEY", nullable = false)
+    private String messageKey;
+
+    @Column(name = "PAYLOAD", nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "CREATION_TIME", nullable = false, updatable = false)
+    private LocalDateTime creationTime;
+}
@@ -0,0 +1,26 @@
+package dev.awn.customermanagementservice.core.outbox.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "OUTBOX_LANE_LEASES")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class OutboxLaneLease {
+    @Id
+    @Column(name = "LANE")
+    private Integer lane;
+
+    // The relay instance draining the lane until the expiry time
+    @Column(name = "OWNER", nullable = false)
+    private String owner;
+
+    @Column(name = "EXPIRY_TIME", nullable = false)
+    private LocalDateTime expiryTime;
+}
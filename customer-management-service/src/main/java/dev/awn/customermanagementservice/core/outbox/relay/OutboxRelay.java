@@ -0,0 +1,174 @@
+package dev.awn.customermanagementservice.core.outbox.relay;
+
+import dev.awn.customermanagementservice.common.config.outbox.OutboxRelayProperties;
+import dev.awn.customermanagementservice.core.customer.event.CustomerEventPublisher;
+import dev.awn.customermanagementservice.core.outbox.model.OutboxEvent;
+import dev.awn.customermanagementservice.core.outbox.repository.OutboxEventRepository;
+import dev.awn.customermanagementservice.core.outbox.repository.OutboxLaneLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the outbox to Kafka in the background.
+ * <p>
+ * The outbox is split into lanes by customer id, each lane is drained by its own thread. Across instances a lane
+ * is leased to one of them at a time, so no two read the same rows and a customer's events keep their order. Within a lane a whole
+ * batch is handed to the producer at once, and only the rows the broker acknowledged are deleted; the rest are
+ * picked up again on the next drain. Delivery is at least once, consumers already ignore stale events.
+ */
+@Component
+@EnableConfigurationProperties(OutboxRelayProperties.class)
+public class OutboxRelay implements SchedulingConfigurer {
+    private final static Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxRepository;
+    private final OutboxLaneLeaseRepository leaseRepository;
+    private final CustomerEventPublisher eventPublisher;
+    private final OutboxRelayProperties properties;
+    private final ExecutorService lanes;
+    private final String owner = UUID.randomUUID().toString();
+
+    public OutboxRelay(OutboxEventRepository outboxRepository,
+                       OutboxLaneLeaseRepository leaseRepository,
+                       CustomerEventPublisher eventPublisher,
+                       OutboxRelayProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.leaseRepository = leaseRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+
+        AtomicInteger laneNumber = new AtomicInteger();
+        this.lanes = Executors.newFixedThreadPool(properties.getParallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay-" + laneNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Registered here rather than with @Scheduled, whose delay strings do not take durations like 500ms
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::relay, properties.getPollInterval());
+    }
+
+    public void relay() {
+        List<CompletableFuture<Integer>> drains = new ArrayList<>();
+        for(int lane = 0; lane < properties.getParallelism(); lane++) {
+            int drainedLane = lane;
+            drains.add(CompletableFuture.supplyAsync(() -> drain(drainedLane), lanes));
+        }
+
+        int relayed = 0;
+        for(CompletableFuture<Integer> drain : drains) {
+            try {
+                relayed += drain.join();
+            } catch (CompletionException e) {
+                logger.error("an outbox relay lane failed, its events will be retried on the next drain", e.getCause());
+            }
+        }
+
+        if(relayed > 0) {
+            logger.info("relayed {} outbox event/s", relayed);
+        }
+    }
+
+    int drain(int lane) {
+        if(!claim(lane)) {
+            return 0;
+        }
+
+        try {
+            return drainClaimed(lane);
+        } finally {
+            leaseRepository.release(lane, owner, LocalDateTime.now());
+        }
+    }
+
+    private int drainClaimed(int lane) {
+        int relayed = 0;
+        while(true) {
+            List<OutboxEvent> batch = outboxRepository.findLaneBatch(lane, properties.getParallelism(), Limit.of(properties.getBatchSize()));
+            if(batch.isEmpty()) {
+                return relayed;
+            }
+
+            List<CompletableFuture<Void>> sends = batch.stream()
+                                                       .map(event -> eventPublisher.publish(event.getTopic(), event.getMessageKey(), event.getPayload()))
+                                                       .toList();
+
+            List<Long> delivered = new ArrayList<>(batch.size());
+            Set<String> failedKeys = new HashSet<>();
+            long deadline = System.nanoTime() + properties.getSendTimeout().toNanos();
+            for(int i = 0; i < batch.size(); i++) {
+                OutboxEvent event = batch.get(i);
+                try {
+                    sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+                    // Later events of a key that failed are kept too, so the retry sends them after it again
+                    if(!failedKeys.contains(event.getMessageKey())) {
+                        delivered.add(event.getId());
+                    }
+                } catch (ExecutionException | TimeoutException e) {
+                    // already logged and counted by the publisher, the row stays for the next drain
+                    failedKeys.add(event.getMessageKey());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            if(!delivered.isEmpty()) {
+                outboxRepository.deleteAllByIdInBatch(delivered);
+                relayed += delivered.size();
+            }
+
+            if(delivered.size() < batch.size()) {
+                logger.warn("{} of {} outbox event/s in lane {} were not acknowledged, will be retrying them on the next drain",
+                        batch.size() - delivered.size(), batch.size(), lane);
+                return relayed;
+            }
+
+            if(batch.size() < properties.getBatchSize()) {
+                return relayed;
+            }
+
+            // Extends the lease before the next batch, a lane taken over meanwhile is left to its new owner
+            if(!claim(lane)) {
+                logger.warn("outbox lane {} was taken over by another instance, will be stopping its drain", lane);
+                return relayed;
+            }
+        }
+    }
+
+    // The lease times come from this instance's clock, the skew between instances has to stay well below the lease
+    private boolean claim(int lane) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiryTime = now.plus(properties.getLeaseDuration());
+        if(leaseRepository.claim(lane, owner, now, expiryTime) == 1) {
+            return true;
+        }
+
+        try {
+            return leaseRepository.insert(lane, owner, expiryTime) == 1;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        lanes.shutdown();
+    }
+}
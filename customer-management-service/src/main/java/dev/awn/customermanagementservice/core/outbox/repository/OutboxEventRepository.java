@@ -0,0 +1,18 @@
+package dev.awn.customermanagementservice.core.outbox.repository;
+
+import dev.awn.customermanagementservice.core.outbox.model.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Oldest first, so the events of a customer are sent in the order they were recorded
+    @Query("SELECT e FROM OutboxEvent e WHERE MOD(e.aggregateId, :lanes) = :lane ORDER BY e.id")
+    List<OutboxEvent> findLaneBatch(@Param("lane") int lane, @Param("lanes") int lanes, Limit limit);
+}
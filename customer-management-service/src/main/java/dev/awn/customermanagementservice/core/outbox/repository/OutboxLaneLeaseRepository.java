@@ -0,0 +1,40 @@
+package dev.awn.customermanagementservice.core.outbox.repository;
+
+import dev.awn.customermanagementservice.core.outbox.model.OutboxLaneLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OutboxLaneLeaseRepository extends JpaRepository<OutboxLaneLease, Integer> {
+
+    // Takes the lane over once its lease expired, or extends the lease its owner already holds
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxLaneLease l SET l.owner = :owner, l.expiryTime = :expiryTime " +
+            "WHERE l.lane = :lane AND (l.owner = :owner OR l.expiryTime < :now)")
+    int claim(@Param("lane") int lane,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("expiryTime") LocalDateTime expiryTime);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO OUTBOX_LANE_LEASES (LANE, OWNER, EXPIRY_TIME) VALUES (:lane, :owner, :expiryTime)",
+            nativeQuery = true)
+    int insert(@Param("lane") int lane,
+               @Param("owner") String owner,
+               @Param("expiryTime") LocalDateTime expiryTime);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxLaneLease l SET l.expiryTime = :now WHERE l.lane = :lane AND l.owner = :owner")
+    int release(@Param("lane") int lane,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now);
+}
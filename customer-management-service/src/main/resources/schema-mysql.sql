@@ -0,0 +1,33 @@
+-- Run on startup by the prod profile. Every statement is idempotent.
+
+CREATE TABLE IF NOT EXISTS CUSTOMERS (
+    ID                BIGINT       NOT NULL AUTO_INCREMENT,
+    NAME              VARCHAR(255),
+    LEGAL_ID          VARCHAR(255),
+    ADDRESS           VARCHAR(255),
+    TYPE              VARCHAR(255),
+    CREATION_TIME     DATETIME(6),
+    MODIFICATION_TIME DATETIME(6),
+    PRIMARY KEY (ID),
+    UNIQUE KEY UK_CUSTOMERS_LEGAL_ID (LEGAL_ID)
+);
+
+-- Written in the transaction of the customer change, relayed to Kafka and deleted by OutboxRelay
+CREATE TABLE IF NOT EXISTS OUTBOX_EVENTS (
+    ID            BIGINT        NOT NULL AUTO_INCREMENT,
+    AGGREGATE_ID  BIGINT        NOT NULL,
+    TOPIC         VARCHAR(255)  NOT NULL,
+    MESSAGE_KEY   VARCHAR(255)  NOT NULL,
+    PAYLOAD       VARCHAR(4000) NOT NULL,
+    CREATION_TIME DATETIME(6)   NOT NULL,
+    PRIMARY KEY (ID),
+    INDEX IDX_OUTBOX_EVENTS_AGGREGATE_ID (AGGREGATE_ID)
+);
+
+-- One row per relay lane, names the instance draining it
+CREATE TABLE IF NOT EXISTS OUTBOX_LANE_LEASES (
+    LANE        INT          NOT NULL,
+    OWNER       VARCHAR(255) NOT NULL,
+    EXPIRY_TIME DATETIME(6)  NOT NULL,
+    PRIMARY KEY (LANE)
+);
@@ -0,0 +1,100 @@
+package dev.awn.customermanagementservice.core.customer.cache;
+
+import dev.awn.customermanagementservice.common.config.cache.CustomerCacheProperties;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerCache customerCache;
+    private AtomicInteger loads;
+    private Function<Long, CustomerDTO> loader;
+
+    private static final long CUSTOMER_ID = 1_000_000L;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return CustomerDTO.builder().id(id).build();
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testGet_WhenCalledTwice_LoadsOnceAndRecordsHitRatio() {
+        // arrange
+        customerCache = new CustomerCache(new CustomerCacheProperties(), meterRegistry);
+
+        // act
+        CustomerDTO first = customerCache.get(CUSTOMER_ID, loader);
+        CustomerDTO second = customerCache.get(CUSTOMER_ID, loader);
+
+        // assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(0.5, meterRegistry.get("cache.hit.ratio").tag("cache", "customers").gauge().value());
+    }
+
+    @Test
+    void testGet_WhenMaximumSizeIsReached_EvictsAndCountsIt() throws InterruptedException {
+        // arrange
+        CustomerCacheProperties properties = new CustomerCacheProperties();
+        properties.setMaximumSize(1);
+        customerCache = new CustomerCache(properties, meterRegistry);
+
+        // act
+        for(long id = CUSTOMER_ID; id < CUSTOMER_ID + 10; id++) {
+            customerCache.get(id, loader);
+        }
+
+        // assert, the size bound is enforced in the background right after the writes
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while(evictions() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(evictions() > 0);
+    }
+
+    @Test
+    void testEvict_WhenTransactionIsActive_EvictsAfterCommit() {
+        // arrange
+        customerCache = new CustomerCache(new CustomerCacheProperties(), meterRegistry);
+        customerCache.get(CUSTOMER_ID, loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // act
+        customerCache.evict(CUSTOMER_ID);
+        customerCache.get(CUSTOMER_ID, loader);
+        int loadsBeforeCommit = loads.get();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        customerCache.get(CUSTOMER_ID, loader);
+
+        // assert
+        assertEquals(1, loadsBeforeCommit);
+        assertEquals(2, loads.get());
+    }
+
+    private double evictions() {
+        return meterRegistry.get("cache.evictions").tag("cache", "customers").functionCounter().count();
+    }
+}
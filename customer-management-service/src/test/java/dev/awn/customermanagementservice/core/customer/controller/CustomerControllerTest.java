@@ -1,6 +1,7 @@
 package dev.awn.customermanagementservice.core.customer.controller;
 
 import dev.awn.customermanagementservice.core.customer.constant.CustomerType;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerBatchResponseDTO;
 import dev.awn.customermanagementservice.core.customer.dto.CustomerDTO;
 import dev.awn.customermanagementservice.core.customer.service.CustomerService;
 import org.junit.jupiter.api.Test;
@@ -12,10 +13,19 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -29,6 +39,7 @@ class CustomerControllerTest {
     private CustomerService customerService;
 
     private static final long CUSTOMER_ID = 1_000_000L;
+    private static final LocalDateTime LAST_MODIFIED = LocalDateTime.of(2024, 9, 1, 10, 15, 30, 123_456_000);
 
     @Test
     void testGetCustomer_WhenCustomerExists_ReturnsCustomerDTO() throws Exception {
@@ -55,6 +66,96 @@ class CustomerControllerTest {
         verify(customerService).getCustomer(CUSTOMER_ID);
     }
 
+    @Test
+    void testGetCustomer_WhenCustomerHasAModificationTime_ReturnsValidators() throws Exception {
+        // arrange
+        CustomerDTO customerDTO = CustomerDTO.builder()
+                                             .id(CUSTOMER_ID)
+                                             .lastModified(LAST_MODIFIED)
+                                             .build();
+        when(customerService.getCustomer(CUSTOMER_ID)).thenReturn(customerDTO);
+
+        // act
+        mockMvc.perform(get("/customers/{id}", CUSTOMER_ID))
+               .andExpect(status().isOk())
+               .andExpect(header().exists("ETag"))
+               .andExpect(header().dateValue("Last-Modified", LAST_MODIFIED.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / 1000 * 1000))
+               .andExpect(jsonPath("$.lastModified").doesNotExist());
+
+        // assert
+        verify(customerService, never()).getLastModified(CUSTOMER_ID);
+    }
+
+    @Test
+    void testGetCustomer_WhenETagStillMatches_ReturnsNotModifiedWithoutLoadingTheCustomer() throws Exception {
+        // arrange
+        when(customerService.getCustomer(CUSTOMER_ID)).thenReturn(CustomerDTO.builder().id(CUSTOMER_ID).lastModified(LAST_MODIFIED).build());
+        when(customerService.getLastModified(CUSTOMER_ID)).thenReturn(Optional.of(LAST_MODIFIED));
+        String eTag = mockMvc.perform(get("/customers/{id}", CUSTOMER_ID))
+                             .andReturn()
+                             .getResponse()
+                             .getHeader("ETag");
+
+        // act
+        mockMvc.perform(get("/customers/{id}", CUSTOMER_ID).header("If-None-Match", eTag))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string("ETag", eTag))
+               .andExpect(content().string(""));
+
+        // assert
+        verify(customerService, times(1)).getCustomer(CUSTOMER_ID);
+    }
+
+    @Test
+    void testGetCustomer_WhenModifiedSinceTheETag_ReturnsTheCustomer() throws Exception {
+        // arrange
+        when(customerService.getCustomer(CUSTOMER_ID)).thenReturn(CustomerDTO.builder().id(CUSTOMER_ID).lastModified(LAST_MODIFIED).build());
+        when(customerService.getLastModified(CUSTOMER_ID)).thenReturn(Optional.of(LAST_MODIFIED.plusNanos(1_000)));
+
+        // act
+        mockMvc.perform(get("/customers/{id}", CUSTOMER_ID).header("If-None-Match", "\"0\""))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.id").value(CUSTOMER_ID));
+
+        // assert
+        verify(customerService).getCustomer(CUSTOMER_ID);
+    }
+
+    @Test
+    void testGetCustomers_WhenIdsAreGiven_ReturnsFoundCustomersAndMissingIds() throws Exception {
+        // arrange
+        CustomerBatchResponseDTO batchResponseDTO = CustomerBatchResponseDTO.builder()
+                                                                            .customers(List.of(CustomerDTO.builder()
+                                                                                                          .id(CUSTOMER_ID)
+                                                                                                          .name("John Doe")
+                                                                                                          .build()))
+                                                                            .missingIds(List.of(CUSTOMER_ID + 1))
+                                                                            .build();
+        when(customerService.getCustomers(List.of(CUSTOMER_ID, CUSTOMER_ID + 1))).thenReturn(batchResponseDTO);
+
+        // act
+        mockMvc.perform(post("/customers/batch")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content("{\"ids\":[1000000,1000001]}"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.customers[0].id").value(CUSTOMER_ID))
+               .andExpect(jsonPath("$.customers[0].name").value("John Doe"))
+               .andExpect(jsonPath("$.missingIds[0]").value(CUSTOMER_ID + 1));
+
+        // assert
+        verify(customerService).getCustomers(List.of(CUSTOMER_ID, CUSTOMER_ID + 1));
+    }
+
+    @Test
+    void testGetCustomers_WhenIdsAreEmpty_ReturnsBadRequest() throws Exception {
+        // act
+        mockMvc.perform(post("/customers/batch")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content("{\"ids\":[]}"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("ids cannot be empty"));
+    }
+
     @Test
     void testCreateCustomer_WhenCustomerIsValid_ReturnsCreatedCustomerDTO() throws Exception {
         // arrange
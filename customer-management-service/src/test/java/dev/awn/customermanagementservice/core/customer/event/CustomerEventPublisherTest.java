@@ -0,0 +1,80 @@
+package dev.awn.customermanagementservice.core.customer.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerEventPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventPublisher = new CustomerEventPublisher(kafkaTemplate, meterRegistry);
+    }
+
+    @Test
+    void testPublish_WhenBrokerAcknowledges_CountsThePublish() {
+        // arrange
+        when(kafkaTemplate.send(CustomerEventOutbox.CUSTOMER_EVENTS_TOPIC, "1000001", "{}"))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // act
+        CompletableFuture<Void> result = eventPublisher.publish(CustomerEventOutbox.CUSTOMER_EVENTS_TOPIC, "1000001", "{}");
+
+        // assert
+        assertTrue(result.isDone());
+        assertFalse(result.isCompletedExceptionally());
+        assertEquals(1, meterRegistry.get("customer.events.published").counter().count());
+    }
+
+    @Test
+    void testPublish_WhenBrokerFails_CountsTheFailure() {
+        // arrange
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("broker is down")));
+
+        // act
+        CompletableFuture<Void> result = eventPublisher.publish(CustomerEventOutbox.ACCOUNT_CLEANUP_TOPIC, "1000001", "1000001");
+
+        // assert
+        ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(CustomerEventPublishException.class, thrown.getCause());
+        assertEquals(1, meterRegistry.get("customer.events.failed").counter().count());
+    }
+
+    @Test
+    void testPublish_WhenBrokerHasNotAcknowledged_DoesNotBlock() {
+        // arrange
+        CompletableFuture<SendResult<String, String>> pending = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(pending);
+
+        // act
+        CompletableFuture<Void> result = eventPublisher.publish(CustomerEventOutbox.CUSTOMER_EVENTS_TOPIC, "1000001", "{}");
+
+        // assert
+        assertFalse(result.isDone());
+        pending.complete(mock(SendResult.class));
+        assertTrue(result.isDone());
+        assertEquals(1, meterRegistry.get("customer.events.published").counter().count());
+    }
+}
@@ -1,22 +1,41 @@
 package dev.awn.customermanagementservice.core.customer.service.impl;
 
+import dev.awn.customermanagementservice.common.config.cache.CustomerCacheProperties;
 import dev.awn.customermanagementservice.common.exception.BadRequestException;
 import dev.awn.customermanagementservice.common.exception.ResourceNotFoundException;
+import dev.awn.customermanagementservice.core.customer.cache.CustomerCache;
+import dev.awn.customermanagementservice.core.customer.constant.CustomerEventType;
 import dev.awn.customermanagementservice.core.customer.constant.CustomerType;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerBatchResponseDTO;
 import dev.awn.customermanagementservice.core.customer.dto.CustomerDTO;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerEventDTO;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerSnapshotDTO;
+import dev.awn.customermanagementservice.core.customer.event.CustomerEventOutbox;
 import dev.awn.customermanagementservice.core.customer.mapper.CustomerMapper;
 import dev.awn.customermanagementservice.core.customer.model.Customer;
 import dev.awn.customermanagementservice.core.customer.repository.CustomerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,8 +48,11 @@ public class CustomerServiceImplTest {
     @Mock
     private CustomerMapper customerMapper;
 
+    @Spy
+    private CustomerCache customerCache = new CustomerCache(new CustomerCacheProperties(), new SimpleMeterRegistry());
+
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private CustomerEventOutbox eventOutbox;
 
     @InjectMocks
     private CustomerServiceImpl customerService;
@@ -59,6 +81,58 @@ public class CustomerServiceImplTest {
         verify(customerMapper).toDto(customer);
     }
 
+    @Test
+    void testGetCustomer_WhenReadAgain_IsServedFromTheCache() {
+        // arrange
+        long id = 1000001L;
+        Customer customer = new Customer();
+        CustomerDTO customerDTO = new CustomerDTO();
+        when(customerRepository.findById(id)).thenReturn(Optional.of(customer));
+        when(customerMapper.toDto(customer)).thenReturn(customerDTO);
+        customerService.getCustomer(id);
+
+        // act
+        CustomerDTO result = customerService.getCustomer(id);
+
+        // assert
+        assertSame(customerDTO, result);
+        verify(customerRepository, times(1)).findById(id);
+    }
+
+    @Test
+    void testGetLastModified_WhenCustomerIsCached_DoesNotQueryTheDatabase() {
+        // arrange
+        long id = 1000001L;
+        LocalDateTime lastModified = LocalDateTime.now();
+        Customer customer = new Customer();
+        CustomerDTO customerDTO = CustomerDTO.builder().id(id).lastModified(lastModified).build();
+        when(customerRepository.findById(id)).thenReturn(Optional.of(customer));
+        when(customerMapper.toDto(customer)).thenReturn(customerDTO);
+        customerService.getCustomer(id);
+
+        // act
+        Optional<LocalDateTime> result = customerService.getLastModified(id);
+
+        // assert
+        assertEquals(Optional.of(lastModified), result);
+        verify(customerRepository, never()).findLastModifiedById(anyLong());
+    }
+
+    @Test
+    void testGetLastModified_WhenCustomerIsNotCached_ReadsTheProjection() {
+        // arrange
+        long id = 1000001L;
+        LocalDateTime lastModified = LocalDateTime.now();
+        when(customerRepository.findLastModifiedById(id)).thenReturn(Optional.of(lastModified));
+
+        // act
+        Optional<LocalDateTime> result = customerService.getLastModified(id);
+
+        // assert
+        assertEquals(Optional.of(lastModified), result);
+        verify(customerRepository, never()).findById(anyLong());
+    }
+
     @Test
     void testGetCustomer_WhenIdIsInvalid_ThrowsBadRequestException() {
         // arrange
@@ -84,6 +158,49 @@ public class CustomerServiceImplTest {
         assertEquals("no customer was found of id - " + id, thrown.getMessage());
     }
 
+    @Test
+    void testGetCustomers_WhenSomeIdsAreMissing_ReturnsFoundCustomersAndMissingIds() {
+        // arrange
+        Customer customer = Customer.builder().id(1000001L).build();
+        CustomerDTO customerDTO = CustomerDTO.builder().id(1000001L).build();
+
+        when(customerRepository.findAllByIdIn(Set.of(1000001L, 1000002L))).thenReturn(List.of(customer));
+        when(customerMapper.toDto(customer)).thenReturn(customerDTO);
+
+        // act
+        CustomerBatchResponseDTO result = customerService.getCustomers(List.of(1000001L, 1000002L, 1000001L));
+
+        // assert
+        assertEquals(1, result.getCustomers().size());
+        assertEquals(1000001L, result.getCustomers().get(0).getId());
+        assertEquals(List.of(1000002L), result.getMissingIds());
+    }
+
+    @Test
+    void testGetCustomers_WhenAnIdIsInvalid_ThrowsBadRequestException() {
+        // arrange
+        long id = MINIMUM_ID - 1;
+
+        // act
+        BadRequestException thrown = assertThrows(BadRequestException.class,
+                () -> customerService.getCustomers(List.of(1000001L, id)));
+
+        // assert
+        assertEquals("invalid id - " + id, thrown.getMessage());
+    }
+
+    @Test
+    void testGetCustomers_WhenBatchIsTooLarge_ThrowsBadRequestException() {
+        // arrange
+        List<Long> ids = Collections.nCopies(1_001, 1000001L);
+
+        // act
+        BadRequestException thrown = assertThrows(BadRequestException.class, () -> customerService.getCustomers(ids));
+
+        // assert
+        assertEquals("a maximum of 1000 ids can be requested at once", thrown.getMessage());
+    }
+
     @Test
     void testCreateCustomer_WhenCustomerDTOIsValid_ReturnsCreatedCustomerDTO() {
         // arrange
@@ -190,6 +307,31 @@ public class CustomerServiceImplTest {
         assertEquals("a customer already exists with legalId of - QWE", thrown.getMessage());
     }
 
+    @Test
+    void testModifyCustomer_WhenCustomerIsCached_ReadsTheModifiedCustomerNext() {
+        // arrange
+        long id = 1_000_000;
+        CustomerDTO customerDTO = CustomerDTO.builder()
+                                             .id(id)
+                                             .legalId("QWE")
+                                             .build();
+        CustomerDTO modifiedDTO = new CustomerDTO();
+        Customer customer = new Customer();
+        when(customerRepository.findById(id)).thenReturn(Optional.of(customer));
+        when(customerRepository.findByLegalId("QWE")).thenReturn(Optional.empty());
+        when(customerMapper.toModel(customerDTO)).thenReturn(customer);
+        when(customerRepository.save(customer)).thenReturn(customer);
+        when(customerMapper.toDto(customer)).thenReturn(customerDTO, modifiedDTO, modifiedDTO);
+        customerService.getCustomer(id);
+
+        // act
+        customerService.modifyCustomer(customerDTO);
+
+        // assert
+        verify(customerCache).evict(id);
+        assertSame(modifiedDTO, customerService.getCustomer(id));
+    }
+
     @Test
     void testRemoveCustomer_WhenIdIsInvalid_ThrowsBadRequestException() {
         // arrange
@@ -213,6 +355,58 @@ public class CustomerServiceImplTest {
         // assert
         assertTrue(result);
         verify(customerRepository).deleteById(id);
+        verify(customerCache).evict(id);
+    }
+
+    @Test
+    void testRemoveCustomer_WhenIdIsValid_RecordsCleanupAndDeletedEvents() {
+        // arrange
+        long id = 1000000L;
+        ArgumentCaptor<CustomerEventDTO> event = ArgumentCaptor.forClass(CustomerEventDTO.class);
+
+        // act
+        customerService.removeCustomer(id);
+
+        // assert
+        verify(eventOutbox).recordCleanup(id);
+        verify(eventOutbox).record(event.capture());
+        assertEquals(CustomerEventType.DELETED, event.getValue().getType());
+        assertEquals(id, event.getValue().getCustomerId());
+    }
+
+    @Test
+    void testGetSnapshot_WhenPageIsFull_ReturnsNextAfterId() {
+        // arrange
+        Customer first = Customer.builder().id(1000001L).build();
+        Customer second = Customer.builder().id(1000002L).build();
+
+        when(customerRepository.findByIdGreaterThanOrderById(eq(0L), any(Limit.class))).thenReturn(List.of(first, second));
+        when(customerMapper.toDto(first)).thenReturn(CustomerDTO.builder().id(1000001L).build());
+        when(customerMapper.toDto(second)).thenReturn(CustomerDTO.builder().id(1000002L).build());
+
+        // act
+        CustomerSnapshotDTO result = customerService.getSnapshot(0, 2);
+
+        // assert
+        assertEquals(2, result.getCustomers().size());
+        assertEquals(1000002L, result.getNextAfterId());
+        assertNotNull(result.getSnapshotTime());
+    }
+
+    @Test
+    void testGetSnapshot_WhenPageIsNotFull_ReturnsNoNextAfterId() {
+        // arrange
+        Customer customer = Customer.builder().id(1000001L).build();
+
+        when(customerRepository.findByIdGreaterThanOrderById(eq(1000000L), any(Limit.class))).thenReturn(List.of(customer));
+        when(customerMapper.toDto(customer)).thenReturn(CustomerDTO.builder().id(1000001L).build());
+
+        // act
+        CustomerSnapshotDTO result = customerService.getSnapshot(1000000L, 2);
+
+        // assert
+        assertEquals(1, result.getCustomers().size());
+        assertNull(result.getNextAfterId());
     }
 }
 
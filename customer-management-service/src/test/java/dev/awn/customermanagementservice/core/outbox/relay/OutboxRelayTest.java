@@ -0,0 +1,159 @@
+package dev.awn.customermanagementservice.core.outbox.relay;
+
+import dev.awn.customermanagementservice.core.customer.event.CustomerEventOutbox;
+import dev.awn.customermanagementservice.core.customer.event.CustomerEventPublisher;
+import dev.awn.customermanagementservice.core.outbox.model.OutboxEvent;
+import dev.awn.customermanagementservice.core.outbox.repository.OutboxEventRepository;
+import dev.awn.customermanagementservice.core.outbox.repository.OutboxLaneLeaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {"outbox.relay.batch-size=10", "outbox.relay.parallelism=2", "outbox.relay.poll-interval=250ms"})
+@Import(OutboxRelay.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private OutboxLaneLeaseRepository leaseRepository;
+
+    @MockBean
+    private CustomerEventPublisher eventPublisher;
+
+    private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        when(eventPublisher.publish(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(1) + ":" + invocation.getArgument(2));
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        leaseRepository.deleteAll();
+    }
+
+    @Test
+    void testConfigureTasks_WhenPollIntervalIsADuration_SchedulesTheRelay() {
+        // arrange
+        ScheduledTaskRegistrar taskRegistrar = new ScheduledTaskRegistrar();
+
+        // act
+        outboxRelay.configureTasks(taskRegistrar);
+
+        // assert
+        assertEquals(List.of(Duration.ofMillis(250)),
+                taskRegistrar.getFixedDelayTaskList().stream().map(IntervalTask::getIntervalDuration).toList());
+    }
+
+    @Test
+    void testRelay_WhenBrokerAcknowledges_SendsEveryEventInOrderPerCustomerAndDeletesThem() {
+        // arrange
+        List<OutboxEvent> events = new ArrayList<>();
+        for(int i = 0; i < 25; i++) {
+            events.add(event(1000000L + i % 3, String.valueOf(i)));
+        }
+        outboxRepository.saveAll(events);
+
+        // act
+        outboxRelay.relay();
+
+        // assert
+        assertEquals(25, sent.size());
+        assertEquals(0, outboxRepository.count());
+        for(long customerId = 1000000L; customerId < 1000003L; customerId++) {
+            String key = customerId + ":";
+            List<Integer> payloads = sent.stream()
+                                         .filter(record -> record.startsWith(key))
+                                         .map(record -> Integer.parseInt(record.substring(key.length())))
+                                         .toList();
+            assertEquals(payloads.stream().sorted().toList(), payloads);
+        }
+    }
+
+    @Test
+    void testRelay_WhenBrokerFails_KeepsTheUnacknowledgedEventsForTheNextDrain() {
+        // arrange
+        outboxRepository.saveAll(List.of(event(1000000L, "first"), event(1000000L, "second")));
+        when(eventPublisher.publish(anyString(), eq("1000000"), eq("second")))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker is down")));
+
+        // act
+        outboxRelay.relay();
+
+        // assert
+        List<OutboxEvent> remaining = outboxRepository.findAll();
+        assertEquals(1, remaining.size());
+        assertEquals("second", remaining.get(0).getPayload());
+    }
+
+    @Test
+    void testRelay_WhenAnotherInstanceHoldsTheLanes_LeavesTheirEventsAlone() {
+        // arrange
+        outboxRepository.saveAll(List.of(event(1000000L, "first"), event(1000001L, "second")));
+        leaseRepository.insert(0, "another-instance", LocalDateTime.now().plusHours(1));
+        leaseRepository.insert(1, "another-instance", LocalDateTime.now().plusHours(1));
+
+        // act
+        outboxRelay.relay();
+
+        // assert
+        assertTrue(sent.isEmpty());
+        assertEquals(2, outboxRepository.count());
+    }
+
+    @Test
+    void testRelay_WhenTheLeasesOfAnotherInstanceExpired_TakesTheLanesOver() {
+        // arrange
+        outboxRepository.saveAll(List.of(event(1000000L, "first"), event(1000001L, "second")));
+        leaseRepository.insert(0, "crashed-instance", LocalDateTime.now().minusSeconds(1));
+        leaseRepository.insert(1, "crashed-instance", LocalDateTime.now().minusSeconds(1));
+
+        // act
+        outboxRelay.relay();
+
+        // assert
+        assertEquals(2, sent.size());
+        assertEquals(0, outboxRepository.count());
+        assertTrue(leaseRepository.findAll().stream().noneMatch(lease -> lease.getOwner().equals("crashed-instance")));
+    }
+
+    private OutboxEvent event(long customerId, String payload) {
+        return OutboxEvent.builder()
+                          .aggregateId(customerId)
+                          .topic(CustomerEventOutbox.CUSTOMER_EVENTS_TOPIC)
+                          .messageKey(String.valueOf(customerId))
+                          .payload(payload)
+                          .creationTime(LocalDateTime.now())
+                          .build();
+    }
+}
@@ -0,0 +1,74 @@
+package dev.awn.loadtest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of one run, per endpoint.
+ * <p>
+ * A 4xx is counted as rejected, mixed traffic runs into some of those on its own (an eleventh account for a
+ * customer, an account deleted while it was being read). A 5xx or a request that never got a response is failed.
+ */
+class EndpointLatencies {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentSkipListMap<>();
+
+    void record(String endpoint, long latencyNanos, int status) {
+        Endpoint recorded = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        recorded.latencies.add(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+
+        if(status >= 500) {
+            recorded.failed.increment();
+        } else if(status >= 400) {
+            recorded.rejected.increment();
+        }
+    }
+
+    void recordFailure(String endpoint, long latencyNanos) {
+        record(endpoint, latencyNanos, 599);
+    }
+
+    List<Summary> summarize(long elapsedNanos) {
+        return endpoints.entrySet()
+                        .stream()
+                        .map(entry -> entry.getValue().summarize(entry.getKey(), elapsedNanos))
+                        .toList();
+    }
+
+    static long failures(Collection<Summary> summaries) {
+        return summaries.stream().mapToLong(Summary::failed).sum();
+    }
+
+    private static class Endpoint {
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        private Summary summarize(String endpoint, long elapsedNanos) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+
+            return new Summary(endpoint,
+                    sorted.length,
+                    sorted.length * 1_000_000_000d / elapsedNanos,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.95),
+                    percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1],
+                    rejected.sum(),
+                    failed.sum());
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    record Summary(String endpoint, long requests, double throughput, long p50Micros, long p95Micros, long p99Micros,
+                   long maxMicros, long rejected, long failed) {
+    }
+}
@@ -0,0 +1,310 @@
+package dev.awn.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.awn.accountmanagementservice.core.account.constant.AccountStatus;
+import dev.awn.accountmanagementservice.core.account.constant.AccountType;
+import dev.awn.accountmanagementservice.core.account.dto.AccountDTO;
+import dev.awn.customermanagementservice.core.customer.constant.CustomerType;
+import dev.awn.customermanagementservice.core.customer.dto.CustomerDTO;
+import dev.awn.loadtest.EndpointLatencies.Summary;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives mixed create, get, modify and delete traffic at both services, booted in this JVM by {@link LocalServices}.
+ * <p>
+ * Requests go out at a fixed rate whatever the services' latency, e.g.
+ * {@code mvn test -Dload.rate=500 -Dload.duration=2m -Dload.mix=get-account:80,create-account:20}. Each latency is
+ * measured from when its request was due rather than when it was sent, so a stalled service shows up in the
+ * percentiles instead of quietly lowering the load. Throughput and latency percentiles are logged per endpoint and
+ * written to {@code target/load-test-report.json}, to compare against the report of the previous release.
+ */
+class FullStackLoadTest {
+    private final static Logger logger = LoggerFactory.getLogger(FullStackLoadTest.class);
+
+    private static final int RATE = Integer.getInteger("load.rate", 200);
+    private static final Duration WARMUP = DurationStyle.detectAndParse(System.getProperty("load.warmup", "10s"));
+    private static final Duration DURATION = DurationStyle.detectAndParse(System.getProperty("load.duration", "30s"));
+    private static final int CUSTOMERS = Integer.getInteger("load.customers", 200);
+    private static final String MIX = System.getProperty("load.mix",
+            "get-account:35,get-customer:25,create-account:10,modify-account:10,create-customer:5,modify-customer:5,delete-account:5,delete-customer:5");
+    private static final Path REPORT = Path.of(System.getProperty("load.report", "target/load-test-report.json"));
+
+    private static LocalServices services;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+                                                    .version(HttpClient.Version.HTTP_1_1)
+                                                    .connectTimeout(Duration.ofSeconds(5))
+                                                    .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final NavigableSet<Long> customerIds = new ConcurrentSkipListSet<>();
+    private final NavigableSet<Long> accountIds = new ConcurrentSkipListSet<>();
+    private final AtomicLong legalIds = new AtomicLong();
+
+    @BeforeAll
+    static void setUp() {
+        services = new LocalServices();
+        services.start();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        services.close();
+    }
+
+    @Test
+    void testMixedTraffic_AtTheConfiguredRate_ReportsEveryEndpointWithoutServerErrors() throws Exception {
+        // Arrange
+        Operation[] mix = Operation.parse(MIX);
+        seed();
+        run(mix, WARMUP);
+
+        // Act
+        List<Summary> summaries = run(mix, DURATION);
+
+        // Assert
+        report(summaries);
+        assertFalse(summaries.isEmpty());
+        assertEquals(0, EndpointLatencies.failures(summaries));
+    }
+
+    private void seed() {
+        logger.info("will be seeding {} customer/s with an account each", CUSTOMERS);
+        for(int i = 0; i < CUSTOMERS; i++) {
+            assertEquals(201, createCustomer().join().statusCode());
+        }
+        for(long customerId : customerIds) {
+            assertEquals(201, createAccount(customerId).join().statusCode());
+        }
+    }
+
+    private List<Summary> run(Operation[] mix, Duration duration) throws Exception {
+        EndpointLatencies latencies = new EndpointLatencies();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long requests = duration.toNanos() / intervalNanos;
+        List<CompletableFuture<?>> sends = new ArrayList<>();
+
+        logger.info("will be sending {} requests over {} at {} requests/sec", requests, duration, RATE);
+        long startTime = System.nanoTime();
+        for(long i = 0; i < requests; i++) {
+            long dueAt = startTime + i * intervalNanos;
+            LockSupport.parkNanos(dueAt - System.nanoTime());
+
+            Operation operation = mix[ThreadLocalRandom.current().nextInt(mix.length)];
+            CompletableFuture<HttpResponse<String>> send = send(operation);
+            if(send == null) {
+                continue;
+            }
+
+            sends.add(send.whenComplete((response, failure) -> {
+                long latency = System.nanoTime() - dueAt;
+                if(failure != null) {
+                    logger.warn("{} did not get a response", operation.endpoint, failure);
+                    latencies.recordFailure(operation.endpoint, latency);
+                    return;
+                }
+
+                if(response.statusCode() >= 500) {
+                    logger.warn("{} answered {} - {}", operation.endpoint, response.statusCode(), response.body());
+                }
+                latencies.record(operation.endpoint, latency, response.statusCode());
+            }));
+        }
+
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                         .exceptionally(failure -> null)
+                         .get(5, TimeUnit.MINUTES);
+        return latencies.summarize(System.nanoTime() - startTime);
+    }
+
+    // Null when there is nothing to send it to, e.g. every account was deleted
+    private CompletableFuture<HttpResponse<String>> send(Operation operation) {
+        Long customerId = pick(customerIds);
+        Long accountId = pick(accountIds);
+
+        return switch(operation) {
+            case GET_CUSTOMER -> customerId == null ? null
+                    : exchange("GET", services.customerServiceUrl() + "/customers/" + customerId, null);
+            case CREATE_CUSTOMER -> createCustomer();
+            case MODIFY_CUSTOMER -> customerId == null ? null
+                    : exchange("PUT", services.customerServiceUrl() + "/customers", customer(customerId));
+            case DELETE_CUSTOMER -> customerId == null ? null : removeCustomer(customerId);
+            case GET_ACCOUNT -> accountId == null ? null
+                    : exchange("GET", services.accountServiceUrl() + "/accounts/" + accountId, null);
+            case CREATE_ACCOUNT -> customerId == null ? null : createAccount(customerId);
+            case MODIFY_ACCOUNT -> accountId == null ? null
+                    : exchange("PUT", services.accountServiceUrl() + "/accounts", account(accountId / 1000, accountId));
+            case DELETE_ACCOUNT -> accountId == null || !accountIds.remove(accountId) ? null
+                    : exchange("DELETE", services.accountServiceUrl() + "/accounts/" + accountId, null);
+        };
+    }
+
+    private CompletableFuture<HttpResponse<String>> createCustomer() {
+        return exchange("POST", services.customerServiceUrl() + "/customers", customer(null))
+                .thenApply(response -> {
+                    if(response.statusCode() == 201) {
+                        customerIds.add(id(response));
+                    }
+                    return response;
+                });
+    }
+
+    // The customer's accounts go with it once the account service has consumed the cleanup event
+    private CompletableFuture<HttpResponse<String>> removeCustomer(long customerId) {
+        if(!customerIds.remove(customerId)) {
+            return null;
+        }
+        accountIds.subSet(customerId * 1000, customerId * 1000 + 1000).clear();
+
+        return exchange("DELETE", services.customerServiceUrl() + "/customers/" + customerId, null);
+    }
+
+    private CompletableFuture<HttpResponse<String>> createAccount(long customerId) {
+        return exchange("POST", services.accountServiceUrl() + "/accounts", account(customerId, null))
+                .thenApply(response -> {
+                    if(response.statusCode() == 201) {
+                        accountIds.add(id(response));
+                    }
+                    return response;
+                });
+    }
+
+    private CompletableFuture<HttpResponse<String>> exchange(String method, String url, Object body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                                                 .timeout(Duration.ofSeconds(30));
+        if(body == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                   .method(method, HttpRequest.BodyPublishers.ofString(json(body)));
+        }
+
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private CustomerDTO customer(Long id) {
+        return CustomerDTO.builder()
+                          .id(id)
+                          .name("load test customer")
+                          .legalId("LT" + legalIds.incrementAndGet())
+                          .address("amman")
+                          .type(CustomerType.RETAIL)
+                          .build();
+    }
+
+    private static AccountDTO account(long customerId, Long id) {
+        return AccountDTO.builder()
+                         .id(id)
+                         .customerId(customerId)
+                         .balance(BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(1, 10_000)))
+                         .status(AccountStatus.ACTIVE)
+                         .type(AccountType.SAVINGS)
+                         .build();
+    }
+
+    // A random id of the set, sets of sequential ids keep this close to uniform
+    private static Long pick(NavigableSet<Long> ids) {
+        if(ids.isEmpty()) {
+            return null;
+        }
+
+        long random = ThreadLocalRandom.current().nextLong(ids.first(), ids.last() + 1);
+        Long id = ids.ceiling(random);
+        return id == null ? ids.first() : id;
+    }
+
+    private long id(HttpResponse<String> response) {
+        try {
+            return objectMapper.readTree(response.body()).path("id").asLong();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void report(List<Summary> summaries) throws IOException {
+        for(Summary summary : summaries) {
+            logger.info("{} - {} requests, {} requests/sec, p50 {} us, p95 {} us, p99 {} us, max {} us, {} rejected, {} failed",
+                    summary.endpoint(), summary.requests(), String.format("%.1f", summary.throughput()),
+                    summary.p50Micros(), summary.p95Micros(), summary.p99Micros(), summary.maxMicros(),
+                    summary.rejected(), summary.failed());
+        }
+
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), summaries);
+        logger.info("load test report written to {}", REPORT.toAbsolutePath());
+    }
+
+    private enum Operation {
+        GET_CUSTOMER("get-customer", "GET /customers/{id}"),
+        CREATE_CUSTOMER("create-customer", "POST /customers"),
+        MODIFY_CUSTOMER("modify-customer", "PUT /customers"),
+        DELETE_CUSTOMER("delete-customer", "DELETE /customers/{id}"),
+        GET_ACCOUNT("get-account", "GET /accounts/{id}"),
+        CREATE_ACCOUNT("create-account", "POST /accounts"),
+        MODIFY_ACCOUNT("modify-account", "PUT /accounts"),
+        DELETE_ACCOUNT("delete-account", "DELETE /accounts/{id}");
+
+        private final String name;
+        private final String endpoint;
+
+        Operation(String name, String endpoint) {
+            this.name = name;
+            this.endpoint = endpoint;
+        }
+
+        // Every operation appears as often as its weight, so a uniform pick follows the mix
+        private static Operation[] parse(String mix) {
+            List<Operation> operations = new ArrayList<>();
+            for(String entry : mix.split(",")) {
+                String[] nameAndWeight = entry.trim().split(":");
+                Operation operation = Arrays.stream(values())
+                                            .filter(value -> value.name.equals(nameAndWeight[0]))
+                                            .findFirst()
+                                            .orElseThrow(() -> new IllegalArgumentException("unknown operation in load.mix - " + nameAndWeight[0]));
+
+                for(int i = 0; i < Integer.parseInt(nameAndWeight[1]); i++) {
+                    operations.add(operation);
+                }
+            }
+
+            return operations.toArray(Operation[]::new);
+        }
+    }
+}
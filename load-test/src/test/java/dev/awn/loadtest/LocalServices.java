@@ -0,0 +1,98 @@
+package dev.awn.loadtest;
+
+import dev.awn.accountmanagementservice.AccountManagementServiceApplication;
+import dev.awn.customermanagementservice.CustomerManagementServiceApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Both services booted in this JVM, each against its own in-memory H2 database and both against one embedded
+ * Kafka broker.
+ * <p>
+ * The services share a classpath here, so each one is pointed at the application properties inside its own jar
+ * and everything that talks to MySQL or a real broker is overridden on its command line. The customer service
+ * keeps port 8081, which is where the account service looks for it.
+ */
+class LocalServices implements AutoCloseable {
+    private final static Logger logger = LoggerFactory.getLogger(LocalServices.class);
+    private final static int CUSTOMER_SERVICE_PORT = 8081;
+    private final static long FIRST_CUSTOMER_ID = 1_000_000L;
+
+    private EmbeddedKafkaBroker kafka;
+    private ConfigurableApplicationContext customerService;
+    private ConfigurableApplicationContext accountService;
+
+    void start() {
+        kafka = new EmbeddedKafkaKraftBroker(1, 4, "customer-events-topic", "account-cleanup-topic");
+        kafka.afterPropertiesSet();
+        logger.info("embedded kafka is up at {}", kafka.getBrokersAsString());
+
+        customerService = boot(CustomerManagementServiceApplication.class, "customers",
+                "--server.port=" + CUSTOMER_SERVICE_PORT,
+                "--spring.kafka.producer.bootstrap-servers=" + kafka.getBrokersAsString(),
+                // On the classpath through the account service, the customer service has no use for them
+                "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration");
+
+        // Valid customer ids start at 1000000, which the production schema's auto increment does as well
+        customerService.getBean(JdbcTemplate.class)
+                       .execute("ALTER TABLE CUSTOMERS ALTER COLUMN ID RESTART WITH " + FIRST_CUSTOMER_ID);
+
+        accountService = boot(AccountManagementServiceApplication.class, "accounts",
+                "--server.port=0",
+                "--spring.kafka.consumer.bootstrap-servers=" + kafka.getBrokersAsString());
+    }
+
+    String customerServiceUrl() {
+        return "http://localhost:" + CUSTOMER_SERVICE_PORT + "/api/v1";
+    }
+
+    String accountServiceUrl() {
+        return "http://localhost:" + accountService.getEnvironment().getProperty("local.server.port") + "/api/v1";
+    }
+
+    @Override
+    public void close() {
+        if(accountService != null) {
+            accountService.close();
+        }
+        if(customerService != null) {
+            customerService.close();
+        }
+        if(kafka != null) {
+            kafka.destroy();
+        }
+    }
+
+    private static ConfigurableApplicationContext boot(Class<?> application, String database, String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.config.location=" + configLocation(application),
+                "--logging.config=classpath:logback-test.xml",
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=create-drop"
+        ));
+        args.addAll(Arrays.asList(overrides));
+
+        logger.info("will be booting {}", application.getSimpleName());
+        return new SpringApplicationBuilder(application).run(args.toArray(String[]::new));
+    }
+
+    // The directory or jar the application class was loaded from, both hold an application.properties of the same name
+    private static String configLocation(Class<?> application) {
+        URL location = application.getProtectionDomain().getCodeSource().getLocation();
+        return location.getPath().endsWith(".jar") ? "jar:" + location + "!/" : location.toString();
+    }
+}